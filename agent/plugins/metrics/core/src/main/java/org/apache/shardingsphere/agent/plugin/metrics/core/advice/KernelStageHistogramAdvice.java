@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import lombok.Setter;
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceMethod;
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.plugin.core.advice.AbstractInstanceMethodAdvice;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.HistogramMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kernel stage histogram advice.
+ * 
+ * <p>Stage is the name of advised method, such as parse, bind, route, rewrite, prepare, execute and merge.</p>
+ */
+public final class KernelStageHistogramAdvice extends AbstractInstanceMethodAdvice {
+    
+    private static final ThreadLocal<Map<String, long[]>> STAGE_STARTS = ThreadLocal.withInitial(HashMap::new);
+    
+    private static final com.sun.management.ThreadMXBean ALLOCATION_MX_BEAN = findAllocationMXBean();
+    
+    private static final long UNKNOWN_ALLOCATED_BYTES = -1L;
+    
+    @Setter
+    private static volatile int sampleRate = 1;
+    
+    private final MetricConfiguration latencyConfig = new MetricConfiguration("kernel_stage_latency_micros",
+            MetricCollectorType.HISTOGRAM, "Kernel stage latency micros histogram", Collections.singletonList("stage"), Collections.singletonMap("buckets", getBuckets(1, 2, 20)));
+    
+    private final MetricConfiguration allocatedBytesConfig = new MetricConfiguration("kernel_stage_allocated_bytes",
+            MetricCollectorType.HISTOGRAM, "Kernel stage allocated bytes histogram of calling thread", Collections.singletonList("stage"), Collections.singletonMap("buckets", getBuckets(128, 4, 12)));
+    
+    private static com.sun.management.ThreadMXBean findAllocationMXBean() {
+        ThreadMXBean result = ManagementFactory.getThreadMXBean();
+        return result instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) result).isThreadAllocatedMemorySupported()
+                ? (com.sun.management.ThreadMXBean) result
+                : null;
+    }
+    
+    private Map<String, Object> getBuckets(final int start, final int factor, final int count) {
+        Map<String, Object> result = new HashMap<>(4, 1F);
+        result.put("type", "exp");
+        result.put("start", start);
+        result.put("factor", factor);
+        result.put("count", count);
+        return result;
+    }
+    
+    @Override
+    public void beforeMethod(final TargetAdviceObject target, final TargetAdviceMethod method, final Object[] args, final String pluginType) {
+        if (1 < sampleRate && 0 != ThreadLocalRandom.current().nextInt(sampleRate)) {
+            return;
+        }
+        STAGE_STARTS.get().put(method.getName(), new long[]{getAllocatedBytes(), System.nanoTime()});
+    }
+    
+    @Override
+    public void afterMethod(final TargetAdviceObject target, final TargetAdviceMethod method, final Object[] args, final Object result, final String pluginType) {
+        long[] starts = STAGE_STARTS.get().remove(method.getName());
+        if (null == starts) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - starts[1];
+        long allocatedBytes = getAllocatedBytes();
+        MetricsCollectorRegistry.<HistogramMetricsCollector>get(latencyConfig, pluginType).observe(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), method.getName());
+        if (UNKNOWN_ALLOCATED_BYTES != starts[0] && UNKNOWN_ALLOCATED_BYTES != allocatedBytes) {
+            MetricsCollectorRegistry.<HistogramMetricsCollector>get(allocatedBytesConfig, pluginType).observe(allocatedBytes - starts[0], method.getName());
+        }
+    }
+    
+    private long getAllocatedBytes() {
+        return null == ALLOCATION_MX_BEAN || !ALLOCATION_MX_BEAN.isThreadAllocatedMemoryEnabled() ? UNKNOWN_ALLOCATED_BYTES
+                : ALLOCATION_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
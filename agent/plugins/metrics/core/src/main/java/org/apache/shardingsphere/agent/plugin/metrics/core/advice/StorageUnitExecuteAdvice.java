@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceMethod;
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.plugin.core.advice.AbstractInstanceMethodAdvice;
+import org.apache.shardingsphere.agent.plugin.core.recorder.MethodTimeRecorder;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.HistogramMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.recorder.StorageUnitLatencyRecorder;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Storage unit execute advice.
+ */
+public final class StorageUnitExecuteAdvice extends AbstractInstanceMethodAdvice {
+    
+    private final MetricConfiguration latencyConfig = new MetricConfiguration("storage_unit_execute_latency_millis",
+            MetricCollectorType.HISTOGRAM, "Execute latency millis histogram of storage units", Collections.singletonList("storage_unit"), Collections.singletonMap("buckets", getBuckets()));
+    
+    private final MetricConfiguration currentExecutionsConfig = new MetricConfiguration("storage_unit_current_executions",
+            MetricCollectorType.GAUGE, "Current executions of storage units", Collections.singletonList("storage_unit"), Collections.emptyMap());
+    
+    private final MethodTimeRecorder methodTimeRecorder = new MethodTimeRecorder(StorageUnitExecuteAdvice.class);
+    
+    private Map<String, Object> getBuckets() {
+        Map<String, Object> result = new HashMap<>(4, 1F);
+        result.put("type", "exp");
+        result.put("start", 1);
+        result.put("factor", 2);
+        result.put("count", 13);
+        return result;
+    }
+    
+    @Override
+    public void beforeMethod(final TargetAdviceObject target, final TargetAdviceMethod method, final Object[] args, final String pluginType) {
+        MetricsCollectorRegistry.<GaugeMetricsCollector>get(currentExecutionsConfig, pluginType).inc(getStorageUnitName(args));
+        methodTimeRecorder.recordNow(method);
+    }
+    
+    @Override
+    public void afterMethod(final TargetAdviceObject target, final TargetAdviceMethod method, final Object[] args, final Object result, final String pluginType) {
+        long elapsedMillis = methodTimeRecorder.getElapsedTimeAndClean(method);
+        String storageUnitName = getStorageUnitName(args);
+        MetricsCollectorRegistry.<GaugeMetricsCollector>get(currentExecutionsConfig, pluginType).dec(storageUnitName);
+        MetricsCollectorRegistry.<HistogramMetricsCollector>get(latencyConfig, pluginType).observe(elapsedMillis, storageUnitName);
+        StorageUnitLatencyRecorder.record(storageUnitName, elapsedMillis);
+    }
+    
+    private String getStorageUnitName(final Object[] args) {
+        return ((JDBCExecutionUnit) args[0]).getExecutionUnit().getDataSourceName();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.recorder.StorageUnitLatencyRecorder;
+
+import java.util.Collections;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Slowest storage units exporter.
+ */
+public final class SlowestStorageUnitsExporter implements MetricsExporter {
+    
+    private static final int SLOWEST_STORAGE_UNIT_COUNT = 5;
+    
+    private final MetricConfiguration config = new MetricConfiguration("storage_unit_slowest_latency_millis",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "Moving average execute latency millis of slowest storage units", Collections.singletonList("storage_unit"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (Entry<String, Double> entry : StorageUnitLatencyRecorder.getSlowest(SLOWEST_STORAGE_UNIT_COUNT).entrySet()) {
+            result.addMetric(Collections.singletonList(entry.getKey()), entry.getValue());
+        }
+        return Optional.of(result);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.sharding.cache.ShardingCache;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheStatistics;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Proxy sharding route cache exporter.
+ */
+public final class ProxyShardingRouteCacheExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("proxy_sharding_route_cache", MetricCollectorType.GAUGE_METRIC_FAMILY,
+            "Sharding route cache statistics of ShardingSphere-Proxy. cache is route or bucket; name is hit_count, miss_count, eviction_count or estimated_size",
+            Arrays.asList("database", "cache", "name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        if (null == ProxyContext.getInstance().getContextManager()) {
+            return Optional.empty();
+        }
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (ShardingSphereDatabase each : ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getAllDatabases()) {
+            each.getRuleMetaData().findSingleRule(ShardingRule.class).filter(ShardingRule::isShardingCacheEnabled).map(ShardingRule::getShardingCache)
+                    .ifPresent(optional -> addMetrics(result, each.getName(), optional));
+        }
+        return Optional.of(result);
+    }
+    
+    private void addMetrics(final GaugeMetricFamilyMetricsCollector collector, final String databaseName, final ShardingCache shardingCache) {
+        addMetrics(collector, databaseName, "route", shardingCache.getRouteCache().getStatistics());
+        addMetrics(collector, databaseName, "bucket", shardingCache.getRouteBucketCache().getStatistics());
+    }
+    
+    private void addMetrics(final GaugeMetricFamilyMetricsCollector collector, final String databaseName, final String cacheName, final ShardingRouteCacheStatistics statistics) {
+        collector.addMetric(Arrays.asList(databaseName, cacheName, "hit_count"), statistics.getHitCount());
+        collector.addMetric(Arrays.asList(databaseName, cacheName, "miss_count"), statistics.getMissCount());
+        collector.addMetric(Arrays.asList(databaseName, cacheName, "eviction_count"), statistics.getEvictionCount());
+        collector.addMetric(Arrays.asList(databaseName, cacheName, "estimated_size"), statistics.getEstimatedSize());
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.recorder;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Storage unit latency recorder.
+ * 
+ * <p>Keeps exponentially weighted moving average of execute latency for each storage unit, storage units without execution in last minute are evicted.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class StorageUnitLatencyRecorder {
+    
+    private static final int MAX_STORAGE_UNIT_COUNT = 4096;
+    
+    private static final double DECAY_WEIGHT = 0.2D;
+    
+    private static final long IDLE_NANOS = TimeUnit.MINUTES.toNanos(1L);
+    
+    private static final Map<String, StorageUnitLatency> LATENCIES = new ConcurrentHashMap<>();
+    
+    /**
+     * Record execute latency.
+     *
+     * @param storageUnitName storage unit name
+     * @param latencyMillis execute latency in milliseconds
+     */
+    public static void record(final String storageUnitName, final long latencyMillis) {
+        StorageUnitLatency latency = LATENCIES.get(storageUnitName);
+        if (null == latency) {
+            if (LATENCIES.size() >= MAX_STORAGE_UNIT_COUNT) {
+                return;
+            }
+            latency = LATENCIES.computeIfAbsent(storageUnitName, key -> new StorageUnitLatency());
+        }
+        latency.record(latencyMillis, System.nanoTime());
+    }
+    
+    /**
+     * Get slowest storage units.
+     *
+     * @param count max count of storage units
+     * @return latency in milliseconds of slowest storage units, ordered by latency descending
+     */
+    public static Map<String, Double> getSlowest(final int count) {
+        long now = System.nanoTime();
+        LATENCIES.values().removeIf(each -> now - each.lastRecordedNanos > IDLE_NANOS);
+        Map<String, Double> result = new LinkedHashMap<>(count, 1F);
+        LATENCIES.entrySet().stream().map(entry -> new SimpleImmutableEntry<>(entry.getKey(), entry.getValue().getAverageMillis()))
+                .sorted(Entry.<String, Double>comparingByValue().reversed()).limit(count).forEach(each -> result.put(each.getKey(), each.getValue()));
+        return result;
+    }
+    
+    /**
+     * Clear recorded latencies.
+     */
+    public static void clear() {
+        LATENCIES.clear();
+    }
+    
+    private static final class StorageUnitLatency {
+        
+        private final AtomicLong averageMillisBits = new AtomicLong(Double.doubleToLongBits(-1D));
+        
+        private volatile long lastRecordedNanos;
+        
+        private void record(final long latencyMillis, final long now) {
+            long current;
+            long next;
+            do {
+                current = averageMillisBits.get();
+                double average = Double.longBitsToDouble(current);
+                next = Double.doubleToLongBits(average < 0D ? latencyMillis : average + DECAY_WEIGHT * (latencyMillis - average));
+            } while (!averageMillisBits.compareAndSet(current, next));
+            lastRecordedNanos = now;
+        }
+        
+        private double getAverageMillis() {
+            return Double.longBitsToDouble(averageMillisBits.get());
+        }
+    }
+}
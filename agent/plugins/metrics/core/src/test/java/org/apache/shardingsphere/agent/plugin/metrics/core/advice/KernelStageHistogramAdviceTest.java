@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceMethod;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.TargetAdviceObjectFixture;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+class KernelStageHistogramAdviceTest {
+    
+    private final MetricConfiguration latencyConfig = new MetricConfiguration("kernel_stage_latency_micros",
+            MetricCollectorType.HISTOGRAM, null, Collections.singletonList("stage"), Collections.emptyMap());
+    
+    @AfterEach
+    void reset() {
+        KernelStageHistogramAdvice.setSampleRate(1);
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(latencyConfig, "FIXTURE")).reset();
+    }
+    
+    @Test
+    void assertObserveStageLatency() {
+        KernelStageHistogramAdvice advice = new KernelStageHistogramAdvice();
+        TargetAdviceObjectFixture targetObject = new TargetAdviceObjectFixture();
+        TargetAdviceMethod method = new TargetAdviceMethod("route");
+        advice.beforeMethod(targetObject, method, new Object[]{}, "FIXTURE");
+        Awaitility.await().pollDelay(50L, TimeUnit.MILLISECONDS).until(() -> true);
+        advice.afterMethod(targetObject, method, new Object[]{}, null, "FIXTURE");
+        String actual = MetricsCollectorRegistry.get(latencyConfig, "FIXTURE").toString();
+        assertThat(actual, startsWith("route="));
+        assertThat(Double.parseDouble(actual.substring("route=".length())), greaterThanOrEqualTo(50000D));
+    }
+    
+    @Test
+    void assertNotObserveWithoutBeforeMethod() {
+        new KernelStageHistogramAdvice().afterMethod(new TargetAdviceObjectFixture(), new TargetAdviceMethod("merge"), new Object[]{}, null, "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(latencyConfig, "FIXTURE").toString(), is("0"));
+    }
+    
+    @Test
+    void assertNotObserveWhenNotSampled() {
+        KernelStageHistogramAdvice.setSampleRate(Integer.MAX_VALUE);
+        KernelStageHistogramAdvice advice = new KernelStageHistogramAdvice();
+        TargetAdviceObjectFixture targetObject = new TargetAdviceObjectFixture();
+        TargetAdviceMethod method = new TargetAdviceMethod("parse");
+        advice.beforeMethod(targetObject, method, new Object[]{}, "FIXTURE");
+        advice.afterMethod(targetObject, method, new Object[]{}, null, "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(latencyConfig, "FIXTURE").toString(), is("0"));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceMethod;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.TargetAdviceObjectFixture;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.apache.shardingsphere.agent.plugin.metrics.core.recorder.StorageUnitLatencyRecorder;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.mockito.Mockito.mock;
+
+class StorageUnitExecuteAdviceTest {
+    
+    private final MetricConfiguration latencyConfig = new MetricConfiguration("storage_unit_execute_latency_millis",
+            MetricCollectorType.HISTOGRAM, null, Collections.singletonList("storage_unit"), Collections.emptyMap());
+    
+    private final MetricConfiguration currentExecutionsConfig = new MetricConfiguration("storage_unit_current_executions",
+            MetricCollectorType.GAUGE, null, Collections.singletonList("storage_unit"), Collections.emptyMap());
+    
+    @AfterEach
+    void reset() {
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(latencyConfig, "FIXTURE")).reset();
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(currentExecutionsConfig, "FIXTURE")).reset();
+        StorageUnitLatencyRecorder.clear();
+    }
+    
+    @Test
+    void assertExecute() {
+        StorageUnitExecuteAdvice advice = new StorageUnitExecuteAdvice();
+        TargetAdviceObjectFixture targetObject = new TargetAdviceObjectFixture();
+        TargetAdviceMethod method = new TargetAdviceMethod("execute");
+        Object[] args =
+                new Object[]{new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit("SELECT 1", Collections.emptyList())), ConnectionMode.MEMORY_STRICTLY, mock(Statement.class)), true, ""};
+        advice.beforeMethod(targetObject, method, args, "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(currentExecutionsConfig, "FIXTURE").toString(), is("ds_0=1"));
+        Awaitility.await().pollDelay(50L, TimeUnit.MILLISECONDS).until(() -> true);
+        advice.afterMethod(targetObject, method, args, null, "FIXTURE");
+        assertThat(MetricsCollectorRegistry.get(currentExecutionsConfig, "FIXTURE").toString(), is("ds_0=0"));
+        assertThat(Double.parseDouble(MetricsCollectorRegistry.get(latencyConfig, "FIXTURE").toString().substring("ds_0=".length())), greaterThanOrEqualTo(50D));
+        assertThat(StorageUnitLatencyRecorder.getSlowest(1).get("ds_0"), greaterThanOrEqualTo(50D));
+    }
+}
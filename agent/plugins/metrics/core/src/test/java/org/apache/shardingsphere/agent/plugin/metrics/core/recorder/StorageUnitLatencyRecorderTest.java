@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.recorder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class StorageUnitLatencyRecorderTest {
+    
+    @AfterEach
+    void reset() {
+        StorageUnitLatencyRecorder.clear();
+    }
+    
+    @Test
+    void assertGetSlowest() {
+        StorageUnitLatencyRecorder.record("ds_0", 10L);
+        StorageUnitLatencyRecorder.record("ds_1", 100L);
+        StorageUnitLatencyRecorder.record("ds_2", 50L);
+        Map<String, Double> actual = StorageUnitLatencyRecorder.getSlowest(2);
+        assertThat(new ArrayList<>(actual.keySet()), is(Arrays.asList("ds_1", "ds_2")));
+        assertThat(actual.get("ds_1"), is(100D));
+        assertThat(actual.get("ds_2"), is(50D));
+    }
+    
+    @Test
+    void assertRecordMovingAverage() {
+        StorageUnitLatencyRecorder.record("ds_0", 10L);
+        StorageUnitLatencyRecorder.record("ds_0", 60L);
+        assertThat(StorageUnitLatencyRecorder.getSlowest(1).get("ds_0"), is(20D));
+    }
+}
@@ -24,10 +24,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.agent.api.PluginConfiguration;
 import org.apache.shardingsphere.agent.plugin.core.config.validator.PluginConfigurationValidator;
 import org.apache.shardingsphere.agent.plugin.core.context.PluginContext;
+import org.apache.shardingsphere.agent.plugin.metrics.core.advice.KernelStageHistogramAdvice;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.BuildInfoExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.SlowestStorageUnitsExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCMetaDataInfoExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.jdbc.JDBCStateExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyMetaDataInfoExporter;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyShardingRouteCacheExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl.proxy.ProxyStateExporter;
 import org.apache.shardingsphere.agent.plugin.metrics.prometheus.exoprter.PrometheusMetricsExporter;
 import org.apache.shardingsphere.agent.spi.PluginLifecycleService;
@@ -43,15 +46,25 @@ public final class PrometheusPluginLifecycleService implements PluginLifecycleSe
     
     private static final String KEY_JVM_INFORMATION_COLLECTOR_ENABLED = "jvm-information-collector-enabled";
     
+    private static final String KEY_KERNEL_STAGE_SAMPLE_RATE = "kernel-stage-sample-rate";
+    
     private HTTPServer httpServer;
     
     @Override
     public void start(final PluginConfiguration pluginConfig, final boolean isEnhancedForProxy) {
         PluginContext.getInstance().setEnhancedForProxy(isEnhancedForProxy);
         PluginConfigurationValidator.validatePort(getType(), pluginConfig);
+        setKernelStageSampleRate(pluginConfig);
         startServer(pluginConfig, isEnhancedForProxy);
     }
     
+    private void setKernelStageSampleRate(final PluginConfiguration pluginConfig) {
+        String sampleRate = pluginConfig.getProps().getProperty(KEY_KERNEL_STAGE_SAMPLE_RATE);
+        if (null != sampleRate) {
+            KernelStageHistogramAdvice.setSampleRate(Math.max(1, Integer.parseInt(sampleRate)));
+        }
+    }
+    
     private void startServer(final PluginConfiguration pluginConfig, final boolean isEnhancedForProxy) {
         registerCollector(Boolean.parseBoolean(pluginConfig.getProps().getProperty(KEY_JVM_INFORMATION_COLLECTOR_ENABLED)), isEnhancedForProxy);
         InetSocketAddress socketAddress = getSocketAddress(pluginConfig);
@@ -65,6 +78,7 @@ public final class PrometheusPluginLifecycleService implements PluginLifecycleSe
     
     private void registerCollector(final boolean isCollectJVMInformation, final boolean isEnhancedForProxy) {
         new PrometheusMetricsExporter(new BuildInfoExporter()).register();
+        new PrometheusMetricsExporter(new SlowestStorageUnitsExporter()).register();
         if (isEnhancedForProxy) {
             registerCollectorForProxy();
         } else {
@@ -78,6 +92,7 @@ public final class PrometheusPluginLifecycleService implements PluginLifecycleSe
     private void registerCollectorForProxy() {
         new PrometheusMetricsExporter(new ProxyStateExporter()).register();
         new PrometheusMetricsExporter(new ProxyMetaDataInfoExporter()).register();
+        new PrometheusMetricsExporter(new ProxyShardingRouteCacheExporter()).register();
     }
     
     private void registerCollectorForJDBC() {
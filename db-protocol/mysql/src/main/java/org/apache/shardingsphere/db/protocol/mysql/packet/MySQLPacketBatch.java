@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCounted;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Batch of MySQL packets which have been framed into one buffer.
+ *
+ * <p>
+ * Every packet in the buffer has its own header. Sequence IDs are left empty and assigned by codec engine,
+ * so that they keep the same order with other packets written to channel.
+ * Codec engine writes the framed buffer to channel as it is, without copying or another header.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class MySQLPacketBatch implements DatabasePacket, ReferenceCounted {
+    
+    private static final int PAYLOAD_LENGTH = 3;
+    
+    private static final int SEQUENCE_LENGTH = 1;
+    
+    private final ByteBuf byteBuf;
+    
+    /**
+     * Assign sequence IDs for packets in batch.
+     *
+     * @param sequenceId sequence ID of channel
+     */
+    public void assignSequenceIds(final AtomicInteger sequenceId) {
+        int index = byteBuf.readerIndex();
+        while (index < byteBuf.writerIndex()) {
+            byteBuf.setByte(index + PAYLOAD_LENGTH, sequenceId.getAndIncrement());
+            index += PAYLOAD_LENGTH + SEQUENCE_LENGTH + byteBuf.getUnsignedMediumLE(index);
+        }
+    }
+    
+    @Override
+    public void write(final PacketPayload payload) {
+        payload.getByteBuf().writeBytes(byteBuf, byteBuf.readerIndex(), byteBuf.readableBytes());
+    }
+    
+    @Override
+    public int refCnt() {
+        return byteBuf.refCnt();
+    }
+    
+    @Override
+    public MySQLPacketBatch retain() {
+        byteBuf.retain();
+        return this;
+    }
+    
+    @Override
+    public MySQLPacketBatch retain(final int increment) {
+        byteBuf.retain(increment);
+        return this;
+    }
+    
+    @Override
+    public MySQLPacketBatch touch() {
+        byteBuf.touch();
+        return this;
+    }
+    
+    @Override
+    public MySQLPacketBatch touch(final Object hint) {
+        byteBuf.touch(hint);
+        return this;
+    }
+    
+    @Override
+    public boolean release() {
+        return byteBuf.release();
+    }
+    
+    @Override
+    public boolean release(final int decrement) {
+        return byteBuf.release(decrement);
+    }
+}
@@ -22,12 +22,13 @@ import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinlogEventType
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.AbstractMySQLBinlogEventPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.MySQLBinlogEventHeader;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.MySQLBinlogColumnDef;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value.MySQLBinlogProtocolValue;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value.MySQLBinlogProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLNullBitmap;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
 import java.io.Serializable;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -49,9 +50,9 @@ public final class MySQLBinlogRowsEventPacket extends AbstractMySQLBinlogEventPa
     
     private final MySQLNullBitmap columnsPresentBitmap2;
     
-    private final List<Serializable[]> rows = new LinkedList<>();
+    private final List<Serializable[]> rows = new ArrayList<>();
     
-    private final List<Serializable[]> rows2 = new LinkedList<>();
+    private final List<Serializable[]> rows2 = new ArrayList<>();
     
     public MySQLBinlogRowsEventPacket(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         super(binlogEventHeader);
@@ -90,21 +91,29 @@ public final class MySQLBinlogRowsEventPacket extends AbstractMySQLBinlogEventPa
      * @param payload ROWS_EVENT packet payload
      */
     public void readRows(final MySQLBinlogTableMapEventPacket tableMapEventPacket, final MySQLPacketPayload payload) {
-        List<MySQLBinlogColumnDef> columnDefs = tableMapEventPacket.getColumnDefs();
+        MySQLBinlogColumnDef[] columnDefs = tableMapEventPacket.getColumnDefs().toArray(new MySQLBinlogColumnDef[0]);
+        MySQLBinlogProtocolValue[] protocolValues = new MySQLBinlogProtocolValue[columnNumber];
+        MySQLNullBitmap nullBitmap = new MySQLNullBitmap(columnNumber, 0);
+        boolean isUpdateRowsEvent = isUpdateRowsEvent(getBinlogEventHeader().getEventType());
         while (getRemainBytesLength(payload) > 0) {
-            rows.add(readRow(columnDefs, payload));
-            if (isUpdateRowsEvent(getBinlogEventHeader().getEventType())) {
-                rows2.add(readRow(columnDefs, payload));
+            rows.add(readRow(columnDefs, protocolValues, nullBitmap, payload));
+            if (isUpdateRowsEvent) {
+                rows2.add(readRow(columnDefs, protocolValues, nullBitmap, payload));
             }
         }
     }
     
-    private Serializable[] readRow(final List<MySQLBinlogColumnDef> columnDefs, final MySQLPacketPayload payload) {
-        MySQLNullBitmap nullBitmap = new MySQLNullBitmap(columnNumber, payload);
+    private Serializable[] readRow(final MySQLBinlogColumnDef[] columnDefs, final MySQLBinlogProtocolValue[] protocolValues, final MySQLNullBitmap nullBitmap, final MySQLPacketPayload payload) {
+        nullBitmap.read(payload);
         Serializable[] result = new Serializable[columnNumber];
         for (int i = 0; i < columnNumber; i++) {
-            MySQLBinlogColumnDef columnDef = columnDefs.get(i);
-            result[i] = nullBitmap.isNullParameter(i) ? null : MySQLBinlogProtocolValueFactory.getBinlogProtocolValue(columnDef.getColumnType()).read(columnDef, payload);
+            if (nullBitmap.isNullParameter(i)) {
+                continue;
+            }
+            if (null == protocolValues[i]) {
+                protocolValues[i] = MySQLBinlogProtocolValueFactory.getBinlogProtocolValue(columnDefs[i].getColumnType());
+            }
+            result[i] = protocolValues[i].read(columnDefs[i], payload);
         }
         return result;
     }
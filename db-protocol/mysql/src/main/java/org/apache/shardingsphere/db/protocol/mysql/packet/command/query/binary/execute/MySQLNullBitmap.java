@@ -41,13 +41,7 @@ public final class MySQLNullBitmap {
     public MySQLNullBitmap(final int columnNumbers, final MySQLPacketPayload payload) {
         offset = 0;
         nullBitmap = new int[calculateLength(columnNumbers, 0)];
-        fillBitmap(payload);
-    }
-    
-    private void fillBitmap(final MySQLPacketPayload payload) {
-        for (int i = 0; i < nullBitmap.length; i++) {
-            nullBitmap[i] = payload.readInt1();
-        }
+        read(payload);
     }
     
     private int calculateLength(final int columnsNumbers, final int offset) {
@@ -64,6 +58,17 @@ public final class MySQLNullBitmap {
         return (nullBitmap[getBytePosition(index)] & (1 << getBitPosition(index))) != 0;
     }
     
+    /**
+     * Read null bitmap from payload, previous bits are overwritten.
+     *
+     * @param payload payload
+     */
+    public void read(final MySQLPacketPayload payload) {
+        for (int i = 0; i < nullBitmap.length; i++) {
+            nullBitmap[i] = payload.readInt1();
+        }
+    }
+    
     /**
      * Set null bit.
      *
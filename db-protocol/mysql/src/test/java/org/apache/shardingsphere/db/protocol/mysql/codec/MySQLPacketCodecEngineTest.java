@@ -25,11 +25,13 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacketBatch;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -184,6 +186,23 @@ class MySQLPacketCodecEngineTest {
         verify(byteBuf).setByte(3, 2);
     }
     
+    @Test
+    void assertEncodePacketBatch() {
+        ByteBuf batch = Unpooled.buffer().writeMediumLE(1).writeByte(0).writeByte(0xFE).writeMediumLE(2).writeByte(0).writeShort(0);
+        context.channel().attr(MySQLConstants.SEQUENCE_ID_ATTRIBUTE_KEY).get().set(3);
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketCodecEngine().encode(context, new MySQLPacketBatch(batch), out);
+        assertFalse(out.isReadable());
+        ArgumentCaptor<ByteBuf> actual = ArgumentCaptor.forClass(ByteBuf.class);
+        verify(context).write(actual.capture());
+        assertThat(actual.getValue().readableBytes(), is(11));
+        assertThat(actual.getValue().getByte(3), is((byte) 3));
+        assertThat(actual.getValue().getByte(4), is((byte) 0xFE));
+        assertThat(actual.getValue().getByte(8), is((byte) 4));
+        assertThat(context.channel().attr(MySQLConstants.SEQUENCE_ID_ATTRIBUTE_KEY).get().get(), is(5));
+        assertThat(batch.refCnt(), is(2));
+    }
+    
     @Test
     void assertCreatePacketPayload() {
         assertThat(new MySQLPacketCodecEngine().createPacketPayload(byteBuf, StandardCharsets.UTF_8).getByteBuf(), is(byteBuf));
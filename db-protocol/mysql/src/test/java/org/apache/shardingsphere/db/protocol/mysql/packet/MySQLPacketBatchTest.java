@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MySQLPacketBatchTest {
+    
+    @Test
+    void assertAssignSequenceIds() {
+        ByteBuf byteBuf = Unpooled.buffer().writeMediumLE(1).writeByte(0).writeByte(0xFE).writeMediumLE(2).writeByte(0).writeShort(0);
+        AtomicInteger sequenceId = new AtomicInteger(1);
+        new MySQLPacketBatch(byteBuf).assignSequenceIds(sequenceId);
+        assertThat(byteBuf.getByte(3), is((byte) 1));
+        assertThat(byteBuf.getByte(8), is((byte) 2));
+        assertThat(sequenceId.get(), is(3));
+    }
+    
+    @Test
+    void assertWrite() {
+        ByteBuf byteBuf = Unpooled.buffer().writeMediumLE(1).writeByte(1).writeByte(0xFE);
+        ByteBuf out = Unpooled.buffer();
+        new MySQLPacketBatch(byteBuf).write(new MySQLPacketPayload(out, StandardCharsets.UTF_8));
+        assertThat(out, is(byteBuf));
+        assertThat(byteBuf.readableBytes(), is(5));
+    }
+    
+    @Test
+    void assertRelease() {
+        MySQLPacketBatch actual = new MySQLPacketBatch(Unpooled.buffer(1));
+        assertThat(actual.retain().refCnt(), is(2));
+        actual.release(2);
+        assertThat(actual.refCnt(), is(0));
+    }
+}
@@ -21,6 +21,8 @@ import io.netty.buffer.ByteBuf;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.MySQLBinlogEventHeader;
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.MySQLBinlogColumnDef;
+import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value.MySQLBinlogProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLNullBitmap;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -73,7 +75,9 @@ class MySQLBinlogRowsEventPacketTest {
         assertNull(actual.getColumnsPresentBitmap2());
         MySQLPacketPayload packetPayload = new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8);
         assertThat(((Serializable[]) Plugins.getMemberAccessor()
-                .invoke(MySQLBinlogRowsEventPacket.class.getDeclaredMethod("readRow", List.class, MySQLPacketPayload.class), actual, columnDefs, packetPayload))[0], is(0L));
+                .invoke(MySQLBinlogRowsEventPacket.class.getDeclaredMethod("readRow", MySQLBinlogColumnDef[].class, MySQLBinlogProtocolValue[].class, MySQLNullBitmap.class, MySQLPacketPayload.class),
+                        actual, columnDefs.toArray(new MySQLBinlogColumnDef[0]), new MySQLBinlogProtocolValue[columnDefs.size()], new MySQLNullBitmap(columnDefs.size(), 0), packetPayload))[0],
+                is(0L));
     }
     
     private void assertBinlogRowsEventV1BeforeRows(final MySQLBinlogRowsEventPacket actual) {
@@ -46,6 +46,18 @@ class MySQLNullBitmapTest {
         assertFalse(actual.isNullParameter(62));
     }
     
+    @Test
+    void assertRead() {
+        when(payload.readInt1()).thenReturn(0x01, 0x02);
+        MySQLNullBitmap actual = new MySQLNullBitmap(8, 0);
+        actual.read(payload);
+        assertTrue(actual.isNullParameter(0));
+        assertFalse(actual.isNullParameter(1));
+        actual.read(payload);
+        assertFalse(actual.isNullParameter(0));
+        assertTrue(actual.isNullParameter(1));
+    }
+    
     @Test
     void assertGetNullBitmap() {
         MySQLNullBitmap actual = new MySQLNullBitmap(8, 0);
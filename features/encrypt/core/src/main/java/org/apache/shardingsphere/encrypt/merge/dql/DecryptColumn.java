@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.merge.dql;
+
+import org.apache.shardingsphere.encrypt.exception.data.DecryptFailedException;
+import org.apache.shardingsphere.encrypt.rule.column.item.CipherColumnItem;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.exception.core.external.sql.identifier.SQLExceptionIdentifier;
+
+/**
+ * Decrypt column.
+ */
+public final class DecryptColumn {
+    
+    private final AlgorithmSQLContext algorithmSQLContext;
+    
+    private final CipherColumnItem cipher;
+    
+    public DecryptColumn(final String databaseName, final String schemaName, final String tableName, final String logicColumnName, final CipherColumnItem cipher) {
+        algorithmSQLContext = new AlgorithmSQLContext(databaseName, schemaName, tableName, logicColumnName);
+        this.cipher = cipher;
+    }
+    
+    /**
+     * Decrypt.
+     *
+     * @param cipherValue cipher value
+     * @return decrypted value
+     * @throws DecryptFailedException decrypt failed exception
+     */
+    public Object decrypt(final Object cipherValue) {
+        try {
+            return cipher.decrypt(cipherValue, algorithmSQLContext);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            throw new DecryptFailedException(String.valueOf(cipherValue),
+                    new SQLExceptionIdentifier(algorithmSQLContext.getDatabaseName(), algorithmSQLContext.getTableName(), algorithmSQLContext.getColumnName()), ex);
+        }
+    }
+}
@@ -17,14 +17,11 @@
 
 package org.apache.shardingsphere.encrypt.merge.dql;
 
-import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.encrypt.exception.data.DecryptFailedException;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
-import org.apache.shardingsphere.infra.exception.core.external.sql.identifier.SQLExceptionIdentifier;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
@@ -38,16 +35,40 @@ import java.util.Optional;
 /**
  * Merged result for encrypt.
  */
-@RequiredArgsConstructor
 public final class EncryptMergedResult implements MergedResult {
     
-    private final ShardingSphereDatabase database;
+    private final MergedResult mergedResult;
     
-    private final ShardingSphereMetaData metaData;
+    private final DecryptColumn[] decryptColumns;
     
-    private final SelectStatementContext selectStatementContext;
+    public EncryptMergedResult(final ShardingSphereDatabase database, final ShardingSphereMetaData metaData, final SelectStatementContext selectStatementContext, final MergedResult mergedResult) {
+        this.mergedResult = mergedResult;
+        decryptColumns = createDecryptColumns(database, metaData, selectStatementContext);
+    }
     
-    private final MergedResult mergedResult;
+    private DecryptColumn[] createDecryptColumns(final ShardingSphereDatabase database, final ShardingSphereMetaData metaData, final SelectStatementContext selectStatementContext) {
+        DecryptColumn[] result = new DecryptColumn[selectStatementContext.getProjectionsContext().getExpandProjections().size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = selectStatementContext.findColumnProjection(i + 1).flatMap(optional -> findDecryptColumn(database, metaData, selectStatementContext, optional)).orElse(null);
+        }
+        return result;
+    }
+    
+    private Optional<DecryptColumn> findDecryptColumn(final ShardingSphereDatabase database, final ShardingSphereMetaData metaData,
+                                                      final SelectStatementContext selectStatementContext, final ColumnProjection columnProjection) {
+        String originalTableName = columnProjection.getOriginalTable().getValue();
+        String originalColumnName = columnProjection.getOriginalColumn().getValue();
+        String originalDatabaseName = columnProjection.getColumnBoundInfo().getOriginalDatabase().getValue();
+        ShardingSphereDatabase originalDatabase = metaData.containsDatabase(originalDatabaseName) ? metaData.getDatabase(originalDatabaseName) : database;
+        Optional<EncryptRule> rule = originalDatabase.getRuleMetaData().findSingleRule(EncryptRule.class);
+        if (!rule.isPresent() || !rule.get().findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
+            return Optional.empty();
+        }
+        EncryptColumn encryptColumn = rule.get().getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
+        String schemaName = selectStatementContext.getTablesContext().getSchemaName()
+                .orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(originalDatabase.getName()));
+        return Optional.of(new DecryptColumn(originalDatabase.getName(), schemaName, originalTableName, originalColumnName, encryptColumn.getCipher()));
+    }
     
     @Override
     public boolean next() throws SQLException {
@@ -56,30 +77,8 @@ public final class EncryptMergedResult implements MergedResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(columnIndex);
-        if (!columnProjection.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        String originalTableName = columnProjection.get().getOriginalTable().getValue();
-        String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
-        ShardingSphereDatabase database = metaData.containsDatabase(columnProjection.get().getColumnBoundInfo().getOriginalDatabase().getValue())
-                ? metaData.getDatabase(columnProjection.get().getColumnBoundInfo().getOriginalDatabase().getValue())
-                : this.database;
-        Optional<EncryptRule> rule = database.getRuleMetaData().findSingleRule(EncryptRule.class);
-        if (!rule.isPresent() || !rule.get().findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
-        EncryptColumn encryptColumn = rule.get().getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
-        String schemaName = selectStatementContext.getTablesContext().getSchemaName()
-                .orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
-        try {
-            return encryptColumn.getCipher().decrypt(database.getName(), schemaName, originalTableName, originalColumnName, cipherValue);
-            // CHECKSTYLE:OFF
-        } catch (final Exception ex) {
-            // CHECKSTYLE:ON
-            throw new DecryptFailedException(String.valueOf(cipherValue), new SQLExceptionIdentifier(database.getName(), originalTableName, originalColumnName), ex);
-        }
+        DecryptColumn decryptColumn = columnIndex <= decryptColumns.length ? decryptColumns[columnIndex - 1] : null;
+        return null == decryptColumn ? mergedResult.getValue(columnIndex, type) : decryptColumn.decrypt(mergedResult.getValue(columnIndex, Object.class));
     }
     
     @Override
@@ -101,4 +100,9 @@ public final class EncryptMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
 }
@@ -83,9 +83,17 @@ public final class CipherColumnItem {
      * @return decrypted value
      */
     public Object decrypt(final String databaseName, final String schemaName, final String tableName, final String logicColumnName, final Object cipherValue) {
-        if (null == cipherValue) {
-            return null;
-        }
-        return encryptor.decrypt(cipherValue, new AlgorithmSQLContext(databaseName, schemaName, tableName, logicColumnName));
+        return decrypt(cipherValue, new AlgorithmSQLContext(databaseName, schemaName, tableName, logicColumnName));
+    }
+    
+    /**
+     * Decrypt.
+     *
+     * @param cipherValue cipher value
+     * @param algorithmSQLContext algorithm SQL context
+     * @return decrypted value
+     */
+    public Object decrypt(final Object cipherValue, final AlgorithmSQLContext algorithmSQLContext) {
+        return null == cipherValue ? null : encryptor.decrypt(cipherValue, algorithmSQLContext);
     }
 }
@@ -59,6 +59,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -80,6 +81,7 @@ class EncryptMergedResultTest {
     
     @Test
     void assertGetValueWithoutColumnProjection() throws SQLException {
+        when(selectStatementContext.getProjectionsContext().getExpandProjections().size()).thenReturn(1);
         when(selectStatementContext.findColumnProjection(1)).thenReturn(Optional.empty());
         when(mergedResult.getValue(1, String.class)).thenReturn("foo_value");
         ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
@@ -90,6 +92,7 @@ class EncryptMergedResultTest {
     void assertGetValueWithoutEncryptTable() throws SQLException {
         ColumnProjection columnProjection = new ColumnProjection(new IdentifierValue("bar_tbl"), new IdentifierValue("foo_col"), new IdentifierValue("foo_alias"), databaseType,
                 null, null, new ColumnSegmentBoundInfo(new IdentifierValue("foo_col")));
+        when(selectStatementContext.getProjectionsContext().getExpandProjections().size()).thenReturn(1);
         when(selectStatementContext.findColumnProjection(1)).thenReturn(Optional.of(columnProjection));
         EncryptRule rule = mockRule(mock(EncryptAlgorithm.class));
         ShardingSphereDatabase database = new ShardingSphereDatabase("foo_db", mock(), mock(), new RuleMetaData(Collections.singleton(rule)), Collections.emptyList());
@@ -101,6 +104,7 @@ class EncryptMergedResultTest {
     void assertGetValueWithoutEncryptColumn() throws SQLException {
         ColumnProjection columnProjection = new ColumnProjection(new IdentifierValue("foo_tbl"), new IdentifierValue("bar_col"), new IdentifierValue("bar_alias"), databaseType,
                 null, null, new ColumnSegmentBoundInfo(new IdentifierValue("bar_col")));
+        when(selectStatementContext.getProjectionsContext().getExpandProjections().size()).thenReturn(1);
         when(selectStatementContext.findColumnProjection(1)).thenReturn(Optional.of(columnProjection));
         EncryptRule rule = mockRule(mock(EncryptAlgorithm.class));
         ShardingSphereDatabase database = new ShardingSphereDatabase("foo_db", mock(), mock(), new RuleMetaData(Collections.singleton(rule)), Collections.emptyList());
@@ -113,6 +117,7 @@ class EncryptMergedResultTest {
         ColumnProjection columnProjection =
                 new ColumnProjection(new IdentifierValue("foo_tbl"), new IdentifierValue("foo_col"), new IdentifierValue("foo_alias"), databaseType, null, null, new ColumnSegmentBoundInfo(
                         new TableSegmentBoundInfo(new IdentifierValue("foo_db"), new IdentifierValue("foo_schema")), new IdentifierValue("foo_tbl"), new IdentifierValue("foo_col")));
+        when(selectStatementContext.getProjectionsContext().getExpandProjections().size()).thenReturn(1);
         when(selectStatementContext.findColumnProjection(1)).thenReturn(Optional.of(columnProjection));
         when(selectStatementContext.getTablesContext().getSchemaName()).thenReturn(Optional.of("foo_schema"));
         EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
@@ -121,7 +126,16 @@ class EncryptMergedResultTest {
         ShardingSphereDatabase database = new ShardingSphereDatabase("foo_db", mock(), mock(), new RuleMetaData(Collections.singleton(rule)), Collections.emptyList());
         ShardingSphereMetaData metaData = new ShardingSphereMetaData(Collections.singleton(database), mock(), mock(), mock());
         when(mergedResult.getValue(1, Object.class)).thenReturn("foo_value");
-        assertThat(new EncryptMergedResult(database, metaData, selectStatementContext, mergedResult).getValue(1, String.class), is("foo_decrypted_value"));
+        EncryptMergedResult actual = new EncryptMergedResult(database, metaData, selectStatementContext, mergedResult);
+        assertThat(actual.getValue(1, String.class), is("foo_decrypted_value"));
+        assertThat(actual.getValue(1, String.class), is("foo_decrypted_value"));
+        verify(selectStatementContext).findColumnProjection(1);
+    }
+    
+    @Test
+    void assertGetValueWithColumnIndexOutOfProjections() throws SQLException {
+        when(mergedResult.getValue(2, String.class)).thenReturn("foo_value");
+        assertThat(new EncryptMergedResult(mock(), mock(), selectStatementContext, mergedResult).getValue(2, String.class), is("foo_value"));
     }
     
     @Test
@@ -129,6 +143,7 @@ class EncryptMergedResultTest {
         ColumnProjection columnProjection =
                 new ColumnProjection(new IdentifierValue("foo_tbl"), new IdentifierValue("foo_col"), new IdentifierValue("foo_alias"), databaseType, null, null, new ColumnSegmentBoundInfo(
                         new TableSegmentBoundInfo(new IdentifierValue("foo_db"), new IdentifierValue("foo_schema")), new IdentifierValue("foo_tbl"), new IdentifierValue("foo_col")));
+        when(selectStatementContext.getProjectionsContext().getExpandProjections().size()).thenReturn(1);
         when(selectStatementContext.findColumnProjection(1)).thenReturn(Optional.of(columnProjection));
         when(selectStatementContext.getTablesContext().getSchemaName()).thenReturn(Optional.of("foo_schema"));
         EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
@@ -67,4 +67,14 @@ class CipherColumnItemTest {
         CipherColumnItem cipherColumnItem = new CipherColumnItem("foo_col", encryptAlgorithm);
         assertThat(cipherColumnItem.decrypt("foo_db", "foo_schema", "foo_tbl", "foo_col", "encrypted_foo_value"), is("foo_value"));
     }
+    
+    @Test
+    void assertDecryptWithAlgorithmSQLContext() {
+        EncryptAlgorithm encryptAlgorithm = mock(EncryptAlgorithm.class);
+        AlgorithmSQLContext algorithmSQLContext = new AlgorithmSQLContext("foo_db", "foo_schema", "foo_tbl", "foo_col");
+        when(encryptAlgorithm.decrypt("encrypted_foo_value", algorithmSQLContext)).thenReturn("foo_value");
+        CipherColumnItem cipherColumnItem = new CipherColumnItem("foo_col", encryptAlgorithm);
+        assertThat(cipherColumnItem.decrypt("encrypted_foo_value", algorithmSQLContext), is("foo_value"));
+        assertNull(cipherColumnItem.decrypt(null, algorithmSQLContext));
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Replication lag of read data source.
+ */
+@Slf4j
+public final class ReplicationLag {
+    
+    private static final long REFRESH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1L);
+    
+    private static final long EXPIRATION_NANOS = TimeUnit.SECONDS.toNanos(10L);
+    
+    private static final int QUERY_TIMEOUT_SECONDS = 3;
+    
+    private final StorageUnit storageUnit;
+    
+    private final ReplicationLagDetector detector;
+    
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    
+    private volatile Long lagMilliseconds;
+    
+    private volatile long detectedNanos;
+    
+    private volatile long refreshedNanos;
+    
+    public ReplicationLag(final StorageUnit storageUnit, final ReplicationLagDetector detector) {
+        this.storageUnit = storageUnit;
+        this.detector = detector;
+        refreshedNanos = System.nanoTime() - REFRESH_INTERVAL_NANOS;
+    }
+    
+    /**
+     * Get replication lag.
+     *
+     * @param nowNanos current nano time
+     * @return replication lag in milliseconds, empty if it is unknown or detected too long ago
+     */
+    public Optional<Long> getLagMilliseconds(final long nowNanos) {
+        Long result = lagMilliseconds;
+        return null == result || nowNanos - detectedNanos > EXPIRATION_NANOS ? Optional.empty() : Optional.of(result);
+    }
+    
+    /**
+     * Start refresh if refresh interval elapsed and no refresh is in progress.
+     *
+     * @param nowNanos current nano time
+     * @return started or not
+     */
+    public boolean startRefresh(final long nowNanos) {
+        if (nowNanos - refreshedNanos < REFRESH_INTERVAL_NANOS || !refreshing.compareAndSet(false, true)) {
+            return false;
+        }
+        refreshedNanos = nowNanos;
+        return true;
+    }
+    
+    /**
+     * Refresh replication lag.
+     */
+    public void refresh() {
+        try (Connection connection = storageUnit.getDataSource().getConnection()) {
+            lagMilliseconds = detector.detect(connection, QUERY_TIMEOUT_SECONDS).orElse(null);
+            detectedNanos = System.nanoTime();
+        } catch (final SQLException ex) {
+            lagMilliseconds = null;
+            log.warn("Detect replication lag failed.", ex);
+        } finally {
+            refreshing.set(false);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingDataSourceGroupRuleConfiguration;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Replication lag monitor.
+ *
+ * <p>Replication lags are cached in memory and refreshed in background when routing reads them, so routing never waits for the detection.
+ * Each read data source refreshes at most once at a time on its own thread, so a hung read data source can not delay the others.
+ * Read data sources without replication lag detector of their storage type are not monitored.</p>
+ */
+@Slf4j
+public final class ReplicationLagMonitor {
+    
+    private static final ExecutorService EXECUTOR_SERVICE = Executors.newCachedThreadPool(ExecutorThreadFactoryBuilder.build("readwrite-splitting-replication-lag-%d"));
+    
+    private final Map<String, ReplicationLag> replicationLags;
+    
+    public ReplicationLagMonitor(final Collection<ReadwriteSplittingDataSourceGroupRuleConfiguration> dataSourceGroups, final Map<String, StorageUnit> storageUnits) {
+        replicationLags = new HashMap<>(storageUnits.size(), 1F);
+        for (ReadwriteSplittingDataSourceGroupRuleConfiguration each : dataSourceGroups) {
+            if (each.getMaxReplicationLagMilliseconds() > 0L) {
+                each.getReadDataSourceNames().stream().filter(storageUnits::containsKey).forEach(dataSourceName -> putReplicationLag(dataSourceName, storageUnits.get(dataSourceName)));
+            }
+        }
+    }
+    
+    private void putReplicationLag(final String dataSourceName, final StorageUnit storageUnit) {
+        Optional<ReplicationLagDetector> detector = DatabaseTypedSPILoader.findService(ReplicationLagDetector.class, storageUnit.getStorageType());
+        if (detector.isPresent()) {
+            replicationLags.put(dataSourceName, new ReplicationLag(storageUnit, detector.get()));
+        } else {
+            log.warn("Replication lag of read data source `{}` with storage type `{}` can not be detected, max replication lag is ignored for it.",
+                    dataSourceName, null == storageUnit.getStorageType() ? null : storageUnit.getStorageType().getType());
+        }
+    }
+    
+    /**
+     * Judge whether replication lag of read data source is monitored.
+     *
+     * @param dataSourceName read data source name
+     * @return monitored or not
+     */
+    public boolean isMonitored(final String dataSourceName) {
+        return replicationLags.containsKey(dataSourceName);
+    }
+    
+    /**
+     * Find replication lag.
+     *
+     * @param dataSourceName read data source name
+     * @return replication lag in milliseconds, empty if it is unknown
+     */
+    public Optional<Long> findReplicationLagMilliseconds(final String dataSourceName) {
+        ReplicationLag replicationLag = replicationLags.get(dataSourceName);
+        if (null == replicationLag) {
+            return Optional.empty();
+        }
+        long nowNanos = System.nanoTime();
+        if (replicationLag.startRefresh(nowNanos)) {
+            EXECUTOR_SERVICE.execute(replicationLag::refresh);
+        }
+        return replicationLag.getLagMilliseconds(nowNanos);
+    }
+}
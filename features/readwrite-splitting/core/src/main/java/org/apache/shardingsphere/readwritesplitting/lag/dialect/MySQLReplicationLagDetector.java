@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.dialect;
+
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagDetector;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Optional;
+
+/**
+ * Replication lag detector for MySQL.
+ */
+public final class MySQLReplicationLagDetector implements ReplicationLagDetector {
+    
+    @Override
+    public Optional<Long> detect(final Connection connection, final int queryTimeoutSeconds) throws SQLException {
+        try {
+            return detect(connection, queryTimeoutSeconds, "SHOW REPLICA STATUS", "Seconds_Behind_Source");
+        } catch (final SQLTimeoutException ex) {
+            throw ex;
+        } catch (final SQLException ignored) {
+            return detect(connection, queryTimeoutSeconds, "SHOW SLAVE STATUS", "Seconds_Behind_Master");
+        }
+    }
+    
+    private Optional<Long> detect(final Connection connection, final int queryTimeoutSeconds, final String sql, final String columnLabel) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(queryTimeoutSeconds);
+            try (ResultSet resultSet = statement.executeQuery(sql)) {
+                if (!resultSet.next()) {
+                    return Optional.empty();
+                }
+                long result = resultSet.getLong(columnLabel);
+                return resultSet.wasNull() ? Optional.empty() : Optional.of(result * 1000L);
+            }
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.readwritesplitting.route.standard;
 
-import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.readwritesplitting.route.standard.filter.ReadDataSourcesFilter;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
 
@@ -31,16 +30,19 @@ public final class StandardReadwriteSplittingDataSourceRouter {
     /**
      * Route to data source.
      *
+     * <p>Route to write data source if no read data source is available.</p>
+     *
      * @param rule Readwrite-splitting data source rule
      * @return routed data source name
      */
     public String route(final ReadwriteSplittingDataSourceGroupRule rule) {
-        return rule.getLoadBalancer().getTargetName(rule.getName(), getFilteredReadDataSources(rule));
+        List<String> filteredReadDataSources = getFilteredReadDataSources(rule);
+        return filteredReadDataSources.isEmpty() ? rule.getWriteDataSource() : rule.getLoadBalancer().getTargetName(rule.getName(), filteredReadDataSources);
     }
     
     private List<String> getFilteredReadDataSources(final ReadwriteSplittingDataSourceGroupRule rule) {
         List<String> result = rule.getReadwriteSplittingGroup().getReadDataSources();
-        for (ReadDataSourcesFilter each : ShardingSphereServiceLoader.getServiceInstances(ReadDataSourcesFilter.class)) {
+        for (ReadDataSourcesFilter each : rule.getReadDataSourcesFilters()) {
             result = each.filter(rule, result);
         }
         return result;
@@ -19,12 +19,16 @@ package org.apache.shardingsphere.readwritesplitting.rule;
 
 import lombok.Getter;
 import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingDataSourceGroupRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.transaction.TransactionalReadQueryStrategy;
 import org.apache.shardingsphere.readwritesplitting.group.ReadwriteSplittingGroup;
 import org.apache.shardingsphere.readwritesplitting.group.type.StaticReadwriteSplittingGroup;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagMonitor;
+import org.apache.shardingsphere.readwritesplitting.route.standard.filter.ReadDataSourcesFilter;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 
 /**
@@ -43,12 +47,26 @@ public final class ReadwriteSplittingDataSourceGroupRule {
     
     private final Collection<String> disabledDataSourceNames = new HashSet<>();
     
+    private final long maxReplicationLagMilliseconds;
+    
+    private final ReplicationLagMonitor replicationLagMonitor;
+    
+    private final Collection<ReadDataSourcesFilter> readDataSourcesFilters;
+    
     public ReadwriteSplittingDataSourceGroupRule(final ReadwriteSplittingDataSourceGroupRuleConfiguration config,
                                                  final TransactionalReadQueryStrategy transactionalReadQueryStrategy, final LoadBalanceAlgorithm loadBalancer) {
+        this(config, transactionalReadQueryStrategy, loadBalancer, new ReplicationLagMonitor(Collections.emptyList(), Collections.emptyMap()));
+    }
+    
+    public ReadwriteSplittingDataSourceGroupRule(final ReadwriteSplittingDataSourceGroupRuleConfiguration config, final TransactionalReadQueryStrategy transactionalReadQueryStrategy,
+                                                 final LoadBalanceAlgorithm loadBalancer, final ReplicationLagMonitor replicationLagMonitor) {
         name = config.getName();
         this.transactionalReadQueryStrategy = transactionalReadQueryStrategy;
         this.loadBalancer = loadBalancer;
         readwriteSplittingGroup = createStaticReadwriteSplittingGroup(config);
+        maxReplicationLagMilliseconds = config.getMaxReplicationLagMilliseconds();
+        this.replicationLagMonitor = replicationLagMonitor;
+        readDataSourcesFilters = ShardingSphereServiceLoader.getServiceInstances(ReadDataSourcesFilter.class);
     }
     
     private StaticReadwriteSplittingGroup createStaticReadwriteSplittingGroup(final ReadwriteSplittingDataSourceGroupRuleConfiguration config) {
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicationLagTest {
+    
+    @Test
+    void assertRefresh() throws SQLException {
+        StorageUnit storageUnit = mock(StorageUnit.class, RETURNS_DEEP_STUBS);
+        Connection connection = mock(Connection.class);
+        when(storageUnit.getDataSource().getConnection()).thenReturn(connection);
+        ReplicationLagDetector detector = mock(ReplicationLagDetector.class);
+        when(detector.detect(eq(connection), anyInt())).thenReturn(Optional.of(100L));
+        ReplicationLag actual = new ReplicationLag(storageUnit, detector);
+        long nowNanos = System.nanoTime();
+        assertFalse(actual.getLagMilliseconds(nowNanos).isPresent());
+        assertTrue(actual.startRefresh(nowNanos));
+        assertFalse(actual.startRefresh(nowNanos + TimeUnit.SECONDS.toNanos(2L)));
+        actual.refresh();
+        assertThat(actual.getLagMilliseconds(System.nanoTime()), is(Optional.of(100L)));
+        assertFalse(actual.startRefresh(nowNanos));
+        assertTrue(actual.startRefresh(nowNanos + TimeUnit.SECONDS.toNanos(2L)));
+        assertFalse(actual.getLagMilliseconds(System.nanoTime() + TimeUnit.MINUTES.toNanos(1L)).isPresent());
+    }
+    
+    @Test
+    void assertRefreshFailed() throws SQLException {
+        StorageUnit storageUnit = mock(StorageUnit.class, RETURNS_DEEP_STUBS);
+        Connection connection = mock(Connection.class);
+        when(storageUnit.getDataSource().getConnection()).thenReturn(connection);
+        ReplicationLagDetector detector = mock(ReplicationLagDetector.class);
+        when(detector.detect(eq(connection), anyInt())).thenReturn(Optional.of(100L)).thenThrow(SQLException.class);
+        ReplicationLag actual = new ReplicationLag(storageUnit, detector);
+        actual.refresh();
+        assertThat(actual.getLagMilliseconds(System.nanoTime()), is(Optional.of(100L)));
+        actual.refresh();
+        assertFalse(actual.getLagMilliseconds(System.nanoTime()).isPresent());
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.dialect;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MySQLReplicationLagDetectorTest {
+    
+    @Test
+    void assertDetect() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("Seconds_Behind_Source")).thenReturn(3L);
+        when(connection.createStatement().executeQuery("SHOW REPLICA STATUS")).thenReturn(resultSet);
+        assertThat(new MySQLReplicationLagDetector().detect(connection, 3), is(Optional.of(3000L)));
+        verify(connection.createStatement()).setQueryTimeout(3);
+    }
+    
+    @Test
+    void assertDetectWithTimeout() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.createStatement().executeQuery("SHOW REPLICA STATUS")).thenThrow(SQLTimeoutException.class);
+        assertThrows(SQLTimeoutException.class, () -> new MySQLReplicationLagDetector().detect(connection, 3));
+        verify(connection.createStatement(), never()).executeQuery("SHOW SLAVE STATUS");
+    }
+    
+    @Test
+    void assertDetectWithLegacyStatement() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.createStatement().executeQuery("SHOW REPLICA STATUS")).thenThrow(SQLException.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("Seconds_Behind_Master")).thenReturn(0L);
+        when(resultSet.wasNull()).thenReturn(true);
+        when(connection.createStatement().executeQuery("SHOW SLAVE STATUS")).thenReturn(resultSet);
+        assertFalse(new MySQLReplicationLagDetector().detect(connection, 3).isPresent());
+    }
+    
+    @Test
+    void assertDetectWithoutReplication() throws SQLException {
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.createStatement().executeQuery("SHOW REPLICA STATUS")).thenReturn(mock(ResultSet.class));
+        assertFalse(new MySQLReplicationLagDetector().detect(connection, 3).isPresent());
+    }
+}
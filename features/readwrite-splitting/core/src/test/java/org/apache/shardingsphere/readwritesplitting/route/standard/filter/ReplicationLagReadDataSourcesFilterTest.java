@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.standard.filter;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.random.RandomLoadBalanceAlgorithm;
+import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingDataSourceGroupRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagMonitor;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+import org.apache.shardingsphere.readwritesplitting.transaction.TransactionalReadQueryStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicationLagReadDataSourcesFilterTest {
+    
+    private final List<String> readDataSources = Arrays.asList("read_ds_0", "read_ds_1", "read_ds_2");
+    
+    @Test
+    void assertFilterWithoutMaxReplicationLag() {
+        ReadwriteSplittingDataSourceGroupRule rule = new ReadwriteSplittingDataSourceGroupRule(
+                new ReadwriteSplittingDataSourceGroupRuleConfiguration("test_pr", "write_ds", readDataSources, null), TransactionalReadQueryStrategy.DYNAMIC, new RandomLoadBalanceAlgorithm());
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(rule, readDataSources), is(readDataSources));
+    }
+    
+    @Test
+    void assertFilterWithMaxReplicationLag() {
+        ReplicationLagMonitor replicationLagMonitor = mock(ReplicationLagMonitor.class);
+        when(replicationLagMonitor.isMonitored(anyString())).thenReturn(true);
+        when(replicationLagMonitor.findReplicationLagMilliseconds("read_ds_0")).thenReturn(Optional.of(500L));
+        when(replicationLagMonitor.findReplicationLagMilliseconds("read_ds_1")).thenReturn(Optional.of(2000L));
+        when(replicationLagMonitor.findReplicationLagMilliseconds("read_ds_2")).thenReturn(Optional.empty());
+        ReadwriteSplittingDataSourceGroupRule rule = new ReadwriteSplittingDataSourceGroupRule(
+                new ReadwriteSplittingDataSourceGroupRuleConfiguration("test_pr", "write_ds", readDataSources, TransactionalReadQueryStrategy.DYNAMIC, null, 1000L),
+                TransactionalReadQueryStrategy.DYNAMIC, new RandomLoadBalanceAlgorithm(), replicationLagMonitor);
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(rule, readDataSources), is(Collections.singletonList("read_ds_0")));
+    }
+    
+    @Test
+    void assertFilterWithUnmonitoredReadDataSource() {
+        ReplicationLagMonitor replicationLagMonitor = mock(ReplicationLagMonitor.class);
+        when(replicationLagMonitor.isMonitored("read_ds_0")).thenReturn(true);
+        when(replicationLagMonitor.findReplicationLagMilliseconds("read_ds_0")).thenReturn(Optional.of(2000L));
+        ReadwriteSplittingDataSourceGroupRule rule = new ReadwriteSplittingDataSourceGroupRule(
+                new ReadwriteSplittingDataSourceGroupRuleConfiguration("test_pr", "write_ds", readDataSources, TransactionalReadQueryStrategy.DYNAMIC, null, 1000L),
+                TransactionalReadQueryStrategy.DYNAMIC, new RandomLoadBalanceAlgorithm(), replicationLagMonitor);
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(rule, readDataSources), is(Arrays.asList("read_ds_1", "read_ds_2")));
+    }
+}
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfigurat
 import org.apache.shardingsphere.infra.yaml.config.pojo.rule.YamlRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.config.ReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingDataSourceGroupRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.transaction.TransactionalReadQueryStrategy;
 import org.apache.shardingsphere.readwritesplitting.yaml.config.YamlReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.test.it.yaml.YamlRuleConfigurationIT;
 
@@ -42,7 +43,8 @@ class ReadwriteSplittingRuleConfigurationYamlIT extends YamlRuleConfigurationIT
     private static ReadwriteSplittingRuleConfiguration getExpectedRuleConfiguration() {
         Collection<ReadwriteSplittingDataSourceGroupRuleConfiguration> dataSourceGroups = Arrays.asList(
                 new ReadwriteSplittingDataSourceGroupRuleConfiguration("ds_0", "write_ds_0", Arrays.asList("write_ds_0_read_0", "write_ds_0_read_1"), "roundRobin"),
-                new ReadwriteSplittingDataSourceGroupRuleConfiguration("ds_1", "write_ds_1", Arrays.asList("write_ds_1_read_0", "write_ds_1_read_1"), "random"));
+                new ReadwriteSplittingDataSourceGroupRuleConfiguration("ds_1", "write_ds_1", Arrays.asList("write_ds_1_read_0", "write_ds_1_read_1"), TransactionalReadQueryStrategy.DYNAMIC, "random",
+                        1000L));
         Map<String, AlgorithmConfiguration> loadBalancers = new LinkedHashMap<>(2, 1F);
         loadBalancers.put("random", new AlgorithmConfiguration("RANDOM", new Properties()));
         loadBalancers.put("roundRobin", new AlgorithmConfiguration("ROUND_ROBIN", new Properties()));
@@ -69,5 +71,6 @@ class ReadwriteSplittingRuleConfigurationYamlIT extends YamlRuleConfigurationIT
     private void assertReadwriteSplittingRuleForDs1(final YamlReadwriteSplittingRuleConfiguration actual) {
         assertThat(actual.getDataSourceGroups().get("ds_1").getWriteDataSourceName(), is("write_ds_1"));
         assertThat(actual.getDataSourceGroups().get("ds_1").getLoadBalancerName(), is("random"));
+        assertThat(actual.getDataSourceGroups().get("ds_1").getMaxReplicationLagMilliseconds(), is(1000L));
     }
 }
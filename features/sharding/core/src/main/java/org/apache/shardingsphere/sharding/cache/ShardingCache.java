@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.cache;
 import lombok.Getter;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheConfiguration;
 import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableChecker;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteBucketCache;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCache;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.timeservice.core.rule.TimestampServiceRule;
@@ -41,11 +42,14 @@ public final class ShardingCache {
     
     private final ShardingRouteCache routeCache;
     
+    private final ShardingRouteBucketCache routeBucketCache;
+    
     public ShardingCache(final ShardingCacheConfiguration config, final ShardingRule shardingRule) {
         configuration = config;
         this.shardingRule = shardingRule;
         timestampServiceRule = new TimestampServiceRule(new DefaultTimestampServiceConfigurationBuilder().build());
         routeCacheableChecker = new ShardingRouteCacheableChecker(this);
         routeCache = new ShardingRouteCache(config.getRouteCache());
+        routeBucketCache = new ShardingRouteBucketCache(config.getRouteCache());
     }
 }
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteBucketCache;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteBucketCacheKey;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Cached standard sharding algorithm.
+ * Precise sharding values of numeric type are routed through {@link ShardingRouteBucketCache}, so that IN list and multi-shard queries only look up buckets of values which have been routed before.
+ */
+@RequiredArgsConstructor
+public final class CachedStandardShardingAlgorithm implements StandardShardingAlgorithm<Comparable<?>> {
+    
+    private final StandardShardingAlgorithm<Comparable<?>> delegate;
+    
+    private final ShardingRouteBucketCache bucketCache;
+    
+    @Override
+    public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
+        if (!(shardingValue.getValue() instanceof Number)) {
+            return delegate.doSharding(availableTargetNames, shardingValue);
+        }
+        ShardingRouteBucketCacheKey key = new ShardingRouteBucketCacheKey(availableTargetNames, shardingValue.getLogicTableName(), shardingValue.getColumnName(), shardingValue.getValue());
+        return bucketCache.get(key, unused -> delegate.doSharding(availableTargetNames, shardingValue));
+    }
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
+        return delegate.doSharding(availableTargetNames, shardingValue);
+    }
+    
+    @Override
+    public Optional<String> getAlgorithmStructure(final String dataNodePrefix, final String shardingColumn) {
+        return delegate.getAlgorithmStructure(dataNodePrefix, shardingColumn);
+    }
+    
+    @Override
+    public String getType() {
+        return delegate.getType();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
+
+import java.util.function.Function;
+
+/**
+ * Cache for sharding route buckets, which records the target name each sharding value is routed to.
+ */
+public final class ShardingRouteBucketCache {
+    
+    private final Cache<ShardingRouteBucketCacheKey, String> cache;
+    
+    public ShardingRouteBucketCache(final ShardingCacheOptionsConfiguration cacheOptions) {
+        cache = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize()).recordStats().build();
+    }
+    
+    /**
+     * Get cached target name or load and cache it.
+     *
+     * @param key cache key
+     * @param loader loader of target name
+     * @return target name
+     */
+    public String get(final ShardingRouteBucketCacheKey key, final Function<ShardingRouteBucketCacheKey, String> loader) {
+        return cache.get(key, loader);
+    }
+    
+    /**
+     * Get statistics.
+     *
+     * @return statistics
+     */
+    public ShardingRouteCacheStatistics getStatistics() {
+        return new ShardingRouteCacheStatistics(cache.stats(), cache.estimatedSize());
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Key of sharding route bucket cache.
+ * Available target names are compared by identity, because they are held by sharding table and never changed after sharding rule built.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ShardingRouteBucketCacheKey {
+    
+    private final Collection<String> availableTargetNames;
+    
+    private final String logicTableName;
+    
+    private final String columnName;
+    
+    private final Comparable<?> shardingValue;
+    
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (null == object || getClass() != object.getClass()) {
+            return false;
+        }
+        ShardingRouteBucketCacheKey other = (ShardingRouteBucketCacheKey) object;
+        return availableTargetNames == other.availableTargetNames
+                && Objects.equals(logicTableName, other.logicTableName) && Objects.equals(columnName, other.columnName) && Objects.equals(shardingValue, other.shardingValue);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(availableTargetNames), logicTableName, columnName, shardingValue);
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.JDBCMemoryQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractColumnarMemoryQueryResult;
 import org.apache.shardingsphere.infra.merge.result.impl.stream.StreamMergedResult;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.sharding.exception.connection.CursorNameNotFoundException;
@@ -133,8 +134,12 @@ public final class FetchStreamMergedResult extends StreamMergedResult {
     }
     
     private boolean isEmptyOrderByValue(final OrderByValue orderByValue) {
-        return orderByValue.getQueryResult() instanceof JDBCMemoryQueryResult && 0L == ((JDBCMemoryQueryResult) orderByValue.getQueryResult()).getRowCount()
-                && null == ((JDBCMemoryQueryResult) orderByValue.getQueryResult()).getCurrentRow();
+        QueryResult queryResult = orderByValue.getQueryResult();
+        if (queryResult instanceof JDBCMemoryQueryResult) {
+            return 0L == ((JDBCMemoryQueryResult) queryResult).getRowCount() && null == ((JDBCMemoryQueryResult) queryResult).getCurrentRow();
+        }
+        return queryResult instanceof AbstractColumnarMemoryQueryResult && 0L == ((AbstractColumnarMemoryQueryResult) queryResult).getRowCount()
+                && !((AbstractColumnarMemoryQueryResult) queryResult).isOnRow();
     }
     
     private void addOrderedResultSetsToQueue(final List<FetchOrderByValueGroup> fetchOrderByValueGroups, final List<QueryResult> queryResults) {
@@ -175,11 +180,19 @@ public final class FetchStreamMergedResult extends StreamMergedResult {
     private long getGroupRowCount(final FetchOrderByValueGroup fetchOrderByValueGroup) {
         long result = 0L;
         for (OrderByValue each : fetchOrderByValueGroup.getOrderByValues()) {
-            if (each.getQueryResult() instanceof JDBCMemoryQueryResult) {
-                JDBCMemoryQueryResult queryResult = (JDBCMemoryQueryResult) each.getQueryResult();
-                result += null == queryResult.getCurrentRow() ? queryResult.getRowCount() : queryResult.getRowCount() + 1;
-            }
+            result += getRemainingRowCount(each.getQueryResult());
         }
         return result;
     }
+    
+    private long getRemainingRowCount(final QueryResult queryResult) {
+        if (queryResult instanceof JDBCMemoryQueryResult) {
+            return null == ((JDBCMemoryQueryResult) queryResult).getCurrentRow() ? ((JDBCMemoryQueryResult) queryResult).getRowCount() : ((JDBCMemoryQueryResult) queryResult).getRowCount() + 1;
+        }
+        if (queryResult instanceof AbstractColumnarMemoryQueryResult) {
+            return ((AbstractColumnarMemoryQueryResult) queryResult).isOnRow() ? ((AbstractColumnarMemoryQueryResult) queryResult).getRowCount() + 1
+                    : ((AbstractColumnarMemoryQueryResult) queryResult).getRowCount();
+        }
+        return 0L;
+    }
 }
@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hash aggregator for group by.
+ *
+ * <p>
+ * Keeps one entry for every group, which holds the first row of the group and its aggregation units, and estimates retained heap of the entries.
+ * Value buffers of aggregation projections are reused for every row.
+ * </p>
+ */
+final class GroupByHashAggregator {
+    
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+    
+    private static final int AGGREGATION_UNIT_BYTES = 48;
+    
+    private static final int REFERENCE_BYTES = 8;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final AggregationProjection[] aggregationProjections;
+    
+    private final List<List<Comparable<?>>> aggregationValues;
+    
+    private final Map<GroupByValue, GroupByAggregationEntry> entries = new HashMap<>(1024, 1F);
+    
+    @Getter
+    private long estimatedBytes;
+    
+    GroupByHashAggregator(final SelectStatementContext selectStatementContext) {
+        this.selectStatementContext = selectStatementContext;
+        aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections().toArray(new AggregationProjection[0]);
+        aggregationValues = new ArrayList<>(aggregationProjections.length);
+        for (AggregationProjection each : aggregationProjections) {
+            aggregationValues.add(new ArrayList<>(Math.max(1, each.getDerivedAggregationProjections().size())));
+        }
+    }
+    
+    /**
+     * Create group by value of current row.
+     *
+     * @param queryResult query result
+     * @return group by value
+     * @throws SQLException SQL exception
+     */
+    GroupByValue createGroupByValue(final QueryResult queryResult) throws SQLException {
+        return new GroupByValue(queryResult, selectStatementContext.getGroupByContext().getItems());
+    }
+    
+    /**
+     * Judge whether group exists.
+     *
+     * @param groupByValue group by value
+     * @return group exists or not
+     */
+    boolean contains(final GroupByValue groupByValue) {
+        return entries.containsKey(groupByValue);
+    }
+    
+    /**
+     * Get size of groups.
+     *
+     * @return size of groups
+     */
+    int size() {
+        return entries.size();
+    }
+    
+    /**
+     * Aggregate current row into its group, the group will be created if absent.
+     *
+     * @param queryResult query result
+     * @param groupByValue group by value of current row
+     * @throws SQLException SQL exception
+     */
+    void aggregate(final QueryResult queryResult, final GroupByValue groupByValue) throws SQLException {
+        GroupByAggregationEntry entry = entries.get(groupByValue);
+        if (null == entry) {
+            entry = createEntry(queryResult);
+            entries.put(groupByValue, entry);
+        }
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            List<Comparable<?>> values = aggregationValues.get(i);
+            values.clear();
+            if (aggregationProjections[i].getDerivedAggregationProjections().isEmpty()) {
+                values.add(getAggregationValue(queryResult, aggregationProjections[i]));
+            } else {
+                for (AggregationProjection each : aggregationProjections[i].getDerivedAggregationProjections()) {
+                    values.add(getAggregationValue(queryResult, each));
+                }
+            }
+            entry.aggregationUnits[i].merge(values);
+        }
+    }
+    
+    private GroupByAggregationEntry createEntry(final QueryResult queryResult) throws SQLException {
+        MemoryQueryResultRow row = new MemoryQueryResultRow(queryResult);
+        AggregationUnit[] aggregationUnits = new AggregationUnit[aggregationProjections.length];
+        for (int i = 0; i < aggregationProjections.length; i++) {
+            AggregationProjection each = aggregationProjections[i];
+            aggregationUnits[i] = AggregationUnitFactory.create(each.getType(), each instanceof AggregationDistinctProjection, each.getSeparator().orElse(null));
+        }
+        estimatedBytes += estimateBytes(row, queryResult.getMetaData().getColumnCount());
+        return new GroupByAggregationEntry(row, aggregationUnits);
+    }
+    
+    private long estimateBytes(final MemoryQueryResultRow row, final int columnCount) {
+        long result = ENTRY_OVERHEAD_BYTES + (long) AGGREGATION_UNIT_BYTES * aggregationProjections.length;
+        for (int i = 1; i <= columnCount; i++) {
+            result += REFERENCE_BYTES * 2 + estimateBytes(row.getCell(i));
+        }
+        return result;
+    }
+    
+    private long estimateBytes(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return 40L + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return 16L + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return 64L;
+        }
+        return 24L;
+    }
+    
+    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
+        Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
+        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
+        return (Comparable<?>) result;
+    }
+    
+    /**
+     * Get sorted result rows and clear groups.
+     *
+     * @param comparator comparator of result rows
+     * @param withEmptyAggregationRow whether to return one row for aggregations without group by if there is no group
+     * @return sorted result rows
+     */
+    List<MemoryQueryResultRow> getSortedRows(final Comparator<MemoryQueryResultRow> comparator, final boolean withEmptyAggregationRow) {
+        if (entries.isEmpty()) {
+            return withEmptyAggregationRow && isEmptyAggregationRowRequired() ? Collections.singletonList(new MemoryQueryResultRow(generateEmptyAggregationData())) : Collections.emptyList();
+        }
+        List<MemoryQueryResultRow> result = new ArrayList<>(entries.size());
+        for (GroupByAggregationEntry each : entries.values()) {
+            for (int i = 0; i < aggregationProjections.length; i++) {
+                each.row.setCell(aggregationProjections[i].getIndex(), each.aggregationUnits[i].getResult());
+            }
+            result.add(each.row);
+        }
+        entries.clear();
+        estimatedBytes = 0L;
+        result.sort(comparator);
+        return result;
+    }
+    
+    private boolean isEmptyAggregationRowRequired() {
+        return selectStatementContext.getGroupByContext().getItems().isEmpty() && 0 != aggregationProjections.length;
+    }
+    
+    private Object[] generateEmptyAggregationData() {
+        List<Projection> projections = new LinkedList<>(selectStatementContext.getProjectionsContext().getExpandProjections());
+        Object[] result = new Object[projections.size()];
+        for (int i = 0; i < projections.size(); i++) {
+            if (projections.get(i) instanceof AggregationProjection && AggregationType.COUNT == ((AggregationProjection) projections.get(i)).getType()) {
+                result[i] = 0;
+            }
+        }
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class GroupByAggregationEntry {
+        
+        private final MemoryQueryResultRow row;
+        
+        private final AggregationUnit[] aggregationUnits;
+    }
+}
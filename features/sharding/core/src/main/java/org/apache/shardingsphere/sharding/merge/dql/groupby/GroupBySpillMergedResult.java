@@ -0,0 +1,403 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.GroupBySpillStatistics;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SpillFileReader;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SpillFileWriter;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SpillQueryResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SpillValueCodec;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+/**
+ * Spillable merged result for group by.
+ *
+ * <p>
+ * Groups are aggregated in memory until estimated bytes of the hash table exceed the memory limit.
+ * After that, groups already in memory keep aggregating, rows of other groups are hash partitioned into spill files.
+ * Groups in memory are written as a sorted run, every partition is aggregated recursively with another hash salt and written as sorted runs,
+ * and the sorted runs are merged when iterating.
+ * Spill files are deleted once their runs are drained or the merged result is closed.
+ * Spilled bytes and peak size of hash tables are logged when the merged result is closed.
+ * It is only used when every column has a SQL type supported by {@link SpillValueCodec}, so that an unsupported value cannot fail the query after spilling starts.
+ * </p>
+ */
+@Slf4j
+public final class GroupBySpillMergedResult implements MergedResult {
+    
+    private static final Collection<Class<?>> INVALID_MEMORY_TYPES = new HashSet<>(Arrays.asList(Blob.class, Clob.class, Reader.class, InputStream.class, SQLXML.class));
+    
+    private static final int PARTITION_COUNT = 16;
+    
+    private static final int MAX_SPILL_LEVEL = 4;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final long memoryLimit;
+    
+    private final GroupByRowComparator comparator;
+    
+    private final QueryResultMetaData metaData;
+    
+    private final int columnCount;
+    
+    @Getter
+    private final GroupBySpillStatistics statistics = new GroupBySpillStatistics();
+    
+    private Iterator<MemoryQueryResultRow> memoryRows;
+    
+    private final PriorityQueue<SpillRunCursor> spillRunCursors;
+    
+    private SpillRunCursor currentSpillRunCursor;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    private boolean closed;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                    final ShardingSphereSchema schema, final long memoryLimit) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.memoryLimit = memoryLimit;
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty()
+                ? Collections.emptyList()
+                : GroupByMemoryMergedResult.getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
+        comparator = new GroupByRowComparator(selectStatementContext, valueCaseSensitive);
+        metaData = queryResults.isEmpty() ? null : queryResults.iterator().next().getMetaData();
+        columnCount = null == metaData ? 0 : metaData.getColumnCount();
+        List<File> spillRuns = new LinkedList<>();
+        try {
+            memoryRows = aggregate(queryResults, 0, spillRuns).iterator();
+            spillRunCursors = spillRuns.isEmpty() ? null : openSpillRuns(spillRuns);
+        } catch (final IOException ex) {
+            spillRuns.forEach(this::delete);
+            throw new SQLException(ex);
+        } catch (final SQLException ex) {
+            spillRuns.forEach(this::delete);
+            throw ex;
+        }
+    }
+    
+    /**
+     * Judge whether rows of query results can be spilled.
+     *
+     * @param queryResults query results
+     * @return can be spilled or not
+     * @throws SQLException SQL exception
+     */
+    public static boolean isSpillable(final List<QueryResult> queryResults) throws SQLException {
+        if (queryResults.isEmpty()) {
+            return true;
+        }
+        QueryResultMetaData metaData = queryResults.get(0).getMetaData();
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (!SpillValueCodec.isSupportedSQLType(metaData.getColumnType(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private List<MemoryQueryResultRow> aggregate(final List<QueryResult> queryResults, final int level, final List<File> spillRuns) throws SQLException, IOException {
+        GroupByHashAggregator aggregator = new GroupByHashAggregator(selectStatementContext);
+        SpillFileWriter[] partitions = null;
+        try {
+            try {
+                for (QueryResult each : queryResults) {
+                    while (each.next()) {
+                        GroupByValue groupByValue = aggregator.createGroupByValue(each);
+                        if (null == partitions && level < MAX_SPILL_LEVEL && aggregator.getEstimatedBytes() > memoryLimit) {
+                            partitions = new SpillFileWriter[PARTITION_COUNT];
+                        }
+                        if (null == partitions || aggregator.contains(groupByValue)) {
+                            aggregator.aggregate(each, groupByValue);
+                        } else {
+                            getPartition(partitions, groupByValue, level).write(new MemoryQueryResultRow(each));
+                        }
+                    }
+                }
+            } finally {
+                closePartitions(partitions);
+            }
+            statistics.recordHashTable(aggregator.size(), aggregator.getEstimatedBytes());
+            List<MemoryQueryResultRow> result = aggregator.getSortedRows(comparator, 0 == level && null == partitions);
+            if (null == partitions) {
+                return result;
+            }
+            spillRuns.add(writeSpillRun(result));
+            for (SpillFileWriter each : partitions) {
+                if (null != each) {
+                    aggregatePartition(each.getFile(), level + 1, spillRuns);
+                }
+            }
+            return Collections.emptyList();
+        } finally {
+            deletePartitions(partitions);
+        }
+    }
+    
+    private SpillFileWriter getPartition(final SpillFileWriter[] partitions, final GroupByValue groupByValue, final int level) throws IOException {
+        int index = getPartitionIndex(groupByValue, level);
+        if (null == partitions[index]) {
+            partitions[index] = new SpillFileWriter(columnCount);
+        }
+        return partitions[index];
+    }
+    
+    private int getPartitionIndex(final GroupByValue groupByValue, final int level) {
+        int result = groupByValue.hashCode() ^ level * 0x9E3779B9;
+        result ^= result >>> 16;
+        result *= 0x85EBCA6B;
+        result ^= result >>> 13;
+        result *= 0xC2B2AE35;
+        result ^= result >>> 16;
+        return result & PARTITION_COUNT - 1;
+    }
+    
+    private void closePartitions(final SpillFileWriter[] partitions) throws IOException {
+        if (null == partitions) {
+            return;
+        }
+        for (SpillFileWriter each : partitions) {
+            if (null != each) {
+                each.close();
+                statistics.recordSpillFile(each.getFile().length());
+            }
+        }
+    }
+    
+    private void deletePartitions(final SpillFileWriter[] partitions) {
+        if (null == partitions) {
+            return;
+        }
+        for (SpillFileWriter each : partitions) {
+            if (null != each) {
+                delete(each.getFile());
+            }
+        }
+    }
+    
+    private void aggregatePartition(final File partition, final int level, final List<File> spillRuns) throws SQLException, IOException {
+        try (SpillQueryResult queryResult = new SpillQueryResult(partition, metaData)) {
+            List<MemoryQueryResultRow> rows = aggregate(Collections.singletonList(queryResult), level, spillRuns);
+            if (!rows.isEmpty()) {
+                spillRuns.add(writeSpillRun(rows));
+            }
+        }
+    }
+    
+    private File writeSpillRun(final List<MemoryQueryResultRow> rows) throws IOException {
+        File result;
+        try (SpillFileWriter writer = new SpillFileWriter(columnCount)) {
+            for (MemoryQueryResultRow each : rows) {
+                writer.write(each);
+            }
+            result = writer.getFile();
+        }
+        statistics.recordSpillFile(result.length());
+        return result;
+    }
+    
+    private PriorityQueue<SpillRunCursor> openSpillRuns(final List<File> spillRuns) throws IOException {
+        PriorityQueue<SpillRunCursor> result = new PriorityQueue<>(spillRuns.size(), (o1, o2) -> comparator.compare(o1.currentRow, o2.currentRow));
+        Collection<SpillRunCursor> openedCursors = new LinkedList<>();
+        try {
+            for (File each : spillRuns) {
+                SpillRunCursor cursor = new SpillRunCursor(each, new SpillFileReader(each, columnCount));
+                openedCursors.add(cursor);
+                if (cursor.next()) {
+                    result.offer(cursor);
+                } else {
+                    cursor.close();
+                }
+            }
+        } catch (final IOException ex) {
+            closeSpillRunCursors(openedCursors);
+            throw ex;
+        }
+        return result;
+    }
+    
+    private void closeSpillRunCursors(final Collection<SpillRunCursor> cursors) throws IOException {
+        IOException result = null;
+        for (SpillRunCursor each : cursors) {
+            try {
+                each.close();
+            } catch (final IOException ex) {
+                result = ex;
+            }
+        }
+        if (null != result) {
+            throw result;
+        }
+    }
+    
+    private void delete(final File file) {
+        if (!file.delete() && file.exists()) {
+            file.deleteOnExit();
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (null == spillRunCursors) {
+            if (memoryRows.hasNext()) {
+                currentRow = memoryRows.next();
+                return true;
+            }
+            return false;
+        }
+        try {
+            if (null != currentSpillRunCursor) {
+                if (currentSpillRunCursor.next()) {
+                    spillRunCursors.offer(currentSpillRunCursor);
+                } else {
+                    currentSpillRunCursor.close();
+                }
+            }
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+        currentSpillRunCursor = spillRunCursors.poll();
+        if (null == currentSpillRunCursor) {
+            return false;
+        }
+        currentRow = currentSpillRunCursor.currentRow;
+        return true;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        ShardingSpherePreconditions.checkNotContains(INVALID_MEMORY_TYPES, type, () -> new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName())));
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        // TODO implement with calendar
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Get Character stream");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        if (!closed) {
+            closed = true;
+            logStatistics();
+        }
+        memoryRows = Collections.emptyIterator();
+        if (null == spillRunCursors) {
+            return;
+        }
+        Collection<SpillRunCursor> cursors = new LinkedList<>(spillRunCursors);
+        if (null != currentSpillRunCursor) {
+            cursors.add(currentSpillRunCursor);
+        }
+        spillRunCursors.clear();
+        currentSpillRunCursor = null;
+        try {
+            closeSpillRunCursors(cursors);
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    private void logStatistics() {
+        if (0 == statistics.getSpillFileCount()) {
+            log.debug("Group by merged without spilling, peak group count: {}, peak hash table bytes: {}", statistics.getPeakGroupCount(), statistics.getPeakHashTableBytes());
+        } else {
+            log.info("Group by merged with spilling, spilled bytes: {}, spill file count: {}, peak group count: {}, peak hash table bytes: {}",
+                    statistics.getSpilledBytes(), statistics.getSpillFileCount(), statistics.getPeakGroupCount(), statistics.getPeakHashTableBytes());
+        }
+    }
+    
+    private final class SpillRunCursor {
+        
+        private final File file;
+        
+        private final SpillFileReader reader;
+        
+        private MemoryQueryResultRow currentRow;
+        
+        SpillRunCursor(final File file, final SpillFileReader reader) {
+            this.file = file;
+            this.reader = reader;
+        }
+        
+        boolean next() throws IOException {
+            Optional<Object[]> row = reader.read();
+            currentRow = row.map(MemoryQueryResultRow::new).orElse(null);
+            return row.isPresent();
+        }
+        
+        void close() throws IOException {
+            try {
+                reader.close();
+            } finally {
+                delete(file);
+            }
+        }
+    }
+}
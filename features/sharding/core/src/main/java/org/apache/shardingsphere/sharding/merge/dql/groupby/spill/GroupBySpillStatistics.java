@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Statistics of group by spilling for one query.
+ */
+@Getter
+@ToString
+public final class GroupBySpillStatistics {
+    
+    private long spilledBytes;
+    
+    private int spillFileCount;
+    
+    private int peakGroupCount;
+    
+    private long peakHashTableBytes;
+    
+    /**
+     * Record spill file.
+     *
+     * @param bytes bytes of spill file
+     */
+    public void recordSpillFile(final long bytes) {
+        spilledBytes += bytes;
+        spillFileCount++;
+    }
+    
+    /**
+     * Record size of hash table.
+     *
+     * @param groupCount group count
+     * @param estimatedBytes estimated bytes
+     */
+    public void recordHashTable(final int groupCount, final long estimatedBytes) {
+        peakGroupCount = Math.max(peakGroupCount, groupCount);
+        peakHashTableBytes = Math.max(peakHashTableBytes, estimatedBytes);
+    }
+}
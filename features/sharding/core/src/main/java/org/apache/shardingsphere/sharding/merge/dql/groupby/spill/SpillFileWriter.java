@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Spill file writer.
+ */
+public final class SpillFileWriter implements AutoCloseable {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    @Getter
+    private final File file;
+    
+    private final int columnCount;
+    
+    private final DataOutputStream output;
+    
+    @Getter
+    private long rowCount;
+    
+    public SpillFileWriter(final int columnCount) throws IOException {
+        file = Files.createTempFile("shardingsphere-group-by-", ".spill").toFile();
+        this.columnCount = columnCount;
+        output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE));
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row to be written
+     * @throws IOException IO exception
+     */
+    public void write(final Object[] row) throws IOException {
+        output.writeBoolean(true);
+        for (int i = 0; i < columnCount; i++) {
+            SpillValueCodec.write(output, row[i]);
+        }
+        rowCount++;
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row to be written
+     * @throws IOException IO exception
+     */
+    public void write(final MemoryQueryResultRow row) throws IOException {
+        output.writeBoolean(true);
+        for (int i = 1; i <= columnCount; i++) {
+            SpillValueCodec.write(output, row.getCell(i));
+        }
+        rowCount++;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        try {
+            output.writeBoolean(false);
+        } finally {
+            output.close();
+        }
+    }
+}
@@ -20,50 +20,123 @@ package org.apache.shardingsphere.sharding.merge.dql.orderby;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.OrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
 
 /**
  * Order by value.
+ *
+ * <p>
+ * Order values of current row are read into reusable key slots.
+ * Slot type of each order by item is resolved once from query result meta data,
+ * values of integral, floating point and timestamp columns are compared as primitives, others are compared by {@link CompareUtils}.
+ * </p>
  */
 public final class OrderByValue implements Comparable<OrderByValue> {
     
+    private static final byte GENERIC_SLOT = 0;
+    
+    private static final byte LONG_SLOT = 1;
+    
+    private static final byte DOUBLE_SLOT = 2;
+    
+    private static final byte TIMESTAMP_SLOT = 3;
+    
     @Getter
     private final QueryResult queryResult;
     
-    private final Collection<OrderByItem> orderByItems;
+    private final OrderByItem[] orderByItems;
     
-    private final List<Boolean> orderValuesCaseSensitive;
+    private final boolean[] ascending;
+    
+    private final NullsOrderType[] nullsOrderTypes;
+    
+    private final byte[] slotTypes;
     
     private final SelectStatementContext selectStatementContext;
     
-    private List<Comparable<?>> orderValues;
+    private final Comparable<?>[] orderValues;
+    
+    private final byte[] orderValueSlotTypes;
+    
+    private final long[] longOrderValues;
+    
+    private final double[] doubleOrderValues;
+    
+    private final int[] nanosOrderValues;
+    
+    private final boolean[] orderValuesCaseSensitive;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         this.queryResult = queryResult;
-        this.orderByItems = orderByItems;
+        this.orderByItems = orderByItems.toArray(new OrderByItem[0]);
         this.selectStatementContext = selectStatementContext;
+        int size = this.orderByItems.length;
+        ascending = new boolean[size];
+        nullsOrderTypes = new NullsOrderType[size];
+        for (int i = 0; i < size; i++) {
+            ascending[i] = OrderDirection.ASC == this.orderByItems[i].getSegment().getOrderDirection();
+            nullsOrderTypes[i] = this.orderByItems[i].getSegment().getNullsOrderType(selectStatementContext.getDatabaseType());
+        }
+        slotTypes = getSlotTypes(queryResult.getMetaData());
+        orderValues = new Comparable<?>[size];
+        orderValueSlotTypes = new byte[size];
+        longOrderValues = new long[size];
+        doubleOrderValues = new double[size];
+        nanosOrderValues = new int[size];
         orderValuesCaseSensitive = getOrderValuesCaseSensitive(schema);
     }
     
-    private List<Boolean> getOrderValuesCaseSensitive(final ShardingSphereSchema schema) throws SQLException {
-        List<Boolean> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem eachOrderByItem : orderByItems) {
-            result.add(getOrderValuesCaseSensitiveFromTables(schema, eachOrderByItem));
+    private byte[] getSlotTypes(final QueryResultMetaData metaData) throws SQLException {
+        byte[] result = new byte[orderByItems.length];
+        if (null == metaData) {
+            return result;
+        }
+        for (int i = 0; i < orderByItems.length; i++) {
+            int columnIndex = orderByItems[i].getIndex();
+            result[i] = columnIndex > 0 && columnIndex <= metaData.getColumnCount() ? getSlotType(metaData.getColumnType(columnIndex)) : GENERIC_SLOT;
+        }
+        return result;
+    }
+    
+    private byte getSlotType(final int columnType) {
+        switch (columnType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return LONG_SLOT;
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return DOUBLE_SLOT;
+            case Types.TIMESTAMP:
+                return TIMESTAMP_SLOT;
+            default:
+                return GENERIC_SLOT;
+        }
+    }
+    
+    private boolean[] getOrderValuesCaseSensitive(final ShardingSphereSchema schema) throws SQLException {
+        boolean[] result = new boolean[orderByItems.length];
+        for (int i = 0; i < orderByItems.length; i++) {
+            result[i] = getOrderValuesCaseSensitiveFromTables(schema, orderByItems[i]);
         }
         return result;
     }
@@ -99,31 +172,73 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.emptyList();
+        if (result) {
+            loadOrderValues();
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+    private void loadOrderValues() throws SQLException {
+        for (int i = 0; i < orderByItems.length; i++) {
+            Object value = queryResult.getValue(orderByItems[i].getIndex(), Object.class);
             ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Order by", value));
-            result.add((Comparable<?>) value);
+            orderValues[i] = (Comparable<?>) value;
+            orderValueSlotTypes[i] = loadSlotValue(i, value);
+        }
+    }
+    
+    private byte loadSlotValue(final int index, final Object value) {
+        switch (slotTypes[index]) {
+            case LONG_SLOT:
+                if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                    longOrderValues[index] = ((Number) value).longValue();
+                    return LONG_SLOT;
+                }
+                return GENERIC_SLOT;
+            case DOUBLE_SLOT:
+                if (value instanceof Double || value instanceof Float) {
+                    doubleOrderValues[index] = ((Number) value).doubleValue();
+                    return DOUBLE_SLOT;
+                }
+                return GENERIC_SLOT;
+            case TIMESTAMP_SLOT:
+                if (value instanceof Timestamp) {
+                    longOrderValues[index] = ((Timestamp) value).getTime();
+                    nanosOrderValues[index] = ((Timestamp) value).getNanos();
+                    return TIMESTAMP_SLOT;
+                }
+                return GENERIC_SLOT;
+            default:
+                return GENERIC_SLOT;
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue orderByValue) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtils.compareTo(orderValues.get(i), orderByValue.orderValues.get(i), each.getSegment().getOrderDirection(),
-                    each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType()), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderByItems.length; i++) {
+            int result = compareTo(orderByValue, i);
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
+    
+    private int compareTo(final OrderByValue orderByValue, final int index) {
+        byte slotType = orderValueSlotTypes[index];
+        if (GENERIC_SLOT == slotType || slotType != orderByValue.orderValueSlotTypes[index]) {
+            return CompareUtils.compareTo(orderValues[index], orderByValue.orderValues[index],
+                    ascending[index] ? OrderDirection.ASC : OrderDirection.DESC, nullsOrderTypes[index], orderValuesCaseSensitive[index]);
+        }
+        int result;
+        if (DOUBLE_SLOT == slotType) {
+            result = Double.compare(doubleOrderValues[index], orderByValue.doubleOrderValues[index]);
+        } else {
+            result = Long.compare(longOrderValues[index], orderByValue.longOrderValues[index]);
+            if (0 == result && TIMESTAMP_SLOT == slotType) {
+                result = Integer.compare(nanosOrderValues[index], orderByValue.nanosOrderValues[index]);
+            }
+        }
+        return ascending[index] ? result : -result;
+    }
 }
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Loser tree for order by values.
+ *
+ * <p>
+ * Internal nodes keep the loser of each match and node 0 keeps the overall winner,
+ * so replaying the winner after iterating costs one comparison per tree level without any allocation.
+ * The replayed order by value keeps winning ties, so rows with equal order values are drained from the same query result first.
+ * </p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private static final int SENTINEL = -1;
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] tree;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[0]);
+        exhausted = new boolean[this.orderByValues.length];
+        tree = new int[this.orderByValues.length];
+        Arrays.fill(tree, SENTINEL);
+        for (int i = this.orderByValues.length - 1; i >= 0; i--) {
+            replay(i);
+        }
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == tree.length || exhausted[tree[0]];
+    }
+    
+    /**
+     * Get winner.
+     *
+     * @return order by value of winner
+     */
+    public OrderByValue getWinner() {
+        return orderByValues[tree[0]];
+    }
+    
+    /**
+     * Iterate winner to next data and replay matches.
+     *
+     * @return has next data
+     * @throws SQLException SQL exception
+     */
+    public boolean nextWinner() throws SQLException {
+        int winner = tree[0];
+        if (!orderByValues[winner].next()) {
+            exhausted[winner] = true;
+        }
+        replay(winner);
+        return !isEmpty();
+    }
+    
+    private void replay(final int leaf) {
+        int winner = leaf;
+        for (int node = (leaf + tree.length) >> 1; node > 0; node >>= 1) {
+            if (isWinner(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean isWinner(final int challenger, final int defender) {
+        if (SENTINEL == challenger) {
+            return true;
+        }
+        if (SENTINEL == defender || exhausted[challenger]) {
+            return false;
+        }
+        if (exhausted[defender]) {
+            return true;
+        }
+        return orderByValues[challenger].compareTo(orderByValues[defender]) < 0;
+    }
+}
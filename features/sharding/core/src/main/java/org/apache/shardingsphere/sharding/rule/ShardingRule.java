@@ -21,6 +21,7 @@ import com.cedarsoftware.util.CaseInsensitiveMap;
 import com.cedarsoftware.util.CaseInsensitiveSet;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
@@ -50,9 +51,15 @@ import org.apache.shardingsphere.sharding.api.config.strategy.sharding.NoneShard
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 import org.apache.shardingsphere.sharding.cache.ShardingCache;
+import org.apache.shardingsphere.sharding.cache.checker.algorithm.CacheableShardingAlgorithmChecker;
+import org.apache.shardingsphere.sharding.cache.route.CachedStandardShardingAlgorithm;
 import org.apache.shardingsphere.sharding.constant.ShardingOrder;
 import org.apache.shardingsphere.sharding.exception.metadata.ShardingTableRuleNotFoundException;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
 import org.apache.shardingsphere.sharding.rule.attribute.ShardingDataNodeRuleAttribute;
 import org.apache.shardingsphere.sharding.rule.attribute.ShardingTableNamesRuleAttribute;
 import org.apache.shardingsphere.sharding.rule.checker.ShardingRuleChecker;
@@ -68,6 +75,7 @@ import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.predicate
 import javax.sql.DataSource;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -99,6 +107,12 @@ public final class ShardingRule implements DatabaseRule {
     
     private final Map<String, BindingTableRule> bindingTableRules = new CaseInsensitiveMap<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Map<ShardingTable, ShardingStrategy> databaseShardingStrategies = new HashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<ShardingTable, ShardingStrategy> tableShardingStrategies = new HashMap<>();
+    
     private final ShardingStrategyConfiguration defaultDatabaseShardingStrategyConfig;
     
     private final ShardingStrategyConfiguration defaultTableShardingStrategyConfig;
@@ -138,6 +152,10 @@ public final class ShardingRule implements DatabaseRule {
             ((ComputeNodeInstanceContextAware) defaultKeyGenerateAlgorithm).setComputeNodeInstanceContext(computeNodeInstanceContext);
         }
         shardingCache = null == ruleConfig.getShardingCache() ? null : new ShardingCache(ruleConfig.getShardingCache(), this);
+        for (ShardingTable each : shardingTables.values()) {
+            databaseShardingStrategies.put(each, createShardingStrategy(getDatabaseShardingStrategyConfiguration(each)));
+            tableShardingStrategies.put(each, createShardingStrategy(getTableShardingStrategyConfiguration(each)));
+        }
         // TODO check sharding rule configuration according to aggregated data sources
         Map<String, DataSource> aggregatedDataSources = new RuleMetaData(builtRules).findAttribute(AggregatedDataSourceRuleAttribute.class)
                 .map(AggregatedDataSourceRuleAttribute::getAggregatedDataSources).orElseGet(() -> PhysicalDataSourceAggregator.getAggregatedDataSources(dataSources, builtRules));
@@ -267,6 +285,41 @@ public final class ShardingRule implements DatabaseRule {
         return null == shardingTable.getTableShardingStrategyConfig() ? defaultTableShardingStrategyConfig : shardingTable.getTableShardingStrategyConfig();
     }
     
+    /**
+     * Get database sharding strategy.
+     *
+     * @param shardingTable sharding table
+     * @return database sharding strategy
+     */
+    public ShardingStrategy getDatabaseShardingStrategy(final ShardingTable shardingTable) {
+        ShardingStrategy result = databaseShardingStrategies.get(shardingTable);
+        return null == result ? createShardingStrategy(getDatabaseShardingStrategyConfiguration(shardingTable)) : result;
+    }
+    
+    /**
+     * Get table sharding strategy.
+     *
+     * @param shardingTable sharding table
+     * @return table sharding strategy
+     */
+    public ShardingStrategy getTableShardingStrategy(final ShardingTable shardingTable) {
+        ShardingStrategy result = tableShardingStrategies.get(shardingTable);
+        return null == result ? createShardingStrategy(getTableShardingStrategyConfiguration(shardingTable)) : result;
+    }
+    
+    private ShardingStrategy createShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfig) {
+        return null == shardingStrategyConfig ? new NoneShardingStrategy()
+                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, getRoutingShardingAlgorithm(shardingAlgorithms.get(shardingStrategyConfig.getShardingAlgorithmName())),
+                        defaultShardingColumn);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private ShardingAlgorithm getRoutingShardingAlgorithm(final ShardingAlgorithm shardingAlgorithm) {
+        return null != shardingCache && shardingAlgorithm instanceof StandardShardingAlgorithm && CacheableShardingAlgorithmChecker.isCacheableShardingAlgorithm(shardingAlgorithm)
+                ? new CachedStandardShardingAlgorithm((StandardShardingAlgorithm<Comparable<?>>) shardingAlgorithm, shardingCache.getRouteBucketCache())
+                : shardingAlgorithm;
+    }
+    
     /**
      * Get audit strategy configuration.
      *
@@ -27,6 +27,8 @@ import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
 import org.apache.shardingsphere.infra.datanode.DataNodeUtils;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.api.config.rule.ShardingAutoTableRuleConfiguration;
 import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.audit.ShardingAuditStrategyConfiguration;
@@ -54,7 +56,7 @@ import java.util.stream.Collectors;
  * Sharding table.
  */
 @Getter
-@ToString(exclude = {"dataNodeIndexMap", "actualTables", "actualDataSourceNames", "dataSourceDataNode", "tableDataNode"})
+@ToString(exclude = {"dataNodeIndexMap", "actualTables", "actualDataSourceNames", "dataSourceDataNode", "tableDataNode", "routeUnits"})
 public final class ShardingTable {
     
     private final String logicTable;
@@ -82,6 +84,9 @@ public final class ShardingTable {
     
     private final Map<String, Collection<String>> dataSourceToTablesMap = new HashMap<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Map<String, RouteUnit>> routeUnits = new HashMap<>();
+    
     private final DataNodeInfo dataSourceDataNode;
     
     private final DataNodeInfo tableDataNode;
@@ -164,6 +169,11 @@ public final class ShardingTable {
     
     private void addActualTable(final String datasourceName, final String tableName) {
         dataSourceToTablesMap.computeIfAbsent(datasourceName, key -> new LinkedHashSet<>()).add(tableName);
+        routeUnits.computeIfAbsent(datasourceName, key -> new HashMap<>()).put(tableName, createRouteUnit(logicTable, datasourceName, tableName));
+    }
+    
+    private RouteUnit createRouteUnit(final String logicTableName, final String dataSourceName, final String actualTableName) {
+        return new RouteUnit(new RouteMapper(dataSourceName, dataSourceName), Collections.singleton(new RouteMapper(logicTableName, actualTableName)));
     }
     
     private boolean isEmptyDataNodes(final List<String> dataNodes) {
@@ -231,6 +241,22 @@ public final class ShardingTable {
         return dataNodeIndexMap.getOrDefault(new DataNode(dataSourceName, actualTableName), -1);
     }
     
+    /**
+     * Get route unit of actual data node.
+     * Route units of configured data nodes with the same logic table name as configured are created once and shared,
+     * other route units are created on demand to keep the logic table name as it is written in SQL.
+     *
+     * @param logicTableName logic table name in SQL
+     * @param dataSourceName data source name
+     * @param actualTableName actual table name
+     * @return route unit
+     */
+    public RouteUnit getRouteUnit(final String logicTableName, final String dataSourceName, final String actualTableName) {
+        Map<String, RouteUnit> tableRouteUnits = logicTable.equals(logicTableName) ? routeUnits.get(dataSourceName) : null;
+        RouteUnit result = null == tableRouteUnits ? null : tableRouteUnits.get(actualTableName);
+        return null == result ? createRouteUnit(logicTableName, dataSourceName, actualTableName) : result;
+    }
+    
     /**
      * Is existed.
      *
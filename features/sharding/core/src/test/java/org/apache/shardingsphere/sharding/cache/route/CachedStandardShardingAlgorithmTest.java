@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route;
+
+import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
+import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
+import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteBucketCache;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachedStandardShardingAlgorithmTest {
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertDoShardingWithNumericValue() {
+        StandardShardingAlgorithm<Comparable<?>> delegate = mock(StandardShardingAlgorithm.class);
+        Collection<String> availableTargetNames = Arrays.asList("ds_0", "ds_1");
+        PreciseShardingValue<Comparable<?>> shardingValue = new PreciseShardingValue<>("t_order", "order_id", mock(DataNodeInfo.class), 1);
+        when(delegate.doSharding(availableTargetNames, shardingValue)).thenReturn("ds_1");
+        CachedStandardShardingAlgorithm algorithm = new CachedStandardShardingAlgorithm(delegate, new ShardingRouteBucketCache(new ShardingCacheOptionsConfiguration(false, 1, 10)));
+        assertThat(algorithm.doSharding(availableTargetNames, shardingValue), is("ds_1"));
+        assertThat(algorithm.doSharding(availableTargetNames, shardingValue), is("ds_1"));
+        verify(delegate).doSharding(availableTargetNames, shardingValue);
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertDoShardingWithNotNumericValue() {
+        StandardShardingAlgorithm<Comparable<?>> delegate = mock(StandardShardingAlgorithm.class);
+        Collection<String> availableTargetNames = Arrays.asList("ds_0", "ds_1");
+        PreciseShardingValue<Comparable<?>> shardingValue = new PreciseShardingValue<>("t_order", "order_id", mock(DataNodeInfo.class), "foo");
+        when(delegate.doSharding(availableTargetNames, shardingValue)).thenReturn("ds_0");
+        CachedStandardShardingAlgorithm algorithm = new CachedStandardShardingAlgorithm(delegate, new ShardingRouteBucketCache(new ShardingCacheOptionsConfiguration(false, 1, 10)));
+        assertThat(algorithm.doSharding(availableTargetNames, shardingValue), is("ds_0"));
+        assertThat(algorithm.doSharding(availableTargetNames, shardingValue), is("ds_0"));
+        verify(delegate, times(2)).doSharding(availableTargetNames, shardingValue);
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route.cache;
+
+import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ShardingRouteBucketCacheTest {
+    
+    @Test
+    void assertGet() {
+        ShardingRouteBucketCache cache = new ShardingRouteBucketCache(new ShardingCacheOptionsConfiguration(false, 1, 10));
+        Collection<String> availableTargetNames = Arrays.asList("ds_0", "ds_1");
+        assertThat(cache.get(new ShardingRouteBucketCacheKey(availableTargetNames, "t_order", "order_id", 1), unused -> "ds_1"), is("ds_1"));
+        assertThat(cache.get(new ShardingRouteBucketCacheKey(availableTargetNames, "t_order", "order_id", 1), unused -> "ds_0"), is("ds_1"));
+        assertThat(cache.get(new ShardingRouteBucketCacheKey(Arrays.asList("ds_0", "ds_1"), "t_order", "order_id", 1), unused -> "ds_0"), is("ds_0"));
+        ShardingRouteCacheStatistics actual = cache.getStatistics();
+        assertThat(actual.getHitCount(), is(1L));
+        assertThat(actual.getMissCount(), is(2L));
+    }
+}
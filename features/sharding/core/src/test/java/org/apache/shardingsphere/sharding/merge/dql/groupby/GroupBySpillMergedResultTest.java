@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.GroupBySpillStatistics;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GroupBySpillMergedResultTest {
+    
+    private static final int GROUP_COUNT = 200;
+    
+    @Test
+    void assertNextWithSpill() throws SQLException {
+        int originalSpillFileCount = getSpillFileCount();
+        MergedResult actual = merge(1L);
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertAggregatedRows(actual);
+        assertThat(getSpillFileCount(), is(originalSpillFileCount));
+        GroupBySpillStatistics statistics = ((GroupBySpillMergedResult) actual).getStatistics();
+        assertTrue(statistics.getSpillFileCount() > 0);
+        assertTrue(statistics.getSpilledBytes() > 0L);
+        assertTrue(statistics.getPeakGroupCount() > 0);
+        assertTrue(statistics.getPeakHashTableBytes() > 0L);
+        actual.close();
+    }
+    
+    @Test
+    void assertNextWithoutSpill() throws SQLException {
+        int originalSpillFileCount = getSpillFileCount();
+        MergedResult actual = merge(Long.MAX_VALUE);
+        assertThat(getSpillFileCount(), is(originalSpillFileCount));
+        assertAggregatedRows(actual);
+        GroupBySpillStatistics statistics = ((GroupBySpillMergedResult) actual).getStatistics();
+        assertThat(statistics.getSpillFileCount(), is(0));
+        assertThat(statistics.getSpilledBytes(), is(0L));
+        assertThat(statistics.getPeakGroupCount(), is(GROUP_COUNT));
+    }
+    
+    @Test
+    void assertMergeWithUnsupportedColumnType() throws SQLException {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), 1L);
+        QueryResult queryResult = createQueryResult(0);
+        when(queryResult.getMetaData().getColumnType(3)).thenReturn(Types.OTHER);
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult, createQueryResult(1)), createSelectStatementContext(database), database, mock(ConnectionContext.class));
+        assertThat(actual, instanceOf(GroupByMemoryMergedResult.class));
+    }
+    
+    @Test
+    void assertCloseBeforeSpillRunsDrained() throws SQLException {
+        int originalSpillFileCount = getSpillFileCount();
+        MergedResult actual = merge(1L);
+        assertTrue(actual.next());
+        actual.close();
+        assertThat(getSpillFileCount(), is(originalSpillFileCount));
+        assertFalse(actual.next());
+        actual.close();
+    }
+    
+    @Test
+    void assertNextWithEmptyQueryResults() throws SQLException {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        MergedResult actual = new GroupBySpillMergedResult(Collections.emptyList(), createSelectStatementContext(database), mock(), 1L);
+        assertFalse(actual.next());
+    }
+    
+    private int getSpillFileCount() {
+        return Objects.requireNonNull(new File(System.getProperty("java.io.tmpdir")).list((dir, name) -> name.startsWith("shardingsphere-group-by-"))).length;
+    }
+    
+    private MergedResult merge(final long memoryLimit) throws SQLException {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), memoryLimit);
+        return resultMerger.merge(Arrays.asList(createQueryResult(0), createQueryResult(1), createQueryResult(2)), createSelectStatementContext(database), database, mock(ConnectionContext.class));
+    }
+    
+    private void assertAggregatedRows(final MergedResult actual) throws SQLException {
+        for (int id = GROUP_COUNT; id > 0; id--) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(3)));
+            assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(id));
+            assertThat(actual.getValue(3, Object.class), is(id));
+            assertThat(actual.getValue(4, Object.class), is(new BigDecimal(3)));
+            assertThat(actual.getValue(5, Object.class), is(new BigDecimal(id * 3)));
+        }
+        assertFalse(actual.next());
+    }
+    
+    private SelectStatementContext createSelectStatementContext(final ShardingSphereDatabase database) {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "COUNT(*)"));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.AVG, "AVG(num)"));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, NullsOrderType.FIRST))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, NullsOrderType.FIRST))));
+        return new SelectStatementContext(
+                new ShardingSphereMetaData(Collections.singleton(database), mock(), mock(), mock()), Collections.emptyList(), selectStatement, "foo_db", Collections.emptyList());
+    }
+    
+    private QueryResult createQueryResult(final int offset) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(5);
+        when(result.getMetaData().getColumnType(anyInt())).thenReturn(Types.DECIMAL);
+        when(result.getMetaData().getColumnType(3)).thenReturn(Types.INTEGER);
+        when(result.getMetaData().getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(result.getMetaData().getColumnLabel(2)).thenReturn("AVG(num)");
+        when(result.getMetaData().getColumnLabel(3)).thenReturn("id");
+        when(result.getMetaData().getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
+        when(result.getMetaData().getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
+        AtomicInteger cursor = new AtomicInteger();
+        when(result.next()).thenAnswer(invocation -> cursor.incrementAndGet() <= GROUP_COUNT);
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> getValue((GROUP_COUNT + cursor.get() + offset * 7) % GROUP_COUNT + 1, invocation.getArgument(0)));
+        return result;
+    }
+    
+    private Object getValue(final int id, final int columnIndex) {
+        switch (columnIndex) {
+            case 3:
+                return id;
+            case 5:
+                return new BigDecimal(id);
+            default:
+                return 1;
+        }
+    }
+}
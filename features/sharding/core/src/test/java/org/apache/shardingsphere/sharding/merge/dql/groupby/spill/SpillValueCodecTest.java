@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpillValueCodecTest {
+    
+    @Test
+    void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1700000000123L);
+        timestamp.setNanos(123456789);
+        List<Object> values = Arrays.asList(true, (byte) 1, (short) 2, 3, 4L, 5.5F, 6.6D, new BigDecimal("-7.70"), new BigInteger("8"), "foo_值", "foo_" + (char) 0xD800,
+                timestamp, new Date(1700000000000L), new Time(3600000L), new java.util.Date(1700000000000L), LocalDate.of(2024, 1, 1), LocalTime.of(1, 2, 3, 4),
+                LocalDateTime.of(2024, 1, 1, 1, 2, 3, 4), OffsetDateTime.of(2024, 1, 1, 1, 2, 3, 4, ZoneOffset.ofHours(8)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (DataOutputStream dataOutput = new DataOutputStream(output)) {
+            SpillValueCodec.write(dataOutput, null);
+            SpillValueCodec.write(dataOutput, new byte[]{1, 2});
+            for (Object each : values) {
+                SpillValueCodec.write(dataOutput, each);
+            }
+        }
+        try (DataInputStream dataInput = new DataInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            assertThat(SpillValueCodec.read(dataInput), is(nullValue()));
+            assertThat(SpillValueCodec.read(dataInput), is(new byte[]{1, 2}));
+            for (Object each : values) {
+                Object actual = SpillValueCodec.read(dataInput);
+                assertThat(actual, is(each));
+                assertThat(actual.getClass(), is(each.getClass()));
+            }
+        }
+    }
+    
+    @Test
+    void assertIsSupportedSQLType() {
+        assertTrue(SpillValueCodec.isSupportedSQLType(Types.VARCHAR));
+        assertTrue(SpillValueCodec.isSupportedSQLType(Types.TIMESTAMP_WITH_TIMEZONE));
+        assertFalse(SpillValueCodec.isSupportedSQLType(Types.OTHER));
+        assertFalse(SpillValueCodec.isSupportedSQLType(Types.BLOB));
+    }
+    
+    @Test
+    void assertWriteWithUnsupportedValue() {
+        assertThrows(NotSerializableException.class, () -> SpillValueCodec.write(new DataOutputStream(new ByteArrayOutputStream()), UUID.randomUUID()));
+    }
+}
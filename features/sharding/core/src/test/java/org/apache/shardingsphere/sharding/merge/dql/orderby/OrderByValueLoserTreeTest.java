@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderByValueLoserTreeTest {
+    
+    private SelectStatementContext selectStatementContext;
+    
+    private Collection<OrderByItem> orderByItems;
+    
+    @BeforeEach
+    void setUp() {
+        IndexOrderByItemSegment orderByItemSegment = new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.FIRST);
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(orderByItemSegment)));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(
+                Collections.singleton(database), mock(ResourceMetaData.class), mock(RuleMetaData.class), mock(ConfigurationProperties.class));
+        selectStatementContext = new SelectStatementContext(metaData, Collections.emptyList(), selectStatement, "foo_db", Collections.emptyList());
+        OrderByItem orderByItem = new OrderByItem(orderByItemSegment);
+        orderByItem.setIndex(1);
+        orderByItems = Collections.singleton(orderByItem);
+    }
+    
+    @Test
+    void assertIsEmptyWithoutOrderByValues() {
+        assertTrue(new OrderByValueLoserTree(Collections.emptyList()).isEmpty());
+    }
+    
+    @Test
+    void assertMerge() throws SQLException {
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(Arrays.asList(
+                createOrderByValue(3L, 6L, 9L), createOrderByValue(1L, 4L, 7L, 10L), createOrderByValue(2L, 5L), createOrderByValue(8L), createOrderByValue(0L, 11L)));
+        assertThat(merge(loserTree), is(Arrays.asList(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L)));
+    }
+    
+    @Test
+    void assertMergeWithSingleOrderByValue() throws SQLException {
+        assertThat(merge(new OrderByValueLoserTree(Collections.singletonList(createOrderByValue(1L, 2L, 3L)))), is(Arrays.asList(1L, 2L, 3L)));
+    }
+    
+    @Test
+    void assertMergeWithEqualValues() throws SQLException {
+        OrderByValue orderByValue1 = createOrderByValue(1L, 2L);
+        OrderByValue orderByValue2 = createOrderByValue(1L, 2L);
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(Arrays.asList(orderByValue1, orderByValue2));
+        assertThat(loserTree.getWinner(), is(orderByValue1));
+        assertTrue(loserTree.nextWinner());
+        assertThat(loserTree.getWinner(), is(orderByValue2));
+    }
+    
+    private List<Long> merge(final OrderByValueLoserTree loserTree) throws SQLException {
+        List<Long> result = new ArrayList<>();
+        while (!loserTree.isEmpty()) {
+            result.add((Long) loserTree.getWinner().getQueryResult().getValue(1, Object.class));
+            loserTree.nextWinner();
+        }
+        assertFalse(loserTree.nextWinner());
+        return result;
+    }
+    
+    private OrderByValue createOrderByValue(final Long... values) throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(queryResult.getMetaData().getColumnCount()).thenReturn(1);
+        when(queryResult.getMetaData().getColumnType(1)).thenReturn(Types.BIGINT);
+        Iterator<Long> iterator = Arrays.asList(values).iterator();
+        AtomicReference<Long> currentValue = new AtomicReference<>();
+        when(queryResult.next()).thenAnswer(invocation -> {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            currentValue.set(iterator.next());
+            return true;
+        });
+        when(queryResult.getValue(1, Object.class)).thenAnswer(invocation -> currentValue.get());
+        OrderByValue result = new OrderByValue(queryResult, orderByItems, selectStatementContext, mock(ShardingSphereSchema.class));
+        assertTrue(result.next());
+        return result;
+    }
+}
@@ -90,6 +90,19 @@ class ShardingStandardRouteEngineTest {
         assertThat(routeUnits.get(0).getTableMappers().iterator().next().getLogicName(), is("t_order"));
     }
     
+    @Test
+    void assertRouteWithDifferentCaseLogicTableName() {
+        ShardingStandardRouteEngine routeEngine = createShardingStandardRouteEngine("T_ORDER",
+                ShardingRouteEngineFixtureBuilder.createShardingConditions("t_order"), mock(SQLStatementContext.class), new HintValueContext());
+        RouteContext routeContext = routeEngine.route(ShardingRouteEngineFixtureBuilder.createBasedShardingRule());
+        List<RouteUnit> routeUnits = new ArrayList<>(routeContext.getRouteUnits());
+        assertThat(routeContext.getRouteUnits().size(), is(1));
+        assertThat(routeUnits.get(0).getTableMappers().iterator().next().getActualName(), is("t_order_1"));
+        assertThat(routeUnits.get(0).getTableMappers().iterator().next().getLogicName(), is("T_ORDER"));
+        assertThat(routeContext.getActualDataSourceNames(), is(Collections.singleton("ds_1")));
+        assertThat(routeUnits.get(0).getActualTableNames("T_ORDER"), is(Collections.singleton("t_order_1")));
+    }
+    
     // TODO remove @Disabled when autoTables support config actualDataNodes in #33364
     @Disabled("FIXME")
     @Test
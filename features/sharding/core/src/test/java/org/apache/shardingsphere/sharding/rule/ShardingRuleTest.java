@@ -48,6 +48,9 @@ import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardS
 import org.apache.shardingsphere.sharding.exception.metadata.DuplicateShardingActualDataNodeException;
 import org.apache.shardingsphere.sharding.exception.metadata.InvalidBindingTablesException;
 import org.apache.shardingsphere.sharding.exception.metadata.ShardingTableRuleNotFoundException;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.BinaryOperationExpression;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.ExpressionSegment;
@@ -78,6 +81,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -780,6 +784,28 @@ class ShardingRuleTest {
         assertThat(tableShardingStrategyConfig.getShardingAlgorithmName(), is("table_inline"));
     }
     
+    @Test
+    void assertGetDatabaseShardingStrategy() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTables().add(createTableRuleConfiguration("LOGIC_TABLE", "ds_${0..1}.table_${0..2}"));
+        shardingRuleConfig.getShardingAlgorithms().put("database_inline", new AlgorithmConfiguration("CORE.STANDARD.FIXTURE", new Properties()));
+        ShardingRule actual = new ShardingRule(shardingRuleConfig, createDataSources(), mock(ComputeNodeInstanceContext.class), Collections.emptyList());
+        ShardingTable shardingTable = actual.getShardingTable("Logic_Table");
+        ShardingStrategy databaseShardingStrategy = actual.getDatabaseShardingStrategy(shardingTable);
+        assertThat(databaseShardingStrategy, instanceOf(StandardShardingStrategy.class));
+        assertThat(databaseShardingStrategy.getShardingColumns().iterator().next(), is("user_id"));
+        assertThat(actual.getDatabaseShardingStrategy(shardingTable), sameInstance(databaseShardingStrategy));
+    }
+    
+    @Test
+    void assertGetTableShardingStrategy() {
+        ShardingRule actual = createMaximumShardingRule();
+        ShardingTable shardingTable = actual.getShardingTable("Logic_Table");
+        ShardingStrategy tableShardingStrategy = actual.getTableShardingStrategy(shardingTable);
+        assertThat(tableShardingStrategy, instanceOf(NoneShardingStrategy.class));
+        assertThat(actual.getTableShardingStrategy(shardingTable), sameInstance(tableShardingStrategy));
+    }
+    
     @Test
     void assertIsGenerateKeyColumn() {
         ShardingRule actual = createMaximumShardingRule();
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.sharding.rule;
 
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.datanode.DataNodeInfo;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.sharding.algorithm.sharding.mod.ModShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.config.rule.ShardingAutoTableRuleConfiguration;
@@ -41,6 +43,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -132,6 +135,32 @@ class ShardingTableTest {
         assertThat(actual.findActualTableIndex("ds2", "table_2"), is(-1));
     }
     
+    @Test
+    void assertGetRouteUnit() {
+        ShardingTable actual = new ShardingTable(new ShardingTableRuleConfiguration("LOGIC_TABLE", "ds${0..1}.table_${0..2}"), Arrays.asList("ds0", "ds1"), null);
+        RouteUnit routeUnit = actual.getRouteUnit("LOGIC_TABLE", "ds1", "table_2");
+        assertThat(routeUnit.getDataSourceMapper(), is(new RouteMapper("ds1", "ds1")));
+        assertThat(routeUnit.getTableMappers(), is(Collections.singleton(new RouteMapper("LOGIC_TABLE", "table_2"))));
+        assertThat(actual.getRouteUnit("LOGIC_TABLE", "ds1", "table_2"), sameInstance(routeUnit));
+    }
+    
+    @Test
+    void assertGetRouteUnitWithDifferentCaseLogicTableName() {
+        ShardingTable actual = new ShardingTable(new ShardingTableRuleConfiguration("LOGIC_TABLE", "ds${0..1}.table_${0..2}"), Arrays.asList("ds0", "ds1"), null);
+        RouteUnit routeUnit = actual.getRouteUnit("logic_table", "ds1", "table_2");
+        assertThat(routeUnit.getDataSourceMapper(), is(new RouteMapper("ds1", "ds1")));
+        assertThat(routeUnit.getTableMappers(), is(Collections.singleton(new RouteMapper("logic_table", "table_2"))));
+        assertThat(actual.getRouteUnit("LOGIC_TABLE", "ds1", "table_2").getTableMappers(), is(Collections.singleton(new RouteMapper("LOGIC_TABLE", "table_2"))));
+    }
+    
+    @Test
+    void assertGetRouteUnitWithNotConfiguredDataNode() {
+        ShardingTable actual = new ShardingTable(new ShardingTableRuleConfiguration("LOGIC_TABLE", "ds${0..1}.table_${0..2}"), Arrays.asList("ds0", "ds1"), null);
+        RouteUnit routeUnit = actual.getRouteUnit("LOGIC_TABLE", "ds2", "table_3");
+        assertThat(routeUnit.getDataSourceMapper(), is(new RouteMapper("ds2", "ds2")));
+        assertThat(routeUnit.getTableMappers(), is(Collections.singleton(new RouteMapper("LOGIC_TABLE", "table_3"))));
+    }
+    
     @Test
     void assertActualTableNameExisted() {
         ShardingTable actual = new ShardingTable(new ShardingTableRuleConfiguration("LOGIC_TABLE", "ds${0..1}.table_${0..2}"), Arrays.asList("ds0", "ds1"), null);
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.algorithm.keygen.snowflake;
 
+import com.google.common.primitives.Longs;
 import lombok.Setter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
@@ -31,11 +32,12 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Snowflake key generate algorithm.
@@ -47,6 +49,8 @@ import java.util.concurrent.atomic.AtomicReference;
  *     10 bits worker process id.
  *     12 bits auto increment offset in one mills
  * </pre>
+ *
+ * <p>Last milliseconds and last sequence are packed into one atomic long and updated by CAS, keys of a batch are reserved as whole sequence blocks.</p>
  */
 public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, ComputeNodeInstanceContextAware {
     
@@ -72,6 +76,8 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private static final int DEFAULT_WORKER_ID = 0;
     
+    private static final long WAIT_NEXT_TIME_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100L);
+    
     @Setter
     private static TimeService timeService = new TimeService();
     
@@ -79,9 +85,7 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private final AtomicInteger sequenceOffset = new AtomicInteger(-1);
     
-    private final AtomicLong sequence = new AtomicLong();
-    
-    private final AtomicLong lastMillis = new AtomicLong();
+    private final AtomicLong state = new AtomicLong();
     
     private Properties props;
     
@@ -122,55 +126,63 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     @Override
     public Collection<Long> generateKeys(final AlgorithmSQLContext context, final int keyGenerateCount) {
-        Collection<Long> result = new LinkedList<>();
-        for (int index = 0; index < keyGenerateCount; index++) {
-            result.add(generateKey());
+        return Longs.asList(generateKeys(keyGenerateCount));
+    }
+    
+    private long[] generateKeys(final int keyGenerateCount) {
+        long[] result = new long[keyGenerateCount];
+        int generatedCount = 0;
+        while (generatedCount < keyGenerateCount) {
+            generatedCount += reserveKeys(result, generatedCount);
         }
         return result;
     }
     
-    private synchronized Long generateKey() {
+    private int reserveKeys(final long[] keys, final int offset) {
         long currentMillis = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMillis)) {
-            currentMillis = timeService.getCurrentMillis();
+        long lastState = state.get();
+        long lastMillis = lastState >>> SEQUENCE_BITS;
+        if (lastMillis > currentMillis) {
+            waitTolerateTimeDifference(lastMillis, currentMillis);
+            return 0;
         }
-        if (lastMillis.get() == currentMillis) {
-            sequence.set(sequence.incrementAndGet() & SEQUENCE_MASK);
-            if (0L == sequence.get()) {
-                currentMillis = waitUntilNextTime(currentMillis);
+        long firstSequence;
+        if (lastMillis == currentMillis) {
+            if (SEQUENCE_MASK == (lastState & SEQUENCE_MASK)) {
+                waitUntilNextTime(lastMillis);
+                return 0;
             }
+            firstSequence = (lastState & SEQUENCE_MASK) + 1L;
         } else {
-            vibrateSequenceOffset();
-            sequence.set(sequenceOffset.get());
+            firstSequence = vibrateSequenceOffset();
+        }
+        int result = (int) Math.min(keys.length - offset, SEQUENCE_MASK - firstSequence + 1L);
+        if (!state.compareAndSet(lastState, (currentMillis << SEQUENCE_BITS) | (firstSequence + result - 1L))) {
+            return 0;
         }
-        lastMillis.set(currentMillis);
-        return ((currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence.get();
+        long keyPrefix = ((currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS);
+        for (int i = 0; i < result; i++) {
+            keys[offset + i] = keyPrefix | (firstSequence + i);
+        }
+        return result;
     }
     
     @SneakyThrows(InterruptedException.class)
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMillis) {
-        if (lastMillis.get() <= currentMillis) {
-            return false;
-        }
-        long timeDifferenceMillis = lastMillis.get() - currentMillis;
+    private void waitTolerateTimeDifference(final long lastMillis, final long currentMillis) {
+        long timeDifferenceMillis = lastMillis - currentMillis;
         ShardingSpherePreconditions.checkState(timeDifferenceMillis < maxTolerateTimeDifferenceMillis,
-                () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastMillis.get(), currentMillis));
+                () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.", lastMillis, currentMillis));
         Thread.sleep(timeDifferenceMillis);
-        return true;
     }
     
-    private long waitUntilNextTime(final long lastTime) {
-        long result = timeService.getCurrentMillis();
-        while (result <= lastTime) {
-            result = timeService.getCurrentMillis();
+    private void waitUntilNextTime(final long lastMillis) {
+        while (timeService.getCurrentMillis() <= lastMillis) {
+            LockSupport.parkNanos(WAIT_NEXT_TIME_PARK_NANOS);
         }
-        return result;
     }
     
-    private void vibrateSequenceOffset() {
-        if (!sequenceOffset.compareAndSet(maxVibrationOffset, 0)) {
-            sequenceOffset.incrementAndGet();
-        }
+    private long vibrateSequenceOffset() {
+        return sequenceOffset.updateAndGet(each -> each >= maxVibrationOffset ? 0 : each + 1);
     }
     
     private int getWorkerId() {
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency;
+
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.StorageUnitsAware;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.latency.statistics.DataSourceExecutionStatistics;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.latency.statistics.DataSourceExecutionStatisticsRegistry;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency aware load balance algorithm.
+ *
+ * <p>Picks two random targets and routes to the one with lower latency weighted by its in-flight executions.
+ * The loser is ejected temporarily if its latency exceeds the winner's by the ejection latency ratio.</p>
+ */
+public final class LatencyAwareLoadBalanceAlgorithm implements LoadBalanceAlgorithm, StorageUnitsAware {
+    
+    private static final String EJECTION_LATENCY_RATIO_KEY = "ejection-latency-ratio";
+    
+    private static final String EJECTION_MILLISECONDS_KEY = "ejection-milliseconds";
+    
+    private static final double DEFAULT_EJECTION_LATENCY_RATIO = 3D;
+    
+    private static final long DEFAULT_EJECTION_MILLISECONDS = 30000L;
+    
+    private static final long MIN_EJECTION_SAMPLE_COUNT = 10L;
+    
+    private final Map<String, DataSourceExecutionStatistics> statistics = new ConcurrentHashMap<>();
+    
+    private double ejectionLatencyRatio;
+    
+    private long ejectionNanos;
+    
+    private volatile Map<String, StorageUnit> storageUnits = Collections.emptyMap();
+    
+    @Override
+    public void init(final Properties props) {
+        ejectionLatencyRatio = getEjectionLatencyRatio(props);
+        ejectionNanos = TimeUnit.MILLISECONDS.toNanos(getEjectionMilliseconds(props));
+    }
+    
+    private double getEjectionLatencyRatio(final Properties props) {
+        String value = props.getProperty(EJECTION_LATENCY_RATIO_KEY);
+        if (null == value) {
+            return DEFAULT_EJECTION_LATENCY_RATIO;
+        }
+        double result;
+        try {
+            result = Double.parseDouble(value);
+        } catch (final NumberFormatException ex) {
+            throw new AlgorithmInitializationException(this, "%s `%s` should be number.", EJECTION_LATENCY_RATIO_KEY, value);
+        }
+        ShardingSpherePreconditions.checkState(result > 1D, () -> new AlgorithmInitializationException(this, "%s `%s` should be greater than 1.", EJECTION_LATENCY_RATIO_KEY, value));
+        return result;
+    }
+    
+    private long getEjectionMilliseconds(final Properties props) {
+        String value = props.getProperty(EJECTION_MILLISECONDS_KEY);
+        if (null == value) {
+            return DEFAULT_EJECTION_MILLISECONDS;
+        }
+        long result;
+        try {
+            result = Long.parseLong(value);
+        } catch (final NumberFormatException ex) {
+            throw new AlgorithmInitializationException(this, "%s `%s` should be number.", EJECTION_MILLISECONDS_KEY, value);
+        }
+        ShardingSpherePreconditions.checkState(result >= 0L, () -> new AlgorithmInitializationException(this, "%s `%s` should not be negative.", EJECTION_MILLISECONDS_KEY, value));
+        return result;
+    }
+    
+    @Override
+    public void setStorageUnits(final Map<String, StorageUnit> storageUnits) {
+        this.storageUnits = storageUnits;
+        statistics.clear();
+    }
+    
+    @Override
+    public String getTargetName(final String groupName, final List<String> availableTargetNames) {
+        int size = availableTargetNames.size();
+        if (1 == size) {
+            return availableTargetNames.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(size);
+        int secondIndex = (firstIndex + 1 + random.nextInt(size - 1)) % size;
+        DataSourceExecutionStatistics first = getStatistics(availableTargetNames.get(firstIndex));
+        DataSourceExecutionStatistics second = getStatistics(availableTargetNames.get(secondIndex));
+        long nowNanos = System.nanoTime();
+        boolean firstAvailable = first.isAvailable(nowNanos);
+        boolean secondAvailable = second.isAvailable(nowNanos);
+        if (!firstAvailable && !secondAvailable) {
+            return availableTargetNames.get(findPreferredIndex(availableTargetNames, nowNanos, firstIndex));
+        }
+        if (!firstAvailable || !secondAvailable) {
+            return availableTargetNames.get(firstAvailable ? firstIndex : secondIndex);
+        }
+        if (isPreferred(first, second)) {
+            ejectIfSlow(second, first, nowNanos);
+            return availableTargetNames.get(firstIndex);
+        }
+        ejectIfSlow(first, second, nowNanos);
+        return availableTargetNames.get(secondIndex);
+    }
+    
+    private DataSourceExecutionStatistics getStatistics(final String targetName) {
+        DataSourceExecutionStatistics result = statistics.get(targetName);
+        return null == result ? statistics.computeIfAbsent(targetName, this::createStatistics) : result;
+    }
+    
+    private DataSourceExecutionStatistics createStatistics(final String targetName) {
+        StorageUnit storageUnit = storageUnits.get(targetName);
+        return null == storageUnit ? new DataSourceExecutionStatistics() : DataSourceExecutionStatisticsRegistry.register(storageUnit.getConnectionProperties());
+    }
+    
+    private int findPreferredIndex(final List<String> availableTargetNames, final long nowNanos, final int defaultIndex) {
+        int result = defaultIndex;
+        DataSourceExecutionStatistics preferred = null;
+        int index = 0;
+        for (String each : availableTargetNames) {
+            DataSourceExecutionStatistics statistics = getStatistics(each);
+            if (statistics.isAvailable(nowNanos) && (null == preferred || isPreferred(statistics, preferred))) {
+                result = index;
+                preferred = statistics;
+            }
+            index++;
+        }
+        return result;
+    }
+    
+    private boolean isPreferred(final DataSourceExecutionStatistics candidate, final DataSourceExecutionStatistics other) {
+        long candidateLatency = candidate.getLatencyNanos();
+        long otherLatency = other.getLatencyNanos();
+        if (DataSourceExecutionStatistics.UNKNOWN_LATENCY == candidateLatency || DataSourceExecutionStatistics.UNKNOWN_LATENCY == otherLatency) {
+            return candidate.getInFlightCount() <= other.getInFlightCount();
+        }
+        return (double) candidateLatency * (candidate.getInFlightCount() + 1) <= (double) otherLatency * (other.getInFlightCount() + 1);
+    }
+    
+    private void ejectIfSlow(final DataSourceExecutionStatistics loser, final DataSourceExecutionStatistics winner, final long nowNanos) {
+        long winnerLatency = winner.getLatencyNanos();
+        if (ejectionNanos > 0L && winnerLatency > 0L && loser.getSampleCount() >= MIN_EJECTION_SAMPLE_COUNT && loser.getLatencyNanos() > winnerLatency * ejectionLatencyRatio) {
+            loser.eject(nowNanos, ejectionNanos);
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "LATENCY_AWARE";
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency.hook;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.latency.statistics.DataSourceExecutionStatistics;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.latency.statistics.DataSourceExecutionStatisticsRegistry;
+import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+
+import java.util.List;
+
+/**
+ * Latency aware SQL execution hook.
+ * Executions are only recorded for storage units used by latency aware load balancers.
+ */
+public final class LatencyAwareSQLExecutionHook implements SQLExecutionHook {
+    
+    private DataSourceExecutionStatistics statistics;
+    
+    private long startNanos;
+    
+    @Override
+    public void start(final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps, final boolean isTrunkThread) {
+        statistics = DataSourceExecutionStatisticsRegistry.find(connectionProps).orElse(null);
+        if (null != statistics) {
+            statistics.start();
+            startNanos = System.nanoTime();
+        }
+    }
+    
+    @Override
+    public void finishSuccess() {
+        if (null != statistics) {
+            statistics.finishSuccess(System.nanoTime() - startNanos);
+        }
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        if (null != statistics) {
+            statistics.finishFailure();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency.statistics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Data source execution statistics.
+ */
+public final class DataSourceExecutionStatistics {
+    
+    /**
+     * Latency of data source which has no execution sample yet.
+     */
+    public static final long UNKNOWN_LATENCY = -1L;
+    
+    private static final double DECAY_WEIGHT = 0.2D;
+    
+    private static final long NOT_EJECTED = Long.MIN_VALUE;
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private final AtomicLong latencyNanos = new AtomicLong(UNKNOWN_LATENCY);
+    
+    private final AtomicLong sampleCount = new AtomicLong();
+    
+    private final AtomicLong ejectedUntilNanos = new AtomicLong(NOT_EJECTED);
+    
+    /**
+     * Record execution started.
+     */
+    public void start() {
+        inFlightCount.incrementAndGet();
+    }
+    
+    /**
+     * Record execution finished success.
+     *
+     * @param elapsedNanos elapsed nanoseconds of execution
+     */
+    public void finishSuccess(final long elapsedNanos) {
+        inFlightCount.decrementAndGet();
+        long current;
+        long updated;
+        do {
+            current = latencyNanos.get();
+            updated = UNKNOWN_LATENCY == current ? elapsedNanos : current + (long) ((elapsedNanos - current) * DECAY_WEIGHT);
+        } while (!latencyNanos.compareAndSet(current, updated));
+        sampleCount.incrementAndGet();
+    }
+    
+    /**
+     * Record execution finished failure.
+     */
+    public void finishFailure() {
+        inFlightCount.decrementAndGet();
+    }
+    
+    /**
+     * Get in-flight execution count.
+     *
+     * @return in-flight execution count
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+    
+    /**
+     * Get exponentially weighted moving average latency.
+     *
+     * @return latency in nanoseconds, or {@link #UNKNOWN_LATENCY} if no execution sample yet
+     */
+    public long getLatencyNanos() {
+        return latencyNanos.get();
+    }
+    
+    /**
+     * Get execution sample count.
+     *
+     * @return execution sample count
+     */
+    public long getSampleCount() {
+        return sampleCount.get();
+    }
+    
+    /**
+     * Eject data source temporarily.
+     *
+     * @param nowNanos current nano time
+     * @param durationNanos ejection duration in nanoseconds
+     * @return ejected or not, false if data source is already ejected
+     */
+    public boolean eject(final long nowNanos, final long durationNanos) {
+        return ejectedUntilNanos.compareAndSet(NOT_EJECTED, nowNanos + durationNanos);
+    }
+    
+    /**
+     * Judge whether data source is available.
+     *
+     * <p>The latency of data source is reset when its ejection expired, so it can be probed again.</p>
+     *
+     * @param nowNanos current nano time
+     * @return available or not
+     */
+    public boolean isAvailable(final long nowNanos) {
+        long ejectedUntil = ejectedUntilNanos.get();
+        if (NOT_EJECTED == ejectedUntil) {
+            return true;
+        }
+        if (nowNanos - ejectedUntil < 0L) {
+            return false;
+        }
+        if (ejectedUntilNanos.compareAndSet(ejectedUntil, NOT_EJECTED)) {
+            latencyNanos.set(UNKNOWN_LATENCY);
+            sampleCount.set(0L);
+        }
+        return true;
+    }
+}
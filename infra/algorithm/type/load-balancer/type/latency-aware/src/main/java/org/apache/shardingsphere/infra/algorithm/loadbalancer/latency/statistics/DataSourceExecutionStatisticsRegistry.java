@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency.statistics;
+
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Data source execution statistics registry.
+ *
+ * <p>Statistics are keyed by the connection properties instance of storage unit, so storage units with same name in different databases never share statistics.
+ * Keys and values are weakly referenced, statistics are released once the storage unit is dropped or no latency aware load balancer uses it.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataSourceExecutionStatisticsRegistry {
+    
+    private static final ConcurrentMap<ConnectionProperties, DataSourceExecutionStatistics> STATISTICS = CacheBuilder.newBuilder().weakKeys().weakValues()
+            .<ConnectionProperties, DataSourceExecutionStatistics>build().asMap();
+    
+    /**
+     * Register data source execution statistics.
+     *
+     * @param connectionProps connection properties of storage unit
+     * @return registered data source execution statistics
+     */
+    public static DataSourceExecutionStatistics register(final ConnectionProperties connectionProps) {
+        return STATISTICS.computeIfAbsent(connectionProps, key -> new DataSourceExecutionStatistics());
+    }
+    
+    /**
+     * Find data source execution statistics.
+     *
+     * @param connectionProps connection properties of storage unit
+     * @return found data source execution statistics, empty if no latency aware load balancer uses the storage unit
+     */
+    public static Optional<DataSourceExecutionStatistics> find(final ConnectionProperties connectionProps) {
+        return null == connectionProps || STATISTICS.isEmpty() ? Optional.empty() : Optional.ofNullable(STATISTICS.get(connectionProps));
+    }
+}
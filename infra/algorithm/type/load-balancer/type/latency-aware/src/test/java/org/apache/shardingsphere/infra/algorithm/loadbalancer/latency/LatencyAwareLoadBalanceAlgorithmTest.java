@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency;
+
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.StorageUnitsAware;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.latency.statistics.DataSourceExecutionStatistics;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.latency.statistics.DataSourceExecutionStatisticsRegistry;
+import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LatencyAwareLoadBalanceAlgorithmTest {
+    
+    private final LoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LATENCY_AWARE", new Properties());
+    
+    private final Map<String, StorageUnit> storageUnits = new HashMap<>();
+    
+    @BeforeEach
+    void setUp() {
+        for (String each : Arrays.asList("fast_read_ds", "slow_read_ds", "busy_read_ds", "idle_read_ds", "normal_read_ds", "lagging_read_ds",
+                "ejected_read_ds_0", "ejected_read_ds_1", "healthy_read_ds", "simulated_read_ds_0", "simulated_read_ds_1", "simulated_read_ds_2")) {
+            StorageUnit storageUnit = mock(StorageUnit.class);
+            when(storageUnit.getConnectionProperties()).thenReturn(mock(ConnectionProperties.class));
+            storageUnits.put(each, storageUnit);
+        }
+        ((StorageUnitsAware) loadBalanceAlgorithm).setStorageUnits(storageUnits);
+    }
+    
+    @Test
+    void assertInitWithInvalidEjectionLatencyRatio() {
+        assertThrows(AlgorithmInitializationException.class,
+                () -> TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LATENCY_AWARE", PropertiesBuilder.build(new Property("ejection-latency-ratio", "1"))));
+    }
+    
+    @Test
+    void assertInitWithInvalidEjectionMilliseconds() {
+        assertThrows(AlgorithmInitializationException.class,
+                () -> TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LATENCY_AWARE", PropertiesBuilder.build(new Property("ejection-milliseconds", "foo"))));
+    }
+    
+    @Test
+    void assertGetTargetNameWithSingleTarget() {
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Collections.singletonList("single_read_ds")), is("single_read_ds"));
+    }
+    
+    @Test
+    void assertGetTargetNameWithLowerLatency() {
+        recordLatency("fast_read_ds", 1L, 10);
+        recordLatency("slow_read_ds", 2L, 10);
+        List<String> availableTargetNames = Arrays.asList("fast_read_ds", "slow_read_ds");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames), is("fast_read_ds"));
+        }
+        assertTrue(getStatistics("slow_read_ds").isAvailable(System.nanoTime()));
+    }
+    
+    @Test
+    void assertGetTargetNameWithFewerInFlightExecutions() {
+        getStatistics("busy_read_ds").start();
+        List<String> availableTargetNames = Arrays.asList("busy_read_ds", "idle_read_ds");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames), is("idle_read_ds"));
+        }
+    }
+    
+    @Test
+    void assertGetTargetNameWithSlowTargetEjected() {
+        recordLatency("normal_read_ds", 1L, 10);
+        recordLatency("lagging_read_ds", 5L, 10);
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Arrays.asList("normal_read_ds", "lagging_read_ds")), is("normal_read_ds"));
+        assertFalse(getStatistics("lagging_read_ds").isAvailable(System.nanoTime()));
+    }
+    
+    @Test
+    void assertGetTargetNameWithEjectedTargets() {
+        getStatistics("ejected_read_ds_0").eject(System.nanoTime(), TimeUnit.MINUTES.toNanos(1L));
+        getStatistics("ejected_read_ds_1").eject(System.nanoTime(), TimeUnit.MINUTES.toNanos(1L));
+        List<String> availableTargetNames = Arrays.asList("ejected_read_ds_0", "ejected_read_ds_1", "healthy_read_ds");
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames), is("healthy_read_ds"));
+        }
+    }
+    
+    @Test
+    void assertGetTargetNameWithSimulatedLatency() {
+        List<String> availableTargetNames = Arrays.asList("simulated_read_ds_0", "simulated_read_ds_1", "simulated_read_ds_2");
+        int slowSelectedCount = 0;
+        for (int i = 0; i < 1000; i++) {
+            String actual = loadBalanceAlgorithm.getTargetName("ds", availableTargetNames);
+            boolean isSlow = "simulated_read_ds_2".equals(actual);
+            slowSelectedCount += isSlow ? 1 : 0;
+            recordLatency(actual, isSlow ? 20L : 1L, 1);
+        }
+        assertThat(1000 - slowSelectedCount, greaterThan(900));
+    }
+    
+    private void recordLatency(final String dataSourceName, final long latencyMillis, final int times) {
+        DataSourceExecutionStatistics statistics = getStatistics(dataSourceName);
+        for (int i = 0; i < times; i++) {
+            statistics.start();
+            statistics.finishSuccess(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+        }
+    }
+    
+    private DataSourceExecutionStatistics getStatistics(final String dataSourceName) {
+        return DataSourceExecutionStatisticsRegistry.register(storageUnits.get(dataSourceName).getConnectionProperties());
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency.hook;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.latency.statistics.DataSourceExecutionStatistics;
+import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.latency.statistics.DataSourceExecutionStatisticsRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+
+class LatencyAwareSQLExecutionHookTest {
+    
+    @Test
+    void assertFinishSuccess() {
+        ConnectionProperties connectionProps = mock(ConnectionProperties.class);
+        DataSourceExecutionStatistics actual = DataSourceExecutionStatisticsRegistry.register(connectionProps);
+        LatencyAwareSQLExecutionHook hook = new LatencyAwareSQLExecutionHook();
+        hook.start("success_ds", "SELECT 1", Collections.emptyList(), connectionProps, true);
+        assertThat(actual.getInFlightCount(), is(1));
+        hook.finishSuccess();
+        assertThat(actual.getInFlightCount(), is(0));
+        assertThat(actual.getSampleCount(), is(1L));
+        assertThat(actual.getLatencyNanos(), greaterThanOrEqualTo(0L));
+    }
+    
+    @Test
+    void assertFinishFailure() {
+        ConnectionProperties connectionProps = mock(ConnectionProperties.class);
+        DataSourceExecutionStatistics actual = DataSourceExecutionStatisticsRegistry.register(connectionProps);
+        LatencyAwareSQLExecutionHook hook = new LatencyAwareSQLExecutionHook();
+        hook.start("failure_ds", "SELECT 1", Collections.emptyList(), connectionProps, true);
+        hook.finishFailure(new RuntimeException("Test failed"));
+        assertThat(actual.getInFlightCount(), is(0));
+        assertThat(actual.getSampleCount(), is(0L));
+    }
+    
+    @Test
+    void assertFinishSuccessWithUnregisteredStorageUnit() {
+        ConnectionProperties connectionProps = mock(ConnectionProperties.class);
+        LatencyAwareSQLExecutionHook hook = new LatencyAwareSQLExecutionHook();
+        hook.start("unregistered_ds", "SELECT 1", Collections.emptyList(), connectionProps, true);
+        hook.finishSuccess();
+        assertFalse(DataSourceExecutionStatisticsRegistry.find(connectionProps).isPresent());
+    }
+    
+    @Test
+    void assertFinishFailureWithoutStart() {
+        new LatencyAwareSQLExecutionHook().finishFailure(new RuntimeException("Test failed"));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.latency.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DataSourceExecutionStatisticsTest {
+    
+    @Test
+    void assertFinishSuccess() {
+        DataSourceExecutionStatistics actual = new DataSourceExecutionStatistics();
+        actual.start();
+        actual.start();
+        assertThat(actual.getInFlightCount(), is(2));
+        assertThat(actual.getLatencyNanos(), is(DataSourceExecutionStatistics.UNKNOWN_LATENCY));
+        actual.finishSuccess(100L);
+        assertThat(actual.getLatencyNanos(), is(100L));
+        actual.finishSuccess(200L);
+        assertThat(actual.getLatencyNanos(), is(120L));
+        assertThat(actual.getInFlightCount(), is(0));
+        assertThat(actual.getSampleCount(), is(2L));
+    }
+    
+    @Test
+    void assertFinishFailure() {
+        DataSourceExecutionStatistics actual = new DataSourceExecutionStatistics();
+        actual.start();
+        actual.finishFailure();
+        assertThat(actual.getInFlightCount(), is(0));
+        assertThat(actual.getSampleCount(), is(0L));
+    }
+    
+    @Test
+    void assertEject() {
+        DataSourceExecutionStatistics actual = new DataSourceExecutionStatistics();
+        actual.start();
+        actual.finishSuccess(100L);
+        assertTrue(actual.eject(0L, 10L));
+        assertFalse(actual.eject(0L, 10L));
+        assertFalse(actual.isAvailable(5L));
+        assertThat(actual.getLatencyNanos(), is(100L));
+        assertTrue(actual.isAvailable(10L));
+        assertThat(actual.getLatencyNanos(), is(DataSourceExecutionStatistics.UNKNOWN_LATENCY));
+        assertThat(actual.getSampleCount(), is(0L));
+    }
+}
@@ -54,6 +54,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether execute SQL and proxy commands on virtual threads, only take effect on JDK which supports virtual threads.
+     */
+    VIRTUAL_THREAD_ENABLED("virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -69,6 +74,25 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     LOAD_TABLE_METADATA_BATCH_SIZE("load-table-metadata-batch-size", String.valueOf(1000), int.class, false),
     
+    /**
+     * Memory limit in bytes of group by memory merge for every query. Groups exceeded the limit are spilled to local temporary files.
+     * The limit is configured once for the instance, but every query accounts its own groups against it, so it is not shared by concurrent queries.
+     * Queries with columns which can not be spilled are merged in memory without limitation.
+     * Less than or equal to 0 means no limitation.
+     */
+    GROUP_BY_MEMORY_LIMIT("group-by-memory-limit", String.valueOf(0), long.class, false),
+    
+    /**
+     * Whether load query results of connection strictly mode into typed column vectors instead of rows.
+     */
+    COLUMNAR_MEMORY_QUERY_RESULT_ENABLED("columnar-memory-query-result-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Interval seconds to refresh table statistics used by SQL federation cost based optimization.
+     * Less than or equal to 0 means statistics are not collected.
+     */
+    SQL_FEDERATION_STATISTICS_REFRESH_INTERVAL_SECONDS("sql-federation-statistics-refresh-interval-seconds", String.valueOf(0), long.class, false),
+    
     /**
      * Frontend database protocol for ShardingSphere-Proxy.
      */
@@ -76,9 +100,17 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
     
     /**
      * Flush threshold for every record from databases for ShardingSphere-Proxy.
+     *
+     * @deprecated query rows are written in byte bounded batches, use {@link #PROXY_FRONTEND_WRITE_BATCH_BYTES} instead
      */
+    @Deprecated
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class, false),
     
+    /**
+     * Max bytes of query rows encoded into one batch before the batch is written and flushed to client for ShardingSphere-Proxy.
+     */
+    PROXY_FRONTEND_WRITE_BATCH_BYTES("proxy-frontend-write-batch-bytes", String.valueOf(64 * 1024), int.class, false),
+    
     /**
      * Proxy backend query fetch size. A larger value may increase the memory usage of ShardingSphere Proxy.
      * The default value is -1, which means set the minimum value for different JDBC drivers.
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.statistics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Logic table statistics, which are collected from actual tables for cost based optimization.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class LogicTableStatistics {
+    
+    private final long rowCount;
+    
+    private final Map<String, ColumnStatistics> columnStatistics;
+    
+    private final long collectedTimeMillis;
+    
+    /**
+     * Find column statistics.
+     *
+     * @param columnName column name
+     * @return found column statistics
+     */
+    public Optional<ColumnStatistics> findColumnStatistics(final String columnName) {
+        return Optional.ofNullable(columnStatistics.get(columnName));
+    }
+}
@@ -22,6 +22,7 @@ import lombok.Getter;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * ShardingSphere statistics.
@@ -31,6 +32,8 @@ public final class ShardingSphereStatistics {
     
     private final Map<String, DatabaseStatistics> databaseStatisticsMap = Collections.synchronizedMap(new CaseInsensitiveMap<>());
     
+    private final Map<String, LogicTableStatistics> logicTableStatisticsMap = Collections.synchronizedMap(new CaseInsensitiveMap<>());
+    
     /**
      * Get database statistics.
      *
@@ -58,6 +61,10 @@ public final class ShardingSphereStatistics {
      */
     public void dropDatabaseStatistics(final String databaseName) {
         databaseStatisticsMap.remove(databaseName);
+        String logicTableKeyPrefix = databaseName + ".";
+        synchronized (logicTableStatisticsMap) {
+            logicTableStatisticsMap.keySet().removeIf(each -> each.regionMatches(true, 0, logicTableKeyPrefix, 0, logicTableKeyPrefix.length()));
+        }
     }
     
     /**
@@ -69,4 +76,32 @@ public final class ShardingSphereStatistics {
     public boolean containsDatabaseStatistics(final String databaseName) {
         return databaseStatisticsMap.containsKey(databaseName);
     }
+    
+    /**
+     * Find logic table statistics.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param tableName table name
+     * @return found logic table statistics
+     */
+    public Optional<LogicTableStatistics> findLogicTableStatistics(final String databaseName, final String schemaName, final String tableName) {
+        return Optional.ofNullable(logicTableStatisticsMap.get(getLogicTableKey(databaseName, schemaName, tableName)));
+    }
+    
+    /**
+     * Put logic table statistics.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param logicTableStatistics logic table statistics
+     */
+    public void putLogicTableStatistics(final String databaseName, final String schemaName, final String tableName, final LogicTableStatistics logicTableStatistics) {
+        logicTableStatisticsMap.put(getLogicTableKey(databaseName, schemaName, tableName), logicTableStatistics);
+    }
+    
+    private String getLogicTableKey(final String databaseName, final String schemaName, final String tableName) {
+        return String.join(".", databaseName, schemaName, tableName);
+    }
 }
@@ -19,6 +19,9 @@ package org.apache.shardingsphere.infra.metadata.statistics;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+import java.util.Optional;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -75,4 +78,24 @@ class ShardingSphereStatisticsTest {
         assertTrue(shardingSphereStatistics.containsDatabaseStatistics(TEST_DATABASE_NAME));
         assertFalse(shardingSphereStatistics.containsDatabaseStatistics(NON_EXISTENT_DATABASE_NAME));
     }
+    
+    @Test
+    void assertFindLogicTableStatistics() {
+        ShardingSphereStatistics shardingSphereStatistics = new ShardingSphereStatistics();
+        LogicTableStatistics logicTableStatistics = new LogicTableStatistics(10L, Collections.emptyMap(), 0L);
+        shardingSphereStatistics.putLogicTableStatistics(TEST_DATABASE_NAME, "foo_schema", "t_order", logicTableStatistics);
+        assertThat(shardingSphereStatistics.findLogicTableStatistics(TEST_DATABASE_NAME, "FOO_SCHEMA", "T_ORDER"), is(Optional.of(logicTableStatistics)));
+        assertFalse(shardingSphereStatistics.findLogicTableStatistics(TEST_DATABASE_NAME_2, "foo_schema", "t_order").isPresent());
+    }
+    
+    @Test
+    void assertDropDatabaseStatisticsWithLogicTableStatistics() {
+        ShardingSphereStatistics shardingSphereStatistics = new ShardingSphereStatistics();
+        LogicTableStatistics logicTableStatistics = new LogicTableStatistics(10L, Collections.emptyMap(), 0L);
+        shardingSphereStatistics.putLogicTableStatistics(TEST_DATABASE_NAME, "foo_schema", "t_order", logicTableStatistics);
+        shardingSphereStatistics.putLogicTableStatistics(TEST_DATABASE_NAME_2, "foo_schema", "t_order", logicTableStatistics);
+        shardingSphereStatistics.dropDatabaseStatistics(TEST_DATABASE_NAME);
+        assertFalse(shardingSphereStatistics.findLogicTableStatistics(TEST_DATABASE_NAME, "foo_schema", "t_order").isPresent());
+        assertTrue(shardingSphereStatistics.findLogicTableStatistics(TEST_DATABASE_NAME_2, "foo_schema", "t_order").isPresent());
+    }
 }
@@ -42,12 +42,19 @@ public final class ExecutorServiceManager {
     }
     
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, false);
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
-        ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat);
-        return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat, virtualThreadEnabled && VirtualThreadUtils.isSupported()));
+    }
+    
+    private ExecutorService getExecutorService(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat, virtualThreadEnabled);
+        if (0 == executorSize) {
+            return virtualThreadEnabled ? VirtualThreadUtils.newThreadPerTaskExecutor(threadFactory) : Executors.newCachedThreadPool(threadFactory);
+        }
+        return Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
     /**
@@ -40,4 +40,17 @@ public final class ExecutorThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Build thread factory with thread name format.
+     *
+     * @param nameFormat thread name format
+     * @param virtualThreadEnabled whether to build virtual threads, platform threads are built if virtual thread is not supported
+     * @return thread factory
+     */
+    public static ThreadFactory build(final String nameFormat, final boolean virtualThreadEnabled) {
+        return virtualThreadEnabled && VirtualThreadUtils.isSupported()
+                ? new ThreadFactoryBuilder().setNameFormat(NAME_FORMAT_PREFIX + nameFormat).setThreadFactory(VirtualThreadUtils.newThreadFactory()).build()
+                : build(nameFormat);
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual thread utility class.
+ *
+ * <p>
+ * Virtual threads are accessed by reflection because ShardingSphere is compiled for JDK 8.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VirtualThreadUtils {
+    
+    private static final Method OF_VIRTUAL_METHOD;
+    
+    private static final Method FACTORY_METHOD;
+    
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR_METHOD;
+    
+    static {
+        Method ofVirtualMethod;
+        Method factoryMethod;
+        Method newThreadPerTaskExecutorMethod;
+        try {
+            ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+            factoryMethod = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+            newThreadPerTaskExecutorMethod = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            ofVirtualMethod.invoke(null);
+        } catch (final ReflectiveOperationException | LinkageError ignored) {
+            ofVirtualMethod = null;
+            factoryMethod = null;
+            newThreadPerTaskExecutorMethod = null;
+        }
+        OF_VIRTUAL_METHOD = ofVirtualMethod;
+        FACTORY_METHOD = factoryMethod;
+        NEW_THREAD_PER_TASK_EXECUTOR_METHOD = newThreadPerTaskExecutorMethod;
+    }
+    
+    /**
+     * Judge whether virtual thread is supported by current JDK.
+     *
+     * @return virtual thread is supported or not
+     */
+    public static boolean isSupported() {
+        return null != OF_VIRTUAL_METHOD;
+    }
+    
+    /**
+     * Create virtual thread factory.
+     *
+     * @return virtual thread factory
+     * @throws UnsupportedOperationException unsupported operation exception if virtual thread is not supported
+     */
+    @SneakyThrows({IllegalAccessException.class, InvocationTargetException.class})
+    public static ThreadFactory newThreadFactory() {
+        checkSupported();
+        return (ThreadFactory) FACTORY_METHOD.invoke(OF_VIRTUAL_METHOD.invoke(null));
+    }
+    
+    /**
+     * Create executor service which starts a new thread for each task.
+     *
+     * @param threadFactory thread factory
+     * @return executor service
+     * @throws UnsupportedOperationException unsupported operation exception if virtual thread is not supported
+     */
+    @SneakyThrows({IllegalAccessException.class, InvocationTargetException.class})
+    public static ExecutorService newThreadPerTaskExecutor(final ThreadFactory threadFactory) {
+        checkSupported();
+        return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR_METHOD.invoke(null, threadFactory);
+    }
+    
+    private static void checkSupported() {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Virtual thread is not supported by current JDK.");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
+
+import org.apache.shardingsphere.infra.database.core.resultset.ResultSetMapper;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryColumn;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Query result column loader.
+ */
+public final class QueryResultColumnLoader {
+    
+    private final ResultSetMapper resultSetMapper;
+    
+    public QueryResultColumnLoader(final DatabaseType databaseType) {
+        resultSetMapper = new ResultSetMapper(databaseType);
+    }
+    
+    /**
+     * Load query result columns.
+     *
+     * @param columnCount column count
+     * @param resultSet result set
+     * @return query result columns
+     * @throws SQLException SQL exception
+     */
+    public MemoryColumn[] load(final int columnCount, final ResultSet resultSet) throws SQLException {
+        MemoryColumn[] result = new MemoryColumn[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = new MemoryColumn();
+        }
+        while (resultSet.next()) {
+            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                Object rowValue = resultSetMapper.load(resultSet, columnIndex);
+                result[columnIndex - 1].add(resultSet.wasNull() ? null : rowValue);
+            }
+        }
+        return result;
+    }
+}
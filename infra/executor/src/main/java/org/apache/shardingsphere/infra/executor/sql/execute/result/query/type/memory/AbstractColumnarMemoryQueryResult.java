@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryColumn;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.ObjectOutputStream;
+import java.io.Reader;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Calendar;
+
+/**
+ * Abstract columnar memory query result.
+ *
+ * <p>Values of current row are boxed on first read and reused for later reads of the same row.</p>
+ */
+public abstract class AbstractColumnarMemoryQueryResult implements QueryResult {
+    
+    private static final Object UNLOADED = new Object();
+    
+    @Getter
+    private final QueryResultMetaData metaData;
+    
+    private final MemoryColumn[] columns;
+    
+    private final int totalRowCount;
+    
+    private final Object[] currentRowValues;
+    
+    private int currentRowIndex = -1;
+    
+    private boolean wasNull;
+    
+    protected AbstractColumnarMemoryQueryResult(final QueryResultMetaData metaData, final MemoryColumn[] columns) {
+        this.metaData = metaData;
+        this.columns = columns;
+        totalRowCount = 0 == columns.length ? 0 : columns[0].getSize();
+        currentRowValues = new Object[columns.length];
+    }
+    
+    @Override
+    public final boolean next() {
+        if (currentRowIndex + 1 < totalRowCount) {
+            currentRowIndex++;
+            Arrays.fill(currentRowValues, UNLOADED);
+            return true;
+        }
+        currentRowIndex = totalRowCount;
+        return false;
+    }
+    
+    /**
+     * Get count of rows which are not iterated.
+     *
+     * @return count of rows which are not iterated
+     */
+    public final long getRowCount() {
+        return Math.max(0, totalRowCount - currentRowIndex - 1);
+    }
+    
+    /**
+     * Judge whether cursor is on a row.
+     *
+     * @return cursor is on a row or not
+     */
+    public final boolean isOnRow() {
+        return currentRowIndex >= 0 && currentRowIndex < totalRowCount;
+    }
+    
+    @Override
+    public final Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = getCurrentRowValue(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = getCurrentRowValue(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    private Object getCurrentRowValue(final int columnIndex) {
+        Object result = currentRowValues[columnIndex - 1];
+        if (UNLOADED == result) {
+            result = columns[columnIndex - 1].get(currentRowIndex);
+            currentRowValues[columnIndex - 1] = result;
+        }
+        return result;
+    }
+    
+    @Override
+    public final InputStream getInputStream(final int columnIndex, final String type) {
+        Object value = getCurrentRowValue(columnIndex);
+        wasNull = null == value;
+        return getInputStream(value);
+    }
+    
+    @SneakyThrows(IOException.class)
+    private InputStream getInputStream(final Object value) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+        objectOutputStream.writeObject(value);
+        objectOutputStream.flush();
+        objectOutputStream.close();
+        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        // TODO Support connection property character encoding
+        return new BufferedReader(new InputStreamReader(getInputStream(columnIndex, "")));
+    }
+    
+    @Override
+    public final boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public final void close() {
+    }
+}
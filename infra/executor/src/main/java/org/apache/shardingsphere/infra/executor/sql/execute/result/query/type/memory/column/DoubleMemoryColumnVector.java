@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import java.util.Arrays;
+
+/**
+ * Double memory column vector.
+ */
+final class DoubleMemoryColumnVector implements MemoryColumnVector {
+    
+    private double[][] chunks = new double[1][];
+    
+    @Override
+    public boolean isAcceptable(final Object value) {
+        return value instanceof Double;
+    }
+    
+    @Override
+    public void set(final int rowIndex, final Object value) {
+        getChunk(rowIndex)[rowIndex & CHUNK_MASK] = (Double) value;
+    }
+    
+    private double[] getChunk(final int rowIndex) {
+        int chunkIndex = rowIndex >>> CHUNK_SHIFT;
+        if (chunkIndex >= chunks.length) {
+            chunks = Arrays.copyOf(chunks, Math.max(chunkIndex + 1, chunks.length << 1));
+        }
+        double[] result = chunks[chunkIndex];
+        int offset = rowIndex & CHUNK_MASK;
+        if (null == result) {
+            result = new double[MemoryColumnVector.getNewChunkCapacity(0, offset)];
+            chunks[chunkIndex] = result;
+        } else if (offset >= result.length) {
+            result = Arrays.copyOf(result, MemoryColumnVector.getNewChunkCapacity(result.length, offset));
+            chunks[chunkIndex] = result;
+        }
+        return result;
+    }
+    
+    @Override
+    public Object get(final int rowIndex) {
+        return chunks[rowIndex >>> CHUNK_SHIFT][rowIndex & CHUNK_MASK];
+    }
+}
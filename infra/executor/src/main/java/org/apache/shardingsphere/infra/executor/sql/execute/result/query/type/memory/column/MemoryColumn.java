@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * Memory column.
+ *
+ * <p>
+ * Values are stored in a column vector typed by the first non-null value: {@code int}, {@code long} and {@code double} values are stored in primitive arrays,
+ * and other values, including strings, are stored as objects. The vector falls back to objects if a value of another type is added.
+ * Null values are tracked by a bitmap.
+ * </p>
+ */
+public final class MemoryColumn {
+    
+    private long[] nullBitmap = new long[1];
+    
+    private MemoryColumnVector vector;
+    
+    @Getter
+    private int size;
+    
+    /**
+     * Add value.
+     *
+     * @param value value
+     */
+    public void add(final Object value) {
+        if (null == value) {
+            markNull(size);
+        } else {
+            if (null == vector) {
+                vector = createVector(value);
+            } else if (!vector.isAcceptable(value)) {
+                vector = toObjectVector();
+            }
+            vector.set(size, value);
+        }
+        size++;
+    }
+    
+    private void markNull(final int rowIndex) {
+        int index = rowIndex >>> 6;
+        if (index >= nullBitmap.length) {
+            nullBitmap = Arrays.copyOf(nullBitmap, Math.max(index + 1, nullBitmap.length << 1));
+        }
+        nullBitmap[index] |= 1L << rowIndex;
+    }
+    
+    private MemoryColumnVector createVector(final Object value) {
+        if (value instanceof Integer) {
+            return new IntMemoryColumnVector();
+        }
+        if (value instanceof Long) {
+            return new LongMemoryColumnVector();
+        }
+        if (value instanceof Double) {
+            return new DoubleMemoryColumnVector();
+        }
+        return new ObjectMemoryColumnVector();
+    }
+    
+    private MemoryColumnVector toObjectVector() {
+        MemoryColumnVector result = new ObjectMemoryColumnVector();
+        for (int i = 0; i < size; i++) {
+            if (!isNull(i)) {
+                result.set(i, vector.get(i));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether value is null.
+     *
+     * @param rowIndex row index
+     * @return value is null or not
+     */
+    public boolean isNull(final int rowIndex) {
+        int index = rowIndex >>> 6;
+        return index < nullBitmap.length && 0L != (nullBitmap[index] & 1L << rowIndex);
+    }
+    
+    /**
+     * Get value.
+     *
+     * @param rowIndex row index
+     * @return value
+     */
+    public Object get(final int rowIndex) {
+        return isNull(rowIndex) ? null : vector.get(rowIndex);
+    }
+}
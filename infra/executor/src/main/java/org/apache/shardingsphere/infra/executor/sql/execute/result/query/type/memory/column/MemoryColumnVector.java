@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+/**
+ * Memory column vector, which stores non-null values of one column in chunks indexed by row index.
+ */
+interface MemoryColumnVector {
+    
+    int CHUNK_SHIFT = 10;
+    
+    int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    
+    int CHUNK_MASK = CHUNK_SIZE - 1;
+    
+    int INITIAL_CHUNK_CAPACITY = 16;
+    
+    /**
+     * Judge whether value can be stored.
+     *
+     * @param value non-null value
+     * @return can be stored or not
+     */
+    boolean isAcceptable(Object value);
+    
+    /**
+     * Set value, row index must be set in ascending order.
+     *
+     * @param rowIndex row index
+     * @param value non-null value
+     */
+    void set(int rowIndex, Object value);
+    
+    /**
+     * Get value.
+     *
+     * @param rowIndex row index which has been set
+     * @return value
+     */
+    Object get(int rowIndex);
+    
+    /**
+     * Get new capacity of chunk to hold offset.
+     *
+     * @param currentCapacity current capacity
+     * @param offset offset in chunk
+     * @return new capacity
+     */
+    static int getNewChunkCapacity(final int currentCapacity, final int offset) {
+        return Math.min(CHUNK_SIZE, Math.max(Math.max(INITIAL_CHUNK_CAPACITY, offset + 1), currentCapacity << 1));
+    }
+}
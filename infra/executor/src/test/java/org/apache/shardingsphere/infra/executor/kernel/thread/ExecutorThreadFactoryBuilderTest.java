@@ -23,6 +23,7 @@ import java.util.concurrent.ThreadFactory;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ExecutorThreadFactoryBuilderTest {
     
@@ -33,4 +34,13 @@ class ExecutorThreadFactoryBuilderTest {
         });
         assertThat(thread.getName(), is("ShardingSphere-test"));
     }
+    
+    @Test
+    void assertBuildWithVirtualThreadEnabled() {
+        ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build("test-%d", true);
+        Thread thread = threadFactory.newThread(() -> {
+        });
+        assertThat(thread.getName(), is("ShardingSphere-test-0"));
+        assertTrue(thread.isDaemon());
+    }
 }
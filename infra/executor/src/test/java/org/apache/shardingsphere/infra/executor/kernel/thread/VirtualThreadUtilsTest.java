@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualThreadUtilsTest {
+    
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void assertIsSupported() {
+        assertTrue(VirtualThreadUtils.isSupported());
+    }
+    
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void assertNewThreadPerTaskExecutor() throws ExecutionException, InterruptedException {
+        ExecutorService executorService = VirtualThreadUtils.newThreadPerTaskExecutor(VirtualThreadUtils.newThreadFactory());
+        try {
+            assertThat(executorService.submit(() -> Thread.currentThread().getClass().getName()).get(), is("java.lang.VirtualThread"));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    @Test
+    @DisabledForJreRange(min = JRE.JAVA_21)
+    void assertIsNotSupported() {
+        assertFalse(VirtualThreadUtils.isSupported());
+    }
+    
+    @Test
+    @DisabledForJreRange(min = JRE.JAVA_21)
+    void assertNewThreadFactoryWithoutVirtualThreadSupported() {
+        assertThrows(UnsupportedOperationException.class, VirtualThreadUtils::newThreadFactory);
+    }
+    
+    @Test
+    @DisabledForJreRange(min = JRE.JAVA_21)
+    void assertNewThreadPerTaskExecutorWithoutVirtualThreadSupported() {
+        assertThrows(UnsupportedOperationException.class, () -> VirtualThreadUtils.newThreadPerTaskExecutor(Executors.defaultThreadFactory()));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Calendar;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JDBCColumnarMemoryQueryResultTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "FIXTURE");
+    
+    @Test
+    void assertConstructorWithSQLException() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenThrow(new SQLException(""));
+        assertThrows(SQLException.class, () -> new JDBCColumnarMemoryQueryResult(resultSet, databaseType));
+    }
+    
+    @Test
+    void assertNext() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getLong(1)).thenReturn(1L, 2L);
+        when(resultSet.getString(2)).thenReturn("foo", "bar");
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet, databaseType);
+        assertThat(actual.getRowCount(), is(2L));
+        assertFalse(actual.isOnRow());
+        assertTrue(actual.next());
+        assertTrue(actual.isOnRow());
+        assertThat(actual.getRowCount(), is(1L));
+        assertThat(actual.getValue(1, Object.class), is(1L));
+        assertThat(actual.getValue(2, Object.class), is("foo"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(2L));
+        assertThat(actual.getCalendarValue(2, Object.class, Calendar.getInstance()), is("bar"));
+        assertFalse(actual.wasNull());
+        assertFalse(actual.next());
+        assertFalse(actual.isOnRow());
+        assertThat(actual.getRowCount(), is(0L));
+    }
+    
+    @Test
+    void assertGetValueWithSameRow() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getLong(1)).thenReturn(1000L, 2000L);
+        String value = "foo";
+        when(resultSet.getString(2)).thenReturn(value, "bar");
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet, databaseType);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), sameInstance(actual.getValue(1, Object.class)));
+        assertThat(actual.getValue(2, Object.class), sameInstance(value));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(2000L));
+        assertThat(actual.getValue(2, Object.class), is("bar"));
+    }
+    
+    @Test
+    void assertGetValueByNull() throws SQLException {
+        ResultSet resultSet = mockResultSet();
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.wasNull()).thenReturn(true);
+        JDBCColumnarMemoryQueryResult actual = new JDBCColumnarMemoryQueryResult(resultSet, databaseType);
+        assertTrue(actual.next());
+        assertNull(actual.getValue(1, Object.class));
+        assertTrue(actual.wasNull());
+        assertFalse(actual.next());
+    }
+    
+    private ResultSet mockResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(2);
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(resultSetMetaData.isSigned(1)).thenReturn(true);
+        when(resultSetMetaData.getColumnType(2)).thenReturn(Types.VARCHAR);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        return result;
+    }
+}
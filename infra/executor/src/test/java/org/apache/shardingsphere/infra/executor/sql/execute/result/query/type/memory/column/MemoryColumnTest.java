@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MemoryColumnTest {
+    
+    private static final int ROW_COUNT = 3000;
+    
+    @Test
+    void assertAddAndGetLongValues() {
+        MemoryColumn column = new MemoryColumn();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            column.add(0 == i % 7 ? null : (long) i);
+        }
+        assertThat(column.getSize(), is(ROW_COUNT));
+        for (int i = 0; i < ROW_COUNT; i++) {
+            assertThat(column.get(i), is(0 == i % 7 ? null : (Object) (long) i));
+        }
+    }
+    
+    @Test
+    void assertAddAndGetIntegerAndDoubleValues() {
+        MemoryColumn intColumn = new MemoryColumn();
+        MemoryColumn doubleColumn = new MemoryColumn();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            intColumn.add(i);
+            doubleColumn.add(i + 0.5D);
+        }
+        assertThat(intColumn.get(ROW_COUNT - 1), is(ROW_COUNT - 1));
+        assertThat(doubleColumn.get(1025), is(1025.5D));
+    }
+    
+    @Test
+    void assertAddAndGetStringValues() {
+        MemoryColumn column = new MemoryColumn();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            column.add(0 == i % 5 ? null : "foo_值_" + i);
+        }
+        for (int i = 0; i < ROW_COUNT; i++) {
+            assertThat(column.get(i), is(0 == i % 5 ? null : (Object) ("foo_值_" + i)));
+        }
+    }
+    
+    @Test
+    void assertAddEmptyString() {
+        MemoryColumn column = new MemoryColumn();
+        column.add("");
+        column.add("foo");
+        column.add("");
+        assertThat(column.get(0), is(""));
+        assertThat(column.get(1), is("foo"));
+        assertThat(column.get(2), is(""));
+    }
+    
+    @Test
+    void assertAddValuesWithDifferentTypes() {
+        MemoryColumn column = new MemoryColumn();
+        column.add(null);
+        column.add(1);
+        column.add(null);
+        column.add(2L);
+        column.add(new BigDecimal("3.5"));
+        assertThat(column.get(0), is(nullValue()));
+        assertThat(column.get(1), is(1));
+        assertThat(column.get(2), is(nullValue()));
+        assertThat(column.get(3), is(2L));
+        assertThat(column.get(4), is(new BigDecimal("3.5")));
+    }
+    
+    @Test
+    void assertIsNull() {
+        MemoryColumn column = new MemoryColumn();
+        column.add(null);
+        column.add("foo");
+        assertTrue(column.isNull(0));
+        assertFalse(column.isNull(1));
+    }
+}
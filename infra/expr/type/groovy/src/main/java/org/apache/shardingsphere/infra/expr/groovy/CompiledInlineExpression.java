@@ -0,0 +1,324 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compiled inline expression.
+ *
+ * <p>
+ * Covers the subset of Groovy GString which is commonly used by inline sharding algorithms, such as {@code t_order_${order_id % 16}}.
+ * The expression is compiled once into literal segments and integer arithmetic nodes (+, -, *, %, parentheses) and evaluated without Groovy, reflection or boxing.
+ * Arithmetic follows Groovy semantics: int operands stay int, any long operand promotes to long.
+ * Expressions or arguments out of this subset must be evaluated by Groovy.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class CompiledInlineExpression {
+    
+    private static final Collection<String> RESERVED_IDENTIFIERS = new HashSet<>(Arrays.asList("it", "this", "super", "null", "true", "false", "new", "in", "as", "def"));
+    
+    private final String[] literals;
+    
+    private final ExpressionNode[] nodes;
+    
+    private final String[] variableNames;
+    
+    private final int estimatedLength;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with {@code $}
+     * @return compiled inline expression, empty if expression can not be compiled
+     */
+    static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        if (null == inlineExpression) {
+            return Optional.empty();
+        }
+        List<String> literals = new ArrayList<>();
+        List<ExpressionNode> nodes = new ArrayList<>();
+        Collection<String> variableNames = new LinkedHashSet<>();
+        int position = 0;
+        int literalLength = 0;
+        while (position < inlineExpression.length()) {
+            int begin = inlineExpression.indexOf("${", position);
+            String literal = inlineExpression.substring(position, -1 == begin ? inlineExpression.length() : begin);
+            if (!isPlainLiteral(literal)) {
+                return Optional.empty();
+            }
+            literals.add(literal);
+            literalLength += literal.length();
+            if (-1 == begin) {
+                position = inlineExpression.length();
+                break;
+            }
+            int end = inlineExpression.indexOf('}', begin);
+            if (-1 == end) {
+                return Optional.empty();
+            }
+            Optional<ExpressionNode> node = new ArithmeticParser(inlineExpression.substring(begin + 2, end), variableNames).parse();
+            if (!node.isPresent()) {
+                return Optional.empty();
+            }
+            nodes.add(node.get());
+            position = end + 1;
+        }
+        if (literals.size() == nodes.size()) {
+            literals.add("");
+        }
+        return Optional.of(new CompiledInlineExpression(literals.toArray(new String[0]), nodes.toArray(new ExpressionNode[0]), variableNames.toArray(new String[0]), literalLength + nodes.size() * 4));
+    }
+    
+    private static boolean isPlainLiteral(final String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            char each = literal.charAt(i);
+            if ('$' == each || '"' == each || '\\' == each || '{' == each || '}' == each) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Judge whether arguments can be evaluated by compiled inline expression.
+     *
+     * @param args arguments
+     * @return can be evaluated or not
+     */
+    boolean isEvaluable(final Map<String, Comparable<?>> args) {
+        for (String each : variableNames) {
+            Object value = args.get(each);
+            if (!(value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Evaluate with arguments, arguments must be checked by {@link #isEvaluable(Map)} first.
+     *
+     * @param args arguments
+     * @return evaluated result
+     */
+    String evaluate(final Map<String, Comparable<?>> args) {
+        boolean intArithmetic = isIntArithmetic(args);
+        StringBuilder result = new StringBuilder(estimatedLength);
+        for (int i = 0; i < nodes.length; i++) {
+            result.append(literals[i]).append(nodes[i].evaluate(args, intArithmetic));
+        }
+        return result.append(literals[nodes.length]).toString();
+    }
+    
+    private boolean isIntArithmetic(final Map<String, Comparable<?>> args) {
+        for (String each : variableNames) {
+            if (args.get(each) instanceof Long) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private interface ExpressionNode {
+        
+        long evaluate(Map<String, Comparable<?>> args, boolean intArithmetic);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class NumberNode implements ExpressionNode {
+        
+        private final int value;
+        
+        @Override
+        public long evaluate(final Map<String, Comparable<?>> args, final boolean intArithmetic) {
+            return value;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class VariableNode implements ExpressionNode {
+        
+        private final String name;
+        
+        @Override
+        public long evaluate(final Map<String, Comparable<?>> args, final boolean intArithmetic) {
+            return ((Number) args.get(name)).longValue();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BinaryOperationNode implements ExpressionNode {
+        
+        private final char operator;
+        
+        private final ExpressionNode left;
+        
+        private final ExpressionNode right;
+        
+        @Override
+        public long evaluate(final Map<String, Comparable<?>> args, final boolean intArithmetic) {
+            long leftValue = left.evaluate(args, intArithmetic);
+            long rightValue = right.evaluate(args, intArithmetic);
+            return intArithmetic ? evaluateInt((int) leftValue, (int) rightValue) : evaluateLong(leftValue, rightValue);
+        }
+        
+        private int evaluateInt(final int leftValue, final int rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return leftValue % rightValue;
+            }
+        }
+        
+        private long evaluateLong(final long leftValue, final long rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return leftValue % rightValue;
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ArithmeticParser {
+        
+        private final String expression;
+        
+        private final Collection<String> variableNames;
+        
+        private int position;
+        
+        Optional<ExpressionNode> parse() {
+            ExpressionNode result = parseAdditive();
+            skipWhitespace();
+            return null == result || position != expression.length() ? Optional.empty() : Optional.of(result);
+        }
+        
+        private ExpressionNode parseAdditive() {
+            ExpressionNode result = parseMultiplicative();
+            while (null != result) {
+                skipWhitespace();
+                if (position >= expression.length() || '+' != expression.charAt(position) && '-' != expression.charAt(position)) {
+                    break;
+                }
+                char operator = expression.charAt(position++);
+                ExpressionNode right = parseMultiplicative();
+                result = null == right ? null : new BinaryOperationNode(operator, result, right);
+            }
+            return result;
+        }
+        
+        private ExpressionNode parseMultiplicative() {
+            ExpressionNode result = parsePrimary();
+            while (null != result) {
+                skipWhitespace();
+                if (position >= expression.length() || '*' != expression.charAt(position) && '%' != expression.charAt(position)) {
+                    break;
+                }
+                char operator = expression.charAt(position++);
+                ExpressionNode right = parsePrimary();
+                result = null == right ? null : new BinaryOperationNode(operator, result, right);
+            }
+            return result;
+        }
+        
+        private ExpressionNode parsePrimary() {
+            skipWhitespace();
+            if (position >= expression.length()) {
+                return null;
+            }
+            char current = expression.charAt(position);
+            if ('(' == current) {
+                position++;
+                ExpressionNode result = parseAdditive();
+                skipWhitespace();
+                if (null == result || position >= expression.length() || ')' != expression.charAt(position)) {
+                    return null;
+                }
+                position++;
+                return result;
+            }
+            if (Character.isDigit(current)) {
+                return parseNumber();
+            }
+            if (Character.isJavaIdentifierStart(current) && '$' != current) {
+                return parseVariable();
+            }
+            return null;
+        }
+        
+        private ExpressionNode parseNumber() {
+            int begin = position;
+            while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                position++;
+            }
+            if (position < expression.length() && (Character.isJavaIdentifierPart(expression.charAt(position)) || '.' == expression.charAt(position))) {
+                return null;
+            }
+            String number = expression.substring(begin, position);
+            if (number.length() > 1 && '0' == number.charAt(0)) {
+                return null;
+            }
+            long value = Long.parseLong(number.length() > 10 ? "-1" : number);
+            return value < 0 || value > Integer.MAX_VALUE ? null : new NumberNode((int) value);
+        }
+        
+        private ExpressionNode parseVariable() {
+            int begin = position;
+            while (position < expression.length() && Character.isJavaIdentifierPart(expression.charAt(position)) && '$' != expression.charAt(position)) {
+                position++;
+            }
+            String name = expression.substring(begin, position);
+            skipWhitespace();
+            if (RESERVED_IDENTIFIERS.contains(name)
+                    || position < expression.length() && ('.' == expression.charAt(position) || '(' == expression.charAt(position) || '[' == expression.charAt(position))) {
+                return null;
+            }
+            variableNames.add(name);
+            return new VariableNode(name);
+        }
+        
+        private void skipWhitespace() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+    }
+}
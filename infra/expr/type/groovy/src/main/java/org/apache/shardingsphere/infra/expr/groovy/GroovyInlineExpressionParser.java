@@ -33,6 +33,7 @@ import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -47,13 +48,20 @@ public final class GroovyInlineExpressionParser implements InlineExpressionParse
     
     private static final Map<String, Script> SCRIPTS = new ConcurrentHashMap<>();
     
+    private static final Map<String, Optional<CompiledInlineExpression>> COMPILED_EXPRESSIONS = new ConcurrentHashMap<>();
+    
     private static final GroovyShell SHELL = new GroovyShell();
     
     private String inlineExpression;
     
+    private CompiledInlineExpression compiledExpression;
+    
     @Override
     public void init(final Properties props) {
         inlineExpression = props.getProperty(INLINE_EXPRESSION_KEY);
+        compiledExpression = null == inlineExpression
+                ? null
+                : COMPILED_EXPRESSIONS.computeIfAbsent(inlineExpression, key -> CompiledInlineExpression.compile(handlePlaceHolder(key))).orElse(null);
     }
     
     @Override
@@ -84,10 +92,14 @@ public final class GroovyInlineExpressionParser implements InlineExpressionParse
     /**
      * Turn inline expression into Groovy Closure. This function will replace all inline expression placeholders.
      * For compatibility reasons, it does not check whether the unit of the input parameter map is null.
+     * Simple arithmetic expressions with integral arguments are evaluated by the compiled expression without Groovy.
      * @return The result of the Groovy Closure pattern.
      */
     @Override
     public String evaluateWithArgs(final Map<String, Comparable<?>> map) {
+        if (null != compiledExpression && compiledExpression.isEvaluable(map)) {
+            return compiledExpression.evaluate(map);
+        }
         Closure<?> result = ((Closure<?>) evaluate("{it -> \"" + handlePlaceHolder(inlineExpression) + "\"}")).rehydrate(new Expando(), null, null);
         result.setResolveStrategy(Closure.DELEGATE_ONLY);
         map.forEach(result::setProperty);
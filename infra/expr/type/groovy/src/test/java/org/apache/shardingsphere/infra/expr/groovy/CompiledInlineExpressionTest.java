@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledInlineExpressionTest {
+    
+    @Test
+    void assertCompileWithUnsupportedExpression() {
+        assertFalse(CompiledInlineExpression.compile(null).isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id / 2}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id.hashCode() % 2}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${[0, 1]}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${'xx'}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${it % 2}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id % 2").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id % 4294967296}").isPresent());
+    }
+    
+    @Test
+    void assertEvaluateWithModuloExpression() {
+        CompiledInlineExpression actual = CompiledInlineExpression.compile("t_order_${order_id % 16}").orElseThrow(IllegalStateException::new);
+        assertThat(actual.evaluate(Collections.singletonMap("order_id", 35)), is("t_order_3"));
+        assertThat(actual.evaluate(Collections.singletonMap("order_id", 35L)), is("t_order_3"));
+        assertThat(actual.evaluate(Collections.singletonMap("order_id", -35L)), is("t_order_-3"));
+    }
+    
+    @Test
+    void assertEvaluateWithArithmeticExpression() {
+        CompiledInlineExpression actual = CompiledInlineExpression.compile("ds_${(user_id + 1) * 2 - order_id % 4}.t_order").orElseThrow(IllegalStateException::new);
+        Map<String, Comparable<?>> args = new HashMap<>(2, 1F);
+        args.put("user_id", 3);
+        args.put("order_id", 7L);
+        assertThat(actual.evaluate(args), is("ds_5.t_order"));
+    }
+    
+    @Test
+    void assertEvaluateWithIntOverflow() {
+        CompiledInlineExpression actual = CompiledInlineExpression.compile("${value * 2}").orElseThrow(IllegalStateException::new);
+        assertThat(actual.evaluate(Collections.singletonMap("value", Integer.MAX_VALUE)), is(String.valueOf(Integer.MAX_VALUE * 2)));
+        assertThat(actual.evaluate(Collections.singletonMap("value", (long) Integer.MAX_VALUE)), is(String.valueOf(Integer.MAX_VALUE * 2L)));
+    }
+    
+    @Test
+    void assertIsEvaluable() {
+        CompiledInlineExpression actual = CompiledInlineExpression.compile("t_order_${order_id % 16}").orElseThrow(IllegalStateException::new);
+        assertTrue(actual.isEvaluable(Collections.singletonMap("order_id", 1)));
+        assertTrue(actual.isEvaluable(Collections.singletonMap("order_id", 1L)));
+        assertFalse(actual.isEvaluable(Collections.singletonMap("order_id", "1")));
+        assertFalse(actual.isEvaluable(Collections.singletonMap("user_id", 1)));
+    }
+}
@@ -123,6 +123,17 @@ class GroovyInlineExpressionParserTest {
         assertThat(getInlineExpressionParser("${1+2}").evaluateWithArgs(new LinkedHashMap<>()), is("3"));
     }
     
+    @Test
+    void assertEvaluateWithArgsCompiledExpression() {
+        assertThat(getInlineExpressionParser("t_order_$->{order_id % 16}").evaluateWithArgs(Collections.singletonMap("order_id", 35L)), is("t_order_3"));
+        assertThat(getInlineExpressionParser("t_order_$->{order_id % 16}").evaluateWithArgs(Collections.singletonMap("order_id", -35)), is("t_order_-3"));
+    }
+    
+    @Test
+    void assertEvaluateWithArgsNotCompiledArguments() {
+        assertThat(getInlineExpressionParser("t_order_${order_id + 1}").evaluateWithArgs(Collections.singletonMap("order_id", "1")), is("t_order_11"));
+    }
+    
     @Test
     @SneakyThrows({ExecutionException.class, InterruptedException.class})
     void assertEvaluateForThreadSafety() {
@@ -33,8 +33,8 @@ import java.sql.Statement;
 public final class PreparedStatementExecuteQueryCallback extends ExecuteQueryCallback {
     
     public PreparedStatementExecuteQueryCallback(final DatabaseType protocolType, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement,
-                                                 final boolean isExceptionThrown) {
-        super(protocolType, resourceMetaData, sqlStatement, isExceptionThrown);
+                                                 final boolean isExceptionThrown, final boolean columnarMemoryQueryResultEnabled) {
+        super(protocolType, resourceMetaData, sqlStatement, isExceptionThrown, columnarMemoryQueryResultEnabled);
     }
     
     @Override
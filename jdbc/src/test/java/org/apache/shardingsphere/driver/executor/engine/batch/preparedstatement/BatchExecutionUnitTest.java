@@ -21,7 +21,9 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -47,6 +49,15 @@ class BatchExecutionUnitTest {
         assertThat(actual.get(0).get(0), is(1));
     }
     
+    @Test
+    void assertGetParameterSetsWithMultipleAddBatch() {
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, new LinkedList<>(Arrays.asList(1, 2, 3)))));
+        batchExecutionUnit.mapAddBatchCount(0);
+        batchExecutionUnit.mapAddBatchCount(1);
+        batchExecutionUnit.mapAddBatchCount(2);
+        assertThat(batchExecutionUnit.getParameterSets(), is(Arrays.asList(Collections.singletonList(1), Collections.singletonList(2), Collections.singletonList(3))));
+    }
+    
     @Test
     void assertEquals() {
         BatchExecutionUnit actual = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1))));
@@ -48,6 +48,16 @@ class ResultSetAdapterTest {
         verify(resultSet).close();
     }
     
+    @Test
+    void assertCloseWithMergedResult() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        MergedResult mergedResult = mock(MergedResult.class);
+        ShardingSphereResultSet actual = mockShardingSphereResultSet(resultSet, mergedResult);
+        actual.close();
+        verify(mergedResult).close();
+        verify(resultSet).close();
+    }
+    
     @Test
     void assertSetFetchDirection() throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
@@ -107,10 +117,14 @@ class ResultSetAdapterTest {
     }
     
     private ShardingSphereResultSet mockShardingSphereResultSet(final ResultSet resultSet) throws SQLException {
+        return mockShardingSphereResultSet(resultSet, mock(MergedResult.class));
+    }
+    
+    private ShardingSphereResultSet mockShardingSphereResultSet(final ResultSet resultSet, final MergedResult mergedResult) throws SQLException {
         ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
         when(resultSetMetaData.getColumnLabel(1)).thenReturn("col");
         when(resultSetMetaData.getColumnCount()).thenReturn(1);
         when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
-        return new ShardingSphereResultSet(Collections.singletonList(resultSet), mock(MergedResult.class), mock(ShardingSphereStatement.class, RETURNS_DEEP_STUBS), mock(SQLStatementContext.class));
+        return new ShardingSphereResultSet(Collections.singletonList(resultSet), mergedResult, mock(ShardingSphereStatement.class, RETURNS_DEEP_STUBS), mock(SQLStatementContext.class));
     }
 }
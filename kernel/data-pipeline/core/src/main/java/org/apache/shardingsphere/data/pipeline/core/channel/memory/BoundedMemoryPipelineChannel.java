@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.memory;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded memory pipeline channel.
+ *
+ * <p>Pushed record lists are kept in a ring buffer bounded by both slots and estimated bytes. Pushing threads are serialized and fetch thread reads without lock.
+ * Pushing threads wait on condition when channel is full, fetch thread only takes the lock to signal them when any of them is waiting.</p>
+ */
+public final class BoundedMemoryPipelineChannel implements PipelineChannel {
+    
+    private final AtomicReferenceArray<List<Record>> ring;
+    
+    private final long[] slotBytes;
+    
+    private final int mask;
+    
+    private final long maxBytes;
+    
+    private final PipelineChannelAckCallback ackCallback;
+    
+    private final AtomicLong writeSequence = new AtomicLong();
+    
+    private final AtomicLong readSequence = new AtomicLong();
+    
+    private final AtomicLong occupiedBytes = new AtomicLong();
+    
+    private final LongAdder pushedRecordsCount = new LongAdder();
+    
+    private final LongAdder fetchedRecordsCount = new LongAdder();
+    
+    private volatile long peakOccupiedBytes;
+    
+    private final Lock pushLock = new ReentrantLock();
+    
+    private final Condition notFull = pushLock.newCondition();
+    
+    private final AtomicInteger waitingPushCount = new AtomicInteger();
+    
+    private volatile Thread waitingFetchThread;
+    
+    public BoundedMemoryPipelineChannel(final int ringBufferSize, final long maxBytes, final PipelineChannelAckCallback ackCallback) {
+        int capacity = Integer.highestOneBit(Math.max(2, ringBufferSize) - 1) << 1;
+        ring = new AtomicReferenceArray<>(capacity);
+        slotBytes = new long[capacity];
+        mask = capacity - 1;
+        this.maxBytes = maxBytes;
+        this.ackCallback = ackCallback;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public void push(final List<Record> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        long bytes = RecordsSizeEstimator.estimate(records);
+        pushLock.lockInterruptibly();
+        try {
+            long sequence = writeSequence.get();
+            while (isFull(sequence, bytes)) {
+                awaitNotFull(sequence, bytes);
+            }
+            int index = (int) sequence & mask;
+            slotBytes[index] = bytes;
+            peakOccupiedBytes = Math.max(peakOccupiedBytes, occupiedBytes.addAndGet(bytes));
+            ring.set(index, records);
+            writeSequence.set(sequence + 1L);
+            pushedRecordsCount.add(records.size());
+        } finally {
+            pushLock.unlock();
+        }
+        Thread fetchThread = waitingFetchThread;
+        if (null != fetchThread) {
+            LockSupport.unpark(fetchThread);
+        }
+    }
+    
+    private boolean isFull(final long sequence, final long bytes) {
+        if (sequence - readSequence.get() > mask) {
+            return true;
+        }
+        long occupied = occupiedBytes.get();
+        return 0L != occupied && occupied + bytes > maxBytes;
+    }
+    
+    private void awaitNotFull(final long sequence, final long bytes) throws InterruptedException {
+        waitingPushCount.incrementAndGet();
+        try {
+            if (isFull(sequence, bytes)) {
+                notFull.await();
+            }
+        } finally {
+            waitingPushCount.decrementAndGet();
+        }
+    }
+    
+    private void signalNotFull() {
+        if (0 == waitingPushCount.get()) {
+            return;
+        }
+        pushLock.lock();
+        try {
+            notFull.signalAll();
+        } finally {
+            pushLock.unlock();
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public List<Record> fetch(final int batchSize, final long timeoutMillis) {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        List<Record> result = null;
+        while (null == result || result.size() < batchSize) {
+            List<Record> records = pollBatch();
+            if (null != records) {
+                if (null == result && records.size() >= batchSize) {
+                    result = records;
+                    break;
+                }
+                if (null == result) {
+                    result = new ArrayList<>(Math.max(batchSize, records.size()));
+                }
+                result.addAll(records);
+                continue;
+            }
+            long remainingNanos = deadlineNanos - System.nanoTime();
+            if (remainingNanos <= 0L) {
+                break;
+            }
+            waitForPush(remainingNanos);
+        }
+        return null == result ? new ArrayList<>(0) : result;
+    }
+    
+    private void waitForPush(final long timeoutNanos) throws InterruptedException {
+        waitingFetchThread = Thread.currentThread();
+        try {
+            if (readSequence.get() >= writeSequence.get()) {
+                LockSupport.parkNanos(this, timeoutNanos);
+            }
+        } finally {
+            waitingFetchThread = null;
+        }
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+    
+    private List<Record> pollBatch() {
+        long sequence = readSequence.get();
+        if (sequence >= writeSequence.get()) {
+            return null;
+        }
+        int index = (int) sequence & mask;
+        occupiedBytes.addAndGet(-slotBytes[index]);
+        List<Record> result = ring.getAndSet(index, null);
+        readSequence.set(sequence + 1L);
+        signalNotFull();
+        fetchedRecordsCount.add(result.size());
+        return result;
+    }
+    
+    @Override
+    public List<Record> peek() {
+        long sequence = readSequence.get();
+        return sequence < writeSequence.get() ? ring.get((int) sequence & mask) : Collections.emptyList();
+    }
+    
+    @Override
+    public List<Record> poll() {
+        List<Record> result = pollBatch();
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+    
+    /**
+     * Get estimated bytes of records in channel.
+     *
+     * @return occupied bytes
+     */
+    public long getOccupiedBytes() {
+        return occupiedBytes.get();
+    }
+    
+    /**
+     * Get peak estimated bytes of records in channel since channel created.
+     *
+     * @return peak occupied bytes
+     */
+    public long getPeakOccupiedBytes() {
+        return peakOccupiedBytes;
+    }
+    
+    /**
+     * Get count of record lists in channel.
+     *
+     * @return occupied slots
+     */
+    public int getOccupiedSlots() {
+        return (int) (writeSequence.get() - readSequence.get());
+    }
+    
+    /**
+     * Get pushed records count since channel created.
+     *
+     * @return pushed records count
+     */
+    public long getPushedRecordsCount() {
+        return pushedRecordsCount.sum();
+    }
+    
+    /**
+     * Get fetched records count since channel created.
+     *
+     * @return fetched records count
+     */
+    public long getFetchedRecordsCount() {
+        return fetchedRecordsCount.sum();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelCreator;
+
+import java.util.Properties;
+
+/**
+ * Pipeline channel creator of bounded memory.
+ */
+public final class BoundedMemoryPipelineChannelCreator implements PipelineChannelCreator {
+    
+    private static final String MAX_BYTES_KEY = "max-bytes";
+    
+    private static final String MAX_BYTES_DEFAULT_VALUE = String.valueOf(64L * 1024L * 1024L);
+    
+    private static final String RING_BUFFER_SIZE_KEY = "ring-buffer-size";
+    
+    private static final String RING_BUFFER_SIZE_DEFAULT_VALUE = "1024";
+    
+    private long maxBytes;
+    
+    private int ringBufferSize;
+    
+    @Override
+    public void init(final Properties props) {
+        maxBytes = Long.parseLong(props.getProperty(MAX_BYTES_KEY, MAX_BYTES_DEFAULT_VALUE));
+        ringBufferSize = Integer.parseInt(props.getProperty(RING_BUFFER_SIZE_KEY, RING_BUFFER_SIZE_DEFAULT_VALUE));
+    }
+    
+    @Override
+    public PipelineChannel newInstance(final int importerBatchSize, final PipelineChannelAckCallback ackCallback) {
+        return new BoundedMemoryPipelineChannel(ringBufferSize, maxBytes, ackCallback);
+    }
+    
+    @Override
+    public String getType() {
+        return "BOUNDED_MEMORY";
+    }
+}
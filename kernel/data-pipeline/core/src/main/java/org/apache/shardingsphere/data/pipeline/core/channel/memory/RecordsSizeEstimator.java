@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.memory;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+
+import java.util.List;
+
+/**
+ * Records size estimator.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RecordsSizeEstimator {
+    
+    private static final long RECORD_OVERHEAD_BYTES = 64L;
+    
+    private static final long COLUMN_OVERHEAD_BYTES = 48L;
+    
+    private static final long OBJECT_OVERHEAD_BYTES = 16L;
+    
+    /**
+     * Estimate heap bytes of records.
+     *
+     * @param records records
+     * @return estimated bytes
+     */
+    public static long estimate(final List<Record> records) {
+        long result = 0L;
+        for (Record each : records) {
+            result += RECORD_OVERHEAD_BYTES;
+            if (each instanceof DataRecord) {
+                result += estimate((DataRecord) each);
+            }
+        }
+        return result;
+    }
+    
+    private static long estimate(final DataRecord dataRecord) {
+        long result = 0L;
+        for (Column each : dataRecord.getColumns()) {
+            result += COLUMN_OVERHEAD_BYTES + estimate(each.getValue()) + estimate(each.getOldValue());
+        }
+        return result;
+    }
+    
+    private static long estimate(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof CharSequence) {
+            return OBJECT_OVERHEAD_BYTES * 2L + ((CharSequence) value).length() * 2L;
+        }
+        if (value instanceof byte[]) {
+            return OBJECT_OVERHEAD_BYTES + ((byte[]) value).length;
+        }
+        return OBJECT_OVERHEAD_BYTES * 2L;
+    }
+}
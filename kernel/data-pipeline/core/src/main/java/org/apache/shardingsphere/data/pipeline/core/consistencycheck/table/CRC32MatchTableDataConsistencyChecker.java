@@ -17,8 +17,12 @@
 
 package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
 
+import com.google.common.base.Strings;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.CRC32SingleTableInventoryCalculator;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.SingleTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineDataConsistencyCalculateSQLBuilder;
+import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.spi.annotation.SPIDescription;
@@ -26,6 +30,7 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.Properties;
 
 /**
  * CRC32 match table data consistency checker.
@@ -33,9 +38,54 @@ import java.util.LinkedList;
 @SPIDescription("Match CRC32 of records.")
 public final class CRC32MatchTableDataConsistencyChecker implements TableDataConsistencyChecker {
     
+    private static final String CHUNK_SIZE_KEY = "chunk-size";
+    
+    private static final int DEFAULT_CHUNK_SIZE = 100000;
+    
+    private static final String MAX_CONCURRENCY_KEY = "max-concurrency";
+    
+    private static final int DEFAULT_MAX_CONCURRENCY = 4;
+    
+    private int chunkSize;
+    
+    private int maxConcurrency;
+    
+    @Override
+    public void init(final Properties props) {
+        chunkSize = getPositiveIntValue(props, CHUNK_SIZE_KEY, DEFAULT_CHUNK_SIZE);
+        maxConcurrency = getPositiveIntValue(props, MAX_CONCURRENCY_KEY, DEFAULT_MAX_CONCURRENCY);
+    }
+    
+    private int getPositiveIntValue(final Properties props, final String key, final int defaultValue) {
+        String valueText = props.getProperty(key);
+        if (Strings.isNullOrEmpty(valueText)) {
+            return defaultValue;
+        }
+        int result;
+        try {
+            result = Integer.parseInt(valueText);
+        } catch (final NumberFormatException ignore) {
+            throw new PipelineInvalidParameterException(String.format("'%s' is not a valid number: `%s`", key, valueText));
+        }
+        if (result <= 0) {
+            throw new PipelineInvalidParameterException(String.format("Invalid '%s': %s", key, result));
+        }
+        return result;
+    }
+    
     @Override
     public TableInventoryChecker buildTableInventoryChecker(final TableInventoryCheckParameter param) {
-        return new CRC32MatchTableInventoryChecker(param);
+        return isChunkSupported(param) ? new ChunkedCRC32MatchTableInventoryChecker(param, chunkSize, maxConcurrency) : new CRC32MatchTableInventoryChecker(param);
+    }
+    
+    private boolean isChunkSupported(final TableInventoryCheckParameter param) {
+        if (1 != param.getUniqueKeys().size() || !PipelineJdbcUtils.isIntegerColumn(param.getUniqueKeys().get(0).getDataType()) || param.getColumnNames().isEmpty()) {
+            return false;
+        }
+        String columnName = param.getColumnNames().get(0);
+        String uniqueKey = param.getUniqueKeys().get(0).getName();
+        return new PipelineDataConsistencyCalculateSQLBuilder(param.getSourceDataSource().getDatabaseType()).buildRangeCRC32SQL(param.getSourceTable(), columnName, uniqueKey).isPresent()
+                && new PipelineDataConsistencyCalculateSQLBuilder(param.getTargetDataSource().getDatabaseType()).buildRangeCRC32SQL(param.getTargetTable(), columnName, uniqueKey).isPresent();
     }
     
     @Override
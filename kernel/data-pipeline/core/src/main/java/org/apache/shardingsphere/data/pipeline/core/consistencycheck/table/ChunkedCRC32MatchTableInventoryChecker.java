@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.Range;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.SingleTableInventoryCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.TableDataConsistencyCheckResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.CRC32SingleTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.RecordSingleTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.SingleTableInventoryCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.table.calculator.SingleTableInventoryCalculator;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobCancelingException;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.QueryType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.range.QueryRange;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelinePrepareSQLBuilder;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.kernel.category.PipelineSQLException;
+import org.apache.shardingsphere.infra.exception.core.external.sql.type.wrapper.SQLWrapperException;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Chunked CRC32 match table inventory checker.
+ *
+ * <p>
+ * Split table into integer unique key ranges of about chunk size rows, calculate CRC32 of source and target chunks in parallel, and only drill down mismatched chunks by records matching.
+ * Chunk boundaries are found by offset queries on unique key of source table, so sparse unique key values do not produce lots of empty chunks.
+ * For databases without offset query, chunks span chunk size of unique key values.
+ * Check position is advanced once all leading chunks are matched, so it could be resumed from the last matched chunk.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class ChunkedCRC32MatchTableInventoryChecker implements TableInventoryChecker {
+    
+    private static final int DRILL_DOWN_CHUNK_SIZE = 1000;
+    
+    private final TableInventoryCheckParameter param;
+    
+    private final long chunkSize;
+    
+    private final int maxConcurrency;
+    
+    private final AtomicBoolean canceling = new AtomicBoolean(false);
+    
+    private final Collection<SingleTableInventoryCalculator> runningCalculators = new CopyOnWriteArrayList<>();
+    
+    @Override
+    public TableDataConsistencyCheckResult checkSingleTableInventoryData() {
+        Optional<Range<Long>> uniqueKeyValuesRange = getUniqueKeyValuesRange();
+        if (!uniqueKeyValuesRange.isPresent()) {
+            return new TableDataConsistencyCheckResult(true);
+        }
+        ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(param.getJobId() + "-chunked-crc32-check-%d");
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(maxConcurrency), threadFactory);
+        try {
+            return new TableDataConsistencyCheckResult(checkChunks(uniqueKeyValuesRange.get(), executor));
+        } finally {
+            executor.shutdown();
+            executor.shutdownNow();
+        }
+    }
+    
+    private Optional<Range<Long>> getUniqueKeyValuesRange() {
+        Optional<Range<Long>> sourceRange = getUniqueKeyValuesRange(param.getSourceDataSource(), param.getSourceTable());
+        Optional<Range<Long>> targetRange = getUniqueKeyValuesRange(param.getTargetDataSource(), param.getTargetTable());
+        if (!sourceRange.isPresent() && !targetRange.isPresent()) {
+            return Optional.empty();
+        }
+        long minimum = Math.min(sourceRange.map(Range::getMinimum).orElse(Long.MAX_VALUE), targetRange.map(Range::getMinimum).orElse(Long.MAX_VALUE));
+        long maximum = Math.max(sourceRange.map(Range::getMaximum).orElse(Long.MIN_VALUE), targetRange.map(Range::getMaximum).orElse(Long.MIN_VALUE));
+        Object checkPosition = param.getProgressContext().getSourceTableCheckPositions().get(param.getSourceTable().getTableName());
+        if (null != checkPosition) {
+            long checkedMaximum = Long.parseLong(checkPosition.toString());
+            if (checkedMaximum >= maximum) {
+                return Optional.empty();
+            }
+            minimum = Math.max(minimum, checkedMaximum + 1L);
+        }
+        return Optional.of(Range.of(minimum, maximum));
+    }
+    
+    private Optional<Range<Long>> getUniqueKeyValuesRange(final PipelineDataSource dataSource, final QualifiedTable table) {
+        String sql = new PipelinePrepareSQLBuilder(dataSource.getDatabaseType()).buildUniqueKeyMinMaxValuesSQL(table.getSchemaName(), table.getTableName(), getUniqueKeyName());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            long minimum = resultSet.getLong(1);
+            if (resultSet.wasNull()) {
+                return Optional.empty();
+            }
+            return Optional.of(Range.of(minimum, resultSet.getLong(2)));
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(table, ex);
+        }
+    }
+    
+    private String getUniqueKeyName() {
+        return param.getUniqueKeys().get(0).getName();
+    }
+    
+    private boolean checkChunks(final Range<Long> uniqueKeyValuesRange, final ThreadPoolExecutor executor) {
+        Optional<String> chunkBoundarySQL = new PipelinePrepareSQLBuilder(param.getSourceDataSource().getDatabaseType())
+                .buildUniqueKeySplitBoundarySQL(param.getSourceTable().getSchemaName(), param.getSourceTable().getTableName(), getUniqueKeyName());
+        Deque<Future<CalculatedChunk>> calculatingChunks = new LinkedList<>();
+        Long nextChunkLower = uniqueKeyValuesRange.getMinimum();
+        try {
+            while (null != nextChunkLower || !calculatingChunks.isEmpty()) {
+                ShardingSpherePreconditions.checkState(!isCanceling(), () -> new PipelineJobCancelingException("Chunked CRC32 check canceled, qualified table: %s", param.getSourceTable()));
+                while (null != nextChunkLower && calculatingChunks.size() < maxConcurrency) {
+                    Range<Long> chunkRange = Range.of(nextChunkLower, getChunkUpper(chunkBoundarySQL, nextChunkLower, uniqueKeyValuesRange.getMaximum()));
+                    if (null != param.getReadRateLimitAlgorithm()) {
+                        param.getReadRateLimitAlgorithm().intercept(PipelineSQLOperationType.SELECT, 1);
+                    }
+                    calculatingChunks.add(executor.submit(() -> calculateChunk(chunkRange)));
+                    nextChunkLower = chunkRange.getMaximum() < uniqueKeyValuesRange.getMaximum() ? chunkRange.getMaximum() + 1L : null;
+                }
+                if (!checkChunk(waitFuture(calculatingChunks.poll()))) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            calculatingChunks.forEach(each -> each.cancel(true));
+        }
+    }
+    
+    private long getChunkUpper(final Optional<String> chunkBoundarySQL, final long chunkLower, final long maximum) {
+        if (chunkBoundarySQL.isPresent()) {
+            return findNextChunkLower(chunkBoundarySQL.get(), chunkLower).map(optional -> Math.min(optional - 1L, maximum)).orElse(maximum);
+        }
+        long result = chunkLower + chunkSize - 1L;
+        return result < chunkLower || result >= maximum ? maximum : result;
+    }
+    
+    private Optional<Long> findNextChunkLower(final String chunkBoundarySQL, final long chunkLower) {
+        try (
+                Connection connection = param.getSourceDataSource().getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(chunkBoundarySQL)) {
+            preparedStatement.setLong(1, chunkLower);
+            preparedStatement.setLong(2, chunkSize);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() ? Optional.of(resultSet.getLong(1)).filter(optional -> optional > chunkLower) : Optional.empty();
+            }
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSourceTable(), ex);
+        }
+    }
+    
+    private CalculatedChunk calculateChunk(final Range<Long> chunkRange) {
+        SingleTableInventoryCalculatedResult sourceResult = calculateCRC32(param.getSourceDataSource(), param.getSourceTable(), chunkRange);
+        SingleTableInventoryCalculatedResult targetResult = calculateCRC32(param.getTargetDataSource(), param.getTargetTable(), chunkRange);
+        return new CalculatedChunk(chunkRange, sourceResult.getRecordsCount(), Objects.equals(sourceResult, targetResult));
+    }
+    
+    private SingleTableInventoryCalculatedResult calculateCRC32(final PipelineDataSource dataSource, final QualifiedTable table, final Range<Long> chunkRange) {
+        SingleTableInventoryCalculator calculator = new CRC32SingleTableInventoryCalculator();
+        runningCalculators.add(calculator);
+        try {
+            return calculator.calculate(createCalculateParameter(dataSource, table, chunkRange)).iterator().next();
+        } finally {
+            runningCalculators.remove(calculator);
+        }
+    }
+    
+    private SingleTableInventoryCalculateParameter createCalculateParameter(final PipelineDataSource dataSource, final QualifiedTable table, final Range<Long> chunkRange) {
+        SingleTableInventoryCalculateParameter result = new SingleTableInventoryCalculateParameter(dataSource, table, param.getColumnNames(), param.getUniqueKeys(), QueryType.RANGE_QUERY);
+        result.setQueryRange(new QueryRange(chunkRange.getMinimum(), true, chunkRange.getMaximum()));
+        return result;
+    }
+    
+    private boolean checkChunk(final CalculatedChunk calculatedChunk) {
+        if (!calculatedChunk.isMatched() && !isRecordsMatched(calculatedChunk.getRange())) {
+            log.info("Chunk content matched false, jobId={}, sourceTable={}, targetTable={}, uniqueKey={}, range={}",
+                    param.getJobId(), param.getSourceTable(), param.getTargetTable(), getUniqueKeyName(), calculatedChunk.getRange());
+            return false;
+        }
+        param.getProgressContext().getSourceTableCheckPositions().put(param.getSourceTable().getTableName(), calculatedChunk.getRange().getMaximum());
+        param.getProgressContext().getTargetTableCheckPositions().put(param.getTargetTable().getTableName(), calculatedChunk.getRange().getMaximum());
+        param.getProgressContext().onProgressUpdated(new PipelineJobUpdateProgress(calculatedChunk.getRecordsCount()));
+        return true;
+    }
+    
+    private boolean isRecordsMatched(final Range<Long> chunkRange) {
+        log.info("Chunk CRC32 matched false, drill down by records, jobId={}, sourceTable={}, range={}", param.getJobId(), param.getSourceTable(), chunkRange);
+        SingleTableInventoryCalculateParameter sourceParam = createCalculateParameter(param.getSourceDataSource(), param.getSourceTable(), chunkRange);
+        SingleTableInventoryCalculateParameter targetParam = createCalculateParameter(param.getTargetDataSource(), param.getTargetTable(), chunkRange);
+        SingleTableInventoryCalculator sourceCalculator = new RecordSingleTableInventoryCalculator(DRILL_DOWN_CHUNK_SIZE);
+        SingleTableInventoryCalculator targetCalculator = new RecordSingleTableInventoryCalculator(DRILL_DOWN_CHUNK_SIZE);
+        runningCalculators.add(sourceCalculator);
+        runningCalculators.add(targetCalculator);
+        try {
+            Iterator<SingleTableInventoryCalculatedResult> sourceCalculatedResults = sourceCalculator.calculate(sourceParam).iterator();
+            Iterator<SingleTableInventoryCalculatedResult> targetCalculatedResults = targetCalculator.calculate(targetParam).iterator();
+            while (sourceCalculatedResults.hasNext() && targetCalculatedResults.hasNext()) {
+                if (!Objects.equals(sourceCalculatedResults.next(), targetCalculatedResults.next())) {
+                    return false;
+                }
+            }
+            return !sourceCalculatedResults.hasNext() && !targetCalculatedResults.hasNext();
+        } finally {
+            QuietlyCloser.close(sourceParam.getCalculationContext());
+            QuietlyCloser.close(targetParam.getCalculationContext());
+            runningCalculators.remove(sourceCalculator);
+            runningCalculators.remove(targetCalculator);
+        }
+    }
+    
+    private <T> T waitFuture(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLWrapperException(new SQLException(ex));
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof PipelineSQLException) {
+                throw (PipelineSQLException) ex.getCause();
+            }
+            throw new SQLWrapperException(new SQLException(ex));
+        }
+    }
+    
+    @Override
+    public void cancel() {
+        canceling.set(true);
+        runningCalculators.forEach(SingleTableInventoryCalculator::cancel);
+    }
+    
+    @Override
+    public boolean isCanceling() {
+        return canceling.get();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class CalculatedChunk {
+        
+        private final Range<Long> range;
+        
+        private final int recordsCount;
+        
+        private final boolean matched;
+    }
+}
@@ -22,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.SingleTableInventoryCalculatedResult;
 import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.inventory.query.range.QueryRange;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineDataConsistencyCalculateSQLBuilder;
 import org.apache.shardingsphere.infra.algorithm.core.exception.UnsupportedAlgorithmOnDatabaseTypeException;
 
@@ -49,23 +50,41 @@ public final class CRC32SingleTableInventoryCalculator extends AbstractSingleTab
     }
     
     private CalculatedItem calculateCRC32(final PipelineDataConsistencyCalculateSQLBuilder pipelineSQLBuilder, final SingleTableInventoryCalculateParameter param, final String columnName) {
-        String sql = pipelineSQLBuilder.buildCRC32SQL(param.getTable(), columnName)
-                .orElseThrow(() -> new UnsupportedAlgorithmOnDatabaseTypeException("DataConsistencyCalculate", "CRC32", param.getDatabaseType()));
+        QueryRange queryRange = param.getQueryRange();
+        boolean isRangeQuery = null != queryRange && null != queryRange.getLower() && null != queryRange.getUpper();
+        String sql = buildCRC32SQL(pipelineSQLBuilder, param, columnName, isRangeQuery);
         try (
                 Connection connection = param.getDataSource().getConnection();
-                PreparedStatement preparedStatement = connection.prepareStatement(sql);
-                ResultSet resultSet = preparedStatement.executeQuery()) {
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
             setCurrentStatement(preparedStatement);
+            if (isRangeQuery) {
+                preparedStatement.setObject(1, queryRange.getLower());
+                preparedStatement.setObject(2, queryRange.getUpper());
+            }
+            return calculateCRC32(preparedStatement);
+        } catch (final SQLException ex) {
+            log.error("Calculate CRC32 failed, sql={}", sql, ex);
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getTable(), ex);
+        }
+    }
+    
+    private CalculatedItem calculateCRC32(final PreparedStatement preparedStatement) throws SQLException {
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
             resultSet.next();
             long crc32 = resultSet.getLong(1);
             int recordsCount = resultSet.getInt(2);
             return new CalculatedItem(crc32, recordsCount);
-        } catch (final SQLException ex) {
-            log.error("Calculate CRC32 failed, sql={}", sql, ex);
-            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getTable(), ex);
         }
     }
     
+    private String buildCRC32SQL(final PipelineDataConsistencyCalculateSQLBuilder pipelineSQLBuilder, final SingleTableInventoryCalculateParameter param,
+                                 final String columnName, final boolean isRangeQuery) {
+        Optional<String> result = isRangeQuery
+                ? pipelineSQLBuilder.buildRangeCRC32SQL(param.getTable(), columnName, param.getFirstUniqueKey().getName())
+                : pipelineSQLBuilder.buildCRC32SQL(param.getTable(), columnName);
+        return result.orElseThrow(() -> new UnsupportedAlgorithmOnDatabaseTypeException("DataConsistencyCalculate", "CRC32", param.getDatabaseType()));
+    }
+    
     @RequiredArgsConstructor
     @Getter
     private static final class CalculatedItem {
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.memory.BoundedMemoryPipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
+import org.apache.shardingsphere.data.pipeline.core.execute.AbstractPipelineLifecycleRunnable;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressListener;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Partitioned channel consumer importer.
+ * <p>Data records of each fetched batch are partitioned by value based hash of unique key and written by partition workers concurrently,
+ * so records of the same unique key are always written in order by the same worker.
+ * The batch is acknowledged after all partitions are written, so acknowledgement keeps the order of channel.</p>
+ */
+@Slf4j
+public final class PartitionedChannelConsumerImporter extends AbstractPipelineLifecycleRunnable implements Importer {
+    
+    private final PipelineChannel channel;
+    
+    private final int batchSize;
+    
+    private final long timeoutMillis;
+    
+    private final PipelineSink sink;
+    
+    private final PipelineJobProgressListener jobProgressListener;
+    
+    private final int partitionCount;
+    
+    private final ExecutorService partitionExecutor;
+    
+    public PartitionedChannelConsumerImporter(final PipelineChannel channel, final int batchSize, final long timeoutMillis, final PipelineSink sink,
+                                              final PipelineJobProgressListener jobProgressListener, final int partitionCount) {
+        this.channel = channel;
+        this.batchSize = batchSize;
+        this.timeoutMillis = timeoutMillis;
+        this.sink = sink;
+        this.jobProgressListener = jobProgressListener;
+        this.partitionCount = Math.max(1, partitionCount);
+        partitionExecutor = Executors.newFixedThreadPool(this.partitionCount, ExecutorThreadFactoryBuilder.build("pipeline-importer-partition-%d"));
+    }
+    
+    @Override
+    protected void runBlocking() {
+        try {
+            while (isRunning()) {
+                List<Record> records = channel.fetch(batchSize, timeoutMillis);
+                if (records.isEmpty()) {
+                    continue;
+                }
+                PipelineJobUpdateProgress updateProgress = write(records);
+                channel.ack(records);
+                jobProgressListener.onProgressUpdated(updateProgress);
+                if (FinishedRecord.class.equals(records.get(records.size() - 1).getClass())) {
+                    break;
+                }
+            }
+        } finally {
+            partitionExecutor.shutdown();
+            logChannelMetrics();
+        }
+    }
+    
+    private void logChannelMetrics() {
+        if (channel instanceof BoundedMemoryPipelineChannel) {
+            BoundedMemoryPipelineChannel boundedChannel = (BoundedMemoryPipelineChannel) channel;
+            log.info("Importer channel metrics, pushed records={}, fetched records={}, occupied slots={}, occupied bytes={}, peak occupied bytes={}", boundedChannel.getPushedRecordsCount(),
+                    boundedChannel.getFetchedRecordsCount(), boundedChannel.getOccupiedSlots(), boundedChannel.getOccupiedBytes(), boundedChannel.getPeakOccupiedBytes());
+        }
+    }
+    
+    private PipelineJobUpdateProgress write(final List<Record> records) {
+        List<List<Record>> partitions = partition(records);
+        if (1 == partitions.size()) {
+            return sink.write("", partitions.get(0));
+        }
+        Collection<Future<PipelineJobUpdateProgress>> futures = new LinkedList<>();
+        for (List<Record> each : partitions) {
+            futures.add(partitionExecutor.submit(() -> sink.write("", each)));
+        }
+        int processedRecordsCount = 0;
+        for (Future<PipelineJobUpdateProgress> each : futures) {
+            processedRecordsCount += waitFuture(each).getProcessedRecordsCount();
+        }
+        return new PipelineJobUpdateProgress(processedRecordsCount);
+    }
+    
+    private List<List<Record>> partition(final List<Record> records) {
+        if (1 == partitionCount) {
+            return Collections.singletonList(records);
+        }
+        List<List<Record>> result = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            result.add(new LinkedList<>());
+        }
+        for (Record each : records) {
+            if (!(each instanceof DataRecord)) {
+                continue;
+            }
+            DataRecord dataRecord = (DataRecord) each;
+            if (!isPartitionable(dataRecord)) {
+                return Collections.singletonList(records);
+            }
+            result.get(getPartitionIndex(dataRecord)).add(dataRecord);
+        }
+        List<List<Record>> nonEmptyPartitions = result.stream().filter(each -> !each.isEmpty()).collect(Collectors.toList());
+        return nonEmptyPartitions.isEmpty() ? Collections.singletonList(records) : nonEmptyPartitions;
+    }
+    
+    private boolean isPartitionable(final DataRecord dataRecord) {
+        if (dataRecord.getUniqueKeyValue().isEmpty()) {
+            return false;
+        }
+        return PipelineSQLOperationType.UPDATE != dataRecord.getType() || dataRecord.getColumns().stream().noneMatch(each -> each.isUniqueKey() && each.isUpdated());
+    }
+    
+    private int getPartitionIndex(final DataRecord dataRecord) {
+        Collection<Object> uniqueKeyValues = PipelineSQLOperationType.DELETE == dataRecord.getType() ? dataRecord.getOldUniqueKeyValues() : dataRecord.getUniqueKeyValue();
+        return Math.floorMod(Arrays.deepHashCode(new Object[]{dataRecord.getTableName(), uniqueKeyValues.toArray()}), partitionCount);
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private PipelineJobUpdateProgress waitFuture(final Future<PipelineJobUpdateProgress> future) {
+        try {
+            return future.get();
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new PipelineInternalException(ex.getCause());
+        }
+    }
+    
+    @Override
+    protected void doStop() {
+        partitionExecutor.shutdownNow();
+        QuietlyCloser.close(sink);
+    }
+}
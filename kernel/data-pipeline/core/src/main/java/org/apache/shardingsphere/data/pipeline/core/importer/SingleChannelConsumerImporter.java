@@ -18,7 +18,9 @@
 package org.apache.shardingsphere.data.pipeline.core.importer;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.memory.BoundedMemoryPipelineChannel;
 import org.apache.shardingsphere.data.pipeline.core.execute.AbstractPipelineLifecycleRunnable;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord;
@@ -33,6 +35,7 @@ import java.util.List;
  * Single channel consumer importer.
  */
 @RequiredArgsConstructor
+@Slf4j
 public final class SingleChannelConsumerImporter extends AbstractPipelineLifecycleRunnable implements Importer {
     
     private final PipelineChannel channel;
@@ -59,6 +62,15 @@ public final class SingleChannelConsumerImporter extends AbstractPipelineLifecyc
                 break;
             }
         }
+        logChannelMetrics();
+    }
+    
+    private void logChannelMetrics() {
+        if (channel instanceof BoundedMemoryPipelineChannel) {
+            BoundedMemoryPipelineChannel boundedChannel = (BoundedMemoryPipelineChannel) channel;
+            log.info("Importer channel metrics, pushed records={}, fetched records={}, occupied slots={}, occupied bytes={}, peak occupied bytes={}", boundedChannel.getPushedRecordsCount(),
+                    boundedChannel.getFetchedRecordsCount(), boundedChannel.getOccupiedSlots(), boundedChannel.getOccupiedBytes(), boundedChannel.getPeakOccupiedBytes());
+        }
     }
     
     @Override
@@ -34,17 +34,18 @@ import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.Pipeli
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineImportSQLBuilder;
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
-import org.apache.shardingsphere.infra.util.json.JsonUtils;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Collection;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -62,14 +63,14 @@ public final class PipelineDataSourceSink implements PipelineSink {
     
     private final DataRecordGroupEngine groupEngine;
     
-    private final AtomicReference<PreparedStatement> runningStatement;
+    private final Collection<PreparedStatement> runningStatements;
     
     public PipelineDataSourceSink(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager) {
         this.importerConfig = importerConfig;
         dataSource = dataSourceManager.getDataSource(importerConfig.getDataSourceConfig());
         importSQLBuilder = new PipelineImportSQLBuilder(importerConfig.getDataSourceConfig().getDatabaseType());
         groupEngine = new DataRecordGroupEngine();
-        runningStatement = new AtomicReference<>();
+        runningStatements = ConcurrentHashMap.newKeySet();
     }
     
     @Override
@@ -131,14 +132,16 @@ public final class PipelineDataSourceSink implements PipelineSink {
         try (
                 Connection connection = dataSource.getConnection();
                 PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-            runningStatement.set(preparedStatement);
-            if (firstTimeRun) {
-                executeBatchInsertFirstTime(connection, preparedStatement, dataRecords);
-            } else {
-                retryBatchInsert(preparedStatement, dataRecords);
+            runningStatements.add(preparedStatement);
+            try {
+                if (firstTimeRun) {
+                    executeBatchInsertFirstTime(connection, preparedStatement, dataRecords);
+                } else {
+                    retryBatchInsert(preparedStatement, dataRecords);
+                }
+            } finally {
+                runningStatements.remove(preparedStatement);
             }
-        } finally {
-            runningStatement.set(null);
         }
     }
     
@@ -175,46 +178,74 @@ public final class PipelineDataSourceSink implements PipelineSink {
             if (transactionEnabled) {
                 connection.setAutoCommit(false);
             }
-            for (DataRecord each : dataRecords) {
-                executeUpdate(connection, each);
-            }
+            executeBatchUpdate(connection, dataRecords);
             if (transactionEnabled) {
                 connection.commit();
             }
         }
     }
     
-    private void executeUpdate(final Connection connection, final DataRecord dataRecord) throws SQLException {
-        Set<String> shardingColumns = importerConfig.getShardingColumns(dataRecord.getTableName());
-        List<Column> conditionColumns = RecordUtils.extractConditionColumns(dataRecord, shardingColumns);
-        List<Column> setColumns = dataRecord.getColumns().stream().filter(Column::isUpdated).collect(Collectors.toList());
-        String sql = importSQLBuilder.buildUpdateSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord, conditionColumns);
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-            runningStatement.set(preparedStatement);
-            for (int i = 0; i < setColumns.size(); i++) {
-                preparedStatement.setObject(i + 1, setColumns.get(i).getValue());
-            }
-            for (int i = 0; i < conditionColumns.size(); i++) {
-                Column keyColumn = conditionColumns.get(i);
-                // TODO There to be compatible with PostgreSQL before value is null except primary key and unsupported updating sharding value now.
-                if (shardingColumns.contains(keyColumn.getName()) && null == keyColumn.getOldValue()) {
-                    preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getValue());
-                    continue;
-                }
-                preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getOldValue());
+    private void executeBatchUpdate(final Connection connection, final Collection<DataRecord> dataRecords) throws SQLException {
+        List<DataRecord> sameShapeDataRecords = new LinkedList<>();
+        String sameShapeSQL = null;
+        for (DataRecord each : dataRecords) {
+            String sql = importSQLBuilder.buildUpdateSQL(importerConfig.findSchemaName(each.getTableName()).orElse(null), each,
+                    RecordUtils.extractConditionColumns(each, importerConfig.getShardingColumns(each.getTableName())));
+            if (!sql.equals(sameShapeSQL) && !sameShapeDataRecords.isEmpty()) {
+                executeBatchUpdate(connection, sameShapeSQL, sameShapeDataRecords);
+                sameShapeDataRecords.clear();
             }
-            // TODO if table without unique key the conditionColumns before values is null, so update will fail at PostgreSQL
-            int updateCount = preparedStatement.executeUpdate();
-            if (1 != updateCount) {
-                log.warn("Update failed, update count: {}, sql: {}, set columns: {}, sharding columns: {}, condition columns: {}",
-                        updateCount, sql, setColumns, JsonUtils.toJsonString(shardingColumns), JsonUtils.toJsonString(conditionColumns));
+            sameShapeSQL = sql;
+            sameShapeDataRecords.add(each);
+        }
+        if (!sameShapeDataRecords.isEmpty()) {
+            executeBatchUpdate(connection, sameShapeSQL, sameShapeDataRecords);
+        }
+    }
+    
+    private void executeBatchUpdate(final Connection connection, final String sql, final List<DataRecord> dataRecords) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            runningStatements.add(preparedStatement);
+            try {
+                executeBatchUpdate(preparedStatement, sql, dataRecords);
+            } finally {
+                runningStatements.remove(preparedStatement);
             }
         } catch (final SQLException ex) {
-            log.error("execute update failed, sql: {}, set columns: {}, sharding columns: {}, condition columns: {}, error message: {}, data record: {}",
-                    sql, setColumns, JsonUtils.toJsonString(shardingColumns), JsonUtils.toJsonString(conditionColumns), ex.getMessage(), dataRecord);
+            log.error("execute batch update failed, sql: {}, error message: {}, data records count: {}", sql, ex.getMessage(), dataRecords.size());
             throw ex;
-        } finally {
-            runningStatement.set(null);
+        }
+    }
+    
+    private void executeBatchUpdate(final PreparedStatement preparedStatement, final String sql, final List<DataRecord> dataRecords) throws SQLException {
+        for (DataRecord each : dataRecords) {
+            setUpdateParameters(preparedStatement, each);
+            preparedStatement.addBatch();
+        }
+        // TODO if table without unique key the conditionColumns before values is null, so update will fail at PostgreSQL
+        int[] updateCounts = preparedStatement.executeBatch();
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (1 != updateCounts[i] && Statement.SUCCESS_NO_INFO != updateCounts[i]) {
+                log.warn("Update failed, update count: {}, sql: {}, data record: {}", updateCounts[i], sql, dataRecords.get(i));
+            }
+        }
+    }
+    
+    private void setUpdateParameters(final PreparedStatement preparedStatement, final DataRecord dataRecord) throws SQLException {
+        Set<String> shardingColumns = importerConfig.getShardingColumns(dataRecord.getTableName());
+        List<Column> conditionColumns = RecordUtils.extractConditionColumns(dataRecord, shardingColumns);
+        List<Column> setColumns = dataRecord.getColumns().stream().filter(Column::isUpdated).collect(Collectors.toList());
+        for (int i = 0; i < setColumns.size(); i++) {
+            preparedStatement.setObject(i + 1, setColumns.get(i).getValue());
+        }
+        for (int i = 0; i < conditionColumns.size(); i++) {
+            Column keyColumn = conditionColumns.get(i);
+            // TODO There to be compatible with PostgreSQL before value is null except primary key and unsupported updating sharding value now.
+            if (shardingColumns.contains(keyColumn.getName()) && null == keyColumn.getOldValue()) {
+                preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getValue());
+                continue;
+            }
+            preparedStatement.setObject(setColumns.size() + i + 1, keyColumn.getOldValue());
         }
     }
     
@@ -236,27 +267,33 @@ public final class PipelineDataSourceSink implements PipelineSink {
         String deleteSQL = importSQLBuilder.buildDeleteSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord,
                 RecordUtils.extractConditionColumns(dataRecord, shardingColumns));
         try (PreparedStatement preparedStatement = connection.prepareStatement(deleteSQL)) {
-            runningStatement.set(preparedStatement);
-            preparedStatement.setQueryTimeout(30);
-            for (DataRecord each : dataRecords) {
-                List<Column> conditionColumns = RecordUtils.extractConditionColumns(each, importerConfig.getShardingColumns(each.getTableName()));
-                for (int i = 0; i < conditionColumns.size(); i++) {
-                    Object oldValue = conditionColumns.get(i).getOldValue();
-                    if (null == oldValue) {
-                        log.warn("Record old value is null, record: {}", each);
-                    }
-                    preparedStatement.setObject(i + 1, oldValue);
+            runningStatements.add(preparedStatement);
+            try {
+                executeBatchDelete(preparedStatement, dataRecords);
+            } finally {
+                runningStatements.remove(preparedStatement);
+            }
+        }
+    }
+    
+    private void executeBatchDelete(final PreparedStatement preparedStatement, final Collection<DataRecord> dataRecords) throws SQLException {
+        preparedStatement.setQueryTimeout(30);
+        for (DataRecord each : dataRecords) {
+            List<Column> conditionColumns = RecordUtils.extractConditionColumns(each, importerConfig.getShardingColumns(each.getTableName()));
+            for (int i = 0; i < conditionColumns.size(); i++) {
+                Object oldValue = conditionColumns.get(i).getOldValue();
+                if (null == oldValue) {
+                    log.warn("Record old value is null, record: {}", each);
                 }
-                preparedStatement.addBatch();
+                preparedStatement.setObject(i + 1, oldValue);
             }
-            preparedStatement.executeBatch();
-        } finally {
-            runningStatement.set(null);
+            preparedStatement.addBatch();
         }
+        preparedStatement.executeBatch();
     }
     
     @Override
     public void close() {
-        Optional.ofNullable(runningStatement.get()).ifPresent(PipelineJdbcUtils::cancelStatement);
+        runningStatements.forEach(PipelineJdbcUtils::cancelStatement);
     }
 }
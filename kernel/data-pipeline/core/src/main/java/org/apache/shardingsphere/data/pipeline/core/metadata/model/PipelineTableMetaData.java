@@ -45,6 +45,9 @@ public final class PipelineTableMetaData {
     
     private final Map<ShardingSphereIdentifier, PipelineColumnMetaData> columnMetaDataMap;
     
+    @ToString.Exclude
+    private final List<PipelineColumnMetaData> sortedColumnMetaDataList;
+    
     @Getter
     private final List<String> columnNames;
     
@@ -59,6 +62,7 @@ public final class PipelineTableMetaData {
         this.columnMetaDataMap = columnMetaDataMap;
         List<PipelineColumnMetaData> columnMetaDataList = new ArrayList<>(columnMetaDataMap.values());
         Collections.sort(columnMetaDataList);
+        sortedColumnMetaDataList = Collections.unmodifiableList(columnMetaDataList);
         columnNames = Collections.unmodifiableList(columnMetaDataList.stream().map(PipelineColumnMetaData::getName).collect(Collectors.toList()));
         Optional<PipelineIndexMetaData> primaryKeyMetaData = uniqueIndexes.stream().filter(PipelineIndexMetaData::isPrimaryKey).findFirst();
         primaryKeyColumns = primaryKeyMetaData.map(each -> each.getColumns().stream().map(PipelineColumnMetaData::getName).collect(Collectors.toList()))
@@ -74,7 +78,7 @@ public final class PipelineTableMetaData {
      * @return column meta data
      */
     public PipelineColumnMetaData getColumnMetaData(final int columnIndex) {
-        return getColumnMetaData(columnNames.get(columnIndex - 1));
+        return sortedColumnMetaDataList.get(columnIndex - 1);
     }
     
     /**
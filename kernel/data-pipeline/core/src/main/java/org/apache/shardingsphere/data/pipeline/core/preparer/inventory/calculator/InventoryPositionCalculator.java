@@ -57,4 +57,25 @@ public final class InventoryPositionCalculator {
         }
         return result;
     }
+    
+    /**
+     * Get position by integer unique key split boundaries.
+     *
+     * @param uniqueKeyValuesRange unique key values range
+     * @param splitBoundaries ascending unique key values, each of them is the begin value of a split except the first one
+     * @return position collection
+     */
+    public static Collection<IngestPosition> getPositionByIntegerUniqueKeyBoundaries(final Range<Long> uniqueKeyValuesRange, final Collection<Long> splitBoundaries) {
+        Collection<IngestPosition> result = new LinkedList<>();
+        long beginValue = uniqueKeyValuesRange.getMinimum();
+        for (long each : splitBoundaries) {
+            if (each <= beginValue || each > uniqueKeyValuesRange.getMaximum()) {
+                continue;
+            }
+            result.add(new IntegerPrimaryKeyIngestPosition(beginValue, each - 1L));
+            beginValue = each;
+        }
+        result.add(new IntegerPrimaryKeyIngestPosition(beginValue, uniqueKeyValuesRange.getMaximum()));
+        return result;
+    }
 }
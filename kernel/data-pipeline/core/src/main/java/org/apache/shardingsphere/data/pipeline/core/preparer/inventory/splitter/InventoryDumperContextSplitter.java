@@ -38,7 +38,9 @@ import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelinePrepa
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
 import org.apache.shardingsphere.infra.metadata.identifier.ShardingSphereIdentifier;
 
+import java.math.BigInteger;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -46,6 +48,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -121,9 +124,7 @@ public final class InventoryDumperContextSplitter {
         if (1 == uniqueKeyColumns.size()) {
             int firstColumnDataType = uniqueKeyColumns.get(0).getDataType();
             if (PipelineJdbcUtils.isIntegerColumn(firstColumnDataType)) {
-                Range<Long> uniqueKeyValuesRange = getUniqueKeyValuesRange(jobItemContext, dumperContext);
-                int shardingSize = jobItemContext.getJobProcessContext().getProcessConfiguration().getRead().getShardingSize();
-                return InventoryPositionCalculator.getPositionByIntegerUniqueKeyRange(tableRecordsCount, uniqueKeyValuesRange, shardingSize);
+                return getIntegerUniqueKeyPositions(tableRecordsCount, dumperContext, jobItemContext);
             }
             if (PipelineJdbcUtils.isStringColumn(firstColumnDataType)) {
                 return Collections.singleton(new StringPrimaryKeyIngestPosition(null, null));
@@ -132,6 +133,18 @@ public final class InventoryDumperContextSplitter {
         return Collections.singleton(new UnsupportedKeyIngestPosition());
     }
     
+    private Collection<IngestPosition> getIntegerUniqueKeyPositions(final long tableRecordsCount, final InventoryDumperContext dumperContext, final TransmissionJobItemContext jobItemContext) {
+        Range<Long> uniqueKeyValuesRange = getUniqueKeyValuesRange(jobItemContext, dumperContext);
+        int shardingSize = jobItemContext.getJobProcessContext().getProcessConfiguration().getRead().getShardingSize();
+        if (isSparseUniqueKeyValues(tableRecordsCount, uniqueKeyValuesRange, shardingSize)) {
+            Optional<Collection<Long>> splitBoundaries = getUniqueKeySplitBoundaries(jobItemContext, dumperContext, uniqueKeyValuesRange, shardingSize);
+            if (splitBoundaries.isPresent()) {
+                return InventoryPositionCalculator.getPositionByIntegerUniqueKeyBoundaries(uniqueKeyValuesRange, splitBoundaries.get());
+            }
+        }
+        return InventoryPositionCalculator.getPositionByIntegerUniqueKeyRange(tableRecordsCount, uniqueKeyValuesRange, shardingSize);
+    }
+    
     private Range<Long> getUniqueKeyValuesRange(final TransmissionJobItemContext jobItemContext, final InventoryDumperContext dumperContext) {
         String uniqueKey = dumperContext.getUniqueKeyColumns().get(0).getName();
         PipelinePrepareSQLBuilder pipelineSQLBuilder = new PipelinePrepareSQLBuilder(jobItemContext.getJobConfig().getSourceDatabaseType());
@@ -148,6 +161,45 @@ public final class InventoryDumperContextSplitter {
         }
     }
     
+    private boolean isSparseUniqueKeyValues(final long tableRecordsCount, final Range<Long> uniqueKeyValuesRange, final int shardingSize) {
+        if (tableRecordsCount <= shardingSize) {
+            return false;
+        }
+        BigInteger uniqueKeyValuesSpan = BigInteger.valueOf(uniqueKeyValuesRange.getMaximum()).subtract(BigInteger.valueOf(uniqueKeyValuesRange.getMinimum()));
+        return uniqueKeyValuesSpan.compareTo(BigInteger.valueOf(tableRecordsCount).shiftLeft(1)) >= 0;
+    }
+    
+    private Optional<Collection<Long>> getUniqueKeySplitBoundaries(final TransmissionJobItemContext jobItemContext, final InventoryDumperContext dumperContext,
+                                                                   final Range<Long> uniqueKeyValuesRange, final int shardingSize) {
+        String uniqueKey = dumperContext.getUniqueKeyColumns().get(0).getName();
+        PipelinePrepareSQLBuilder pipelineSQLBuilder = new PipelinePrepareSQLBuilder(jobItemContext.getJobConfig().getSourceDatabaseType());
+        Optional<String> sql = pipelineSQLBuilder.buildUniqueKeySplitBoundarySQL(
+                dumperContext.getCommonContext().getTableAndSchemaNameMapper().getSchemaName(dumperContext.getLogicTableName()), dumperContext.getActualTableName(), uniqueKey);
+        if (!sql.isPresent()) {
+            return Optional.empty();
+        }
+        Collection<Long> result = new LinkedList<>();
+        try (
+                Connection connection = sourceDataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql.get())) {
+            long lowerValue = uniqueKeyValuesRange.getMinimum();
+            while (lowerValue < uniqueKeyValuesRange.getMaximum()) {
+                preparedStatement.setLong(1, lowerValue);
+                preparedStatement.setLong(2, shardingSize);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    if (!resultSet.next() || resultSet.getLong(1) <= lowerValue) {
+                        break;
+                    }
+                    lowerValue = resultSet.getLong(1);
+                    result.add(lowerValue);
+                }
+            }
+        } catch (final SQLException ex) {
+            throw new SplitPipelineJobByUniqueKeyException(dumperContext.getActualTableName(), uniqueKey, ex);
+        }
+        return Optional.of(result);
+    }
+    
     private InventoryDumperContext createPrimaryKeySplitDumperContext(final InventoryDumperContext dumperContext, final IngestPosition position,
                                                                       final int shardingItem, final int batchSize, final JobRateLimitAlgorithm rateLimitAlgorithm,
                                                                       final TransmissionJobItemContext jobItemContext) {
@@ -82,6 +82,18 @@ public interface DialectPipelineSQLBuilder extends DatabaseTypedSPI {
         return Optional.empty();
     }
     
+    /**
+     * Build range CRC32 SQL.
+     *
+     * @param qualifiedTableName qualified table name
+     * @param columnName column name
+     * @param uniqueKey unique key
+     * @return built SQL, the parameters are lower and upper value of unique key, both are inclusive
+     */
+    default Optional<String> buildRangeCRC32SQL(final String qualifiedTableName, final String columnName, final String uniqueKey) {
+        return Optional.empty();
+    }
+    
     /**
      * Build create table SQLs.
      *
@@ -109,4 +121,14 @@ public interface DialectPipelineSQLBuilder extends DatabaseTypedSPI {
      * @return wrapped SQL
      */
     String wrapWithPageQuery(String sql);
+    
+    /**
+     * Wrap with single row offset query.
+     *
+     * @param sql SQL
+     * @return wrapped SQL, the last parameter is offset
+     */
+    default Optional<String> wrapWithSingleRowOffsetQuery(final String sql) {
+        return Optional.empty();
+    }
 }
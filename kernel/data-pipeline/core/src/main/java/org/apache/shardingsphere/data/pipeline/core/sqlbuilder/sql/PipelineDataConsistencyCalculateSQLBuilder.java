@@ -128,4 +128,17 @@ public final class PipelineDataConsistencyCalculateSQLBuilder {
         return dialectSQLBuilder.buildCRC32SQL(
                 sqlSegmentBuilder.getQualifiedTableName(qualifiedTable), sqlSegmentBuilder.getEscapedIdentifier(columnName));
     }
+    
+    /**
+     * Build range CRC32 SQL.
+     *
+     * @param qualifiedTable qualified table
+     * @param columnName column name
+     * @param uniqueKey unique key
+     * @return built SQL
+     */
+    public Optional<String> buildRangeCRC32SQL(final QualifiedTable qualifiedTable, final String columnName, final String uniqueKey) {
+        return dialectSQLBuilder.buildRangeCRC32SQL(
+                sqlSegmentBuilder.getQualifiedTableName(qualifiedTable), sqlSegmentBuilder.getEscapedIdentifier(columnName), sqlSegmentBuilder.getEscapedIdentifier(uniqueKey));
+    }
 }
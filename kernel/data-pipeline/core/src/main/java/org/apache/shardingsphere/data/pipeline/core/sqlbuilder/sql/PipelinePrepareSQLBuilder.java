@@ -95,6 +95,20 @@ public final class PipelinePrepareSQLBuilder {
         return String.format("SELECT MIN(%s), MAX(%s) FROM %s", escapedUniqueKey, escapedUniqueKey, sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName));
     }
     
+    /**
+     * Build unique key split boundary SQL.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @return split boundary SQL, which returns the unique key value at the given offset from the given lower unique key value
+     */
+    public Optional<String> buildUniqueKeySplitBoundarySQL(final String schemaName, final String tableName, final String uniqueKey) {
+        String escapedUniqueKey = sqlSegmentBuilder.getEscapedIdentifier(uniqueKey);
+        return dialectSQLBuilder.wrapWithSingleRowOffsetQuery(String.format("SELECT %s FROM %s WHERE %s>=? ORDER BY %s ASC",
+                escapedUniqueKey, sqlSegmentBuilder.getQualifiedTableName(schemaName, tableName), escapedUniqueKey, escapedUniqueKey));
+    }
+    
     /**
      * Build check empty table SQL.
      *
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelCreator;
+import org.apache.shardingsphere.data.pipeline.core.task.InventoryTaskAckCallback;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class BoundedMemoryPipelineChannelCreatorTest {
+    
+    @Test
+    void assertNewInstance() throws ReflectiveOperationException {
+        PipelineChannelCreator creator = TypedSPILoader.getService(PipelineChannelCreator.class, "BOUNDED_MEMORY",
+                PropertiesBuilder.build(new Property("max-bytes", "1024"), new Property("ring-buffer-size", "100")));
+        PipelineChannel channel = creator.newInstance(1000, new InventoryTaskAckCallback(new AtomicReference<>()));
+        assertInstanceOf(BoundedMemoryPipelineChannel.class, channel);
+        assertThat(Plugins.getMemberAccessor().get(BoundedMemoryPipelineChannel.class.getDeclaredField("maxBytes"), channel), is(1024L));
+        assertThat(((AtomicReferenceArray<?>) Plugins.getMemberAccessor().get(BoundedMemoryPipelineChannel.class.getDeclaredField("ring"), channel)).length(), is(128));
+    }
+    
+    @Test
+    void assertNewInstanceWithDefaultProperties() throws ReflectiveOperationException {
+        PipelineChannelCreator creator = TypedSPILoader.getService(PipelineChannelCreator.class, "BOUNDED_MEMORY");
+        PipelineChannel channel = creator.newInstance(1000, new InventoryTaskAckCallback(new AtomicReference<>()));
+        assertThat(Plugins.getMemberAccessor().get(BoundedMemoryPipelineChannel.class.getDeclaredField("maxBytes"), channel), is(64L * 1024L * 1024L));
+        assertThat(((AtomicReferenceArray<?>) Plugins.getMemberAccessor().get(BoundedMemoryPipelineChannel.class.getDeclaredField("ring"), channel)).length(), is(1024));
+    }
+}
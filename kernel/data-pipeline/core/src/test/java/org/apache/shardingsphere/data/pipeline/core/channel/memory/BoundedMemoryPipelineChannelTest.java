@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.memory;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.task.InventoryTaskAckCallback;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class BoundedMemoryPipelineChannelTest {
+    
+    @Test
+    void assertFetchWholeBatchWithoutCopy() {
+        BoundedMemoryPipelineChannel channel = createChannel(16, Long.MAX_VALUE);
+        List<Record> records = Arrays.asList(createPlaceholderRecord(), createPlaceholderRecord());
+        channel.push(records);
+        assertThat(channel.fetch(2, 0L), sameInstance(records));
+        assertTrue(channel.peek().isEmpty());
+        assertThat(channel.getPushedRecordsCount(), is(2L));
+        assertThat(channel.getFetchedRecordsCount(), is(2L));
+    }
+    
+    @Test
+    void assertFetchMergedBatches() {
+        BoundedMemoryPipelineChannel channel = createChannel(16, Long.MAX_VALUE);
+        channel.push(Collections.singletonList(createPlaceholderRecord()));
+        channel.push(Collections.singletonList(createPlaceholderRecord()));
+        channel.push(Collections.singletonList(createPlaceholderRecord()));
+        assertThat(channel.getOccupiedSlots(), is(3));
+        assertThat(channel.fetch(2, 0L).size(), is(2));
+        assertThat(channel.fetch(2, 0L).size(), is(1));
+        assertTrue(channel.peek().isEmpty());
+        assertThat(channel.getOccupiedSlots(), is(0));
+        assertThat(channel.getOccupiedBytes(), is(0L));
+    }
+    
+    @Test
+    void assertFetchWithTimeout() {
+        assertTrue(createChannel(16, Long.MAX_VALUE).fetch(1, 10L).isEmpty());
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Test
+    void assertPushBlockedByBytes() {
+        List<Record> records = Collections.singletonList(createDataRecord());
+        long bytes = RecordsSizeEstimator.estimate(records);
+        BoundedMemoryPipelineChannel channel = createChannel(16, bytes);
+        channel.push(records);
+        CountDownLatch pushed = new CountDownLatch(1);
+        Thread thread = new Thread(() -> {
+            channel.push(records);
+            pushed.countDown();
+        });
+        thread.start();
+        assertFalse(pushed.await(50L, TimeUnit.MILLISECONDS));
+        assertThat(channel.fetch(1, 0L), sameInstance(records));
+        assertTrue(pushed.await(1L, TimeUnit.SECONDS));
+        assertThat(channel.getOccupiedBytes(), is(bytes));
+        assertThat(channel.getPeakOccupiedBytes(), is(bytes));
+        assertThat(channel.fetch(1, 0L), sameInstance(records));
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Test
+    void assertPushBlockedBySlots() {
+        BoundedMemoryPipelineChannel channel = createChannel(2, Long.MAX_VALUE);
+        channel.push(Collections.singletonList(createPlaceholderRecord()));
+        channel.push(Collections.singletonList(createPlaceholderRecord()));
+        CountDownLatch pushed = new CountDownLatch(1);
+        Thread thread = new Thread(() -> {
+            channel.push(Collections.singletonList(createPlaceholderRecord()));
+            pushed.countDown();
+        });
+        thread.start();
+        assertFalse(pushed.await(50L, TimeUnit.MILLISECONDS));
+        assertThat(channel.poll().size(), is(1));
+        assertTrue(pushed.await(1L, TimeUnit.SECONDS));
+        assertThat(channel.getOccupiedSlots(), is(2));
+        assertThat(channel.fetch(2, 0L).size(), is(2));
+        assertTrue(channel.peek().isEmpty());
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Test
+    void assertBlockedPushInterrupted() {
+        BoundedMemoryPipelineChannel channel = createChannel(2, Long.MAX_VALUE);
+        channel.push(Collections.singletonList(createPlaceholderRecord()));
+        channel.push(Collections.singletonList(createPlaceholderRecord()));
+        AtomicReference<Throwable> pushFailure = new AtomicReference<>();
+        Thread thread = new Thread(() -> channel.push(Collections.singletonList(createPlaceholderRecord())));
+        thread.setUncaughtExceptionHandler((t, ex) -> pushFailure.set(ex));
+        thread.start();
+        thread.interrupt();
+        thread.join(1000L);
+        assertFalse(thread.isAlive());
+        assertThat(pushFailure.get(), instanceOf(InterruptedException.class));
+        assertThat(channel.fetch(3, 0L).size(), is(2));
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Test
+    void assertFetchWokenUpByPush() {
+        BoundedMemoryPipelineChannel channel = createChannel(16, Long.MAX_VALUE);
+        List<Record> records = Collections.singletonList(createPlaceholderRecord());
+        Thread thread = new Thread(() -> channel.push(records));
+        thread.start();
+        assertThat(channel.fetch(1, 5000L), sameInstance(records));
+        thread.join();
+    }
+    
+    @Test
+    void assertPeekAndPoll() {
+        BoundedMemoryPipelineChannel channel = createChannel(16, Long.MAX_VALUE);
+        assertTrue(channel.peek().isEmpty());
+        assertTrue(channel.poll().isEmpty());
+        List<Record> records = Collections.singletonList(createPlaceholderRecord());
+        channel.push(records);
+        assertThat(channel.peek(), sameInstance(records));
+        assertThat(channel.poll(), sameInstance(records));
+        assertTrue(channel.peek().isEmpty());
+    }
+    
+    @Test
+    void assertAck() {
+        InventoryTaskAckCallback callback = mock(InventoryTaskAckCallback.class);
+        List<Record> records = Collections.singletonList(createPlaceholderRecord());
+        new BoundedMemoryPipelineChannel(16, Long.MAX_VALUE, callback).ack(records);
+        verify(callback).onAck(records);
+    }
+    
+    private BoundedMemoryPipelineChannel createChannel(final int ringBufferSize, final long maxBytes) {
+        return new BoundedMemoryPipelineChannel(ringBufferSize, maxBytes, new InventoryTaskAckCallback(new AtomicReference<>()));
+    }
+    
+    private PlaceholderRecord createPlaceholderRecord() {
+        return new PlaceholderRecord(new IngestFinishedPosition());
+    }
+    
+    private DataRecord createDataRecord() {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "t_order", new IngestPlaceholderPosition(), 2);
+        result.addColumn(new NormalColumn("id", 1, false, true));
+        result.addColumn(new NormalColumn("name", "foo", false, false));
+        return result;
+    }
+}
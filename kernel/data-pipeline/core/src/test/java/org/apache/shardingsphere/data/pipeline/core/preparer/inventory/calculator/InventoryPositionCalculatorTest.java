@@ -22,6 +22,8 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.position.IngestPositi
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.type.IntegerPrimaryKeyIngestPosition;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -77,4 +79,21 @@ class InventoryPositionCalculatorTest {
         assertPosition(new IntegerPrimaryKeyIngestPosition(minimum, 0L), (IntegerPrimaryKeyIngestPosition) actualPositions.get(0));
         assertPosition(new IntegerPrimaryKeyIngestPosition(1L, maximum), (IntegerPrimaryKeyIngestPosition) actualPositions.get(1));
     }
+    
+    @Test
+    void assertGetPositionByIntegerUniqueKeyBoundaries() {
+        List<IngestPosition> actualPositions = (List<IngestPosition>) InventoryPositionCalculator.getPositionByIntegerUniqueKeyBoundaries(Range.between(1L, 10000L), Arrays.asList(11L, 21L, 5000L));
+        assertThat(actualPositions.size(), is(4));
+        assertPosition(new IntegerPrimaryKeyIngestPosition(1L, 10L), (IntegerPrimaryKeyIngestPosition) actualPositions.get(0));
+        assertPosition(new IntegerPrimaryKeyIngestPosition(11L, 20L), (IntegerPrimaryKeyIngestPosition) actualPositions.get(1));
+        assertPosition(new IntegerPrimaryKeyIngestPosition(21L, 4999L), (IntegerPrimaryKeyIngestPosition) actualPositions.get(2));
+        assertPosition(new IntegerPrimaryKeyIngestPosition(5000L, 10000L), (IntegerPrimaryKeyIngestPosition) actualPositions.get(3));
+    }
+    
+    @Test
+    void assertGetPositionByIntegerUniqueKeyBoundariesWithoutBoundary() {
+        List<IngestPosition> actualPositions = (List<IngestPosition>) InventoryPositionCalculator.getPositionByIntegerUniqueKeyBoundaries(Range.between(1L, 10000L), Collections.emptyList());
+        assertThat(actualPositions.size(), is(1));
+        assertPosition(new IntegerPrimaryKeyIngestPosition(1L, 10000L), (IntegerPrimaryKeyIngestPosition) actualPositions.get(0));
+    }
 }
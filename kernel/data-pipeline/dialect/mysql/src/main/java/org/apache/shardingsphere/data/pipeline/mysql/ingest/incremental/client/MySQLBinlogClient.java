@@ -64,6 +64,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiPredicate;
 
 /**
  * MySQL binlog client.
@@ -76,6 +77,8 @@ public final class MySQLBinlogClient {
     
     private final boolean decodeWithTX;
     
+    private final BiPredicate<String, String> subscribedTableFilter;
+    
     private final ArrayBlockingQueue<List<MySQLBaseBinlogEvent>> blockingEventQueue = new ArrayBlockingQueue<>(2500);
     
     private EventLoopGroup eventLoopGroup;
@@ -88,6 +91,10 @@ public final class MySQLBinlogClient {
     
     private volatile boolean running = true;
     
+    public MySQLBinlogClient(final ConnectInfo connectInfo, final boolean decodeWithTX) {
+        this(connectInfo, decodeWithTX, (databaseName, tableName) -> true);
+    }
+    
     /**
      * Connect to MySQL.
      */
@@ -218,7 +225,7 @@ public final class MySQLBinlogClient {
         channel.pipeline().remove(MySQLCommandPacketDecoder.class);
         channel.pipeline().remove(MySQLCommandResponseHandler.class);
         String tableKey = String.join(":", connectInfo.getHost(), String.valueOf(connectInfo.getPort()));
-        channel.pipeline().addLast(new MySQLBinlogEventPacketDecoder(checksumLength, GlobalTableMapEventMapping.getTableMapEventMap(tableKey), decodeWithTX));
+        channel.pipeline().addLast(new MySQLBinlogEventPacketDecoder(checksumLength, GlobalTableMapEventMapping.getTableMapEventMap(tableKey), decodeWithTX, subscribedTableFilter));
         channel.pipeline().addLast(new MySQLBinlogEventHandler(new PlaceholderBinlogEvent(binlogFileName, binlogPosition, 0L)));
         resetSequenceID();
         channel.writeAndFlush(new MySQLComBinlogDumpCommandPacket((int) binlogPosition, connectInfo.getServerId(), binlogFileName));
@@ -51,6 +51,7 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
@@ -85,8 +86,8 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
         ConnectInfo connectInfo = new ConnectInfo(
                 generateServerId(), connectionProps.getHostname(), connectionProps.getPort(), pipelineDataSourceConfig.getUsername(), pipelineDataSourceConfig.getPassword());
         log.info("incremental dump, jdbcUrl={}, serverId={}, hostname={}, port={}", pipelineDataSourceConfig.getUrl(), connectInfo.getServerId(), connectInfo.getHost(), connectInfo.getPort());
-        client = new MySQLBinlogClient(connectInfo, dumperContext.isDecodeWithTX());
         catalog = connectionProps.getCatalog();
+        client = new MySQLBinlogClient(connectInfo, dumperContext.isDecodeWithTX(), this::isSubscribedTable);
     }
     
     private int generateServerId() {
@@ -118,7 +119,7 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
             return Collections.singletonList(createPlaceholderRecord(event));
         }
         MySQLBaseRowsBinlogEvent rowsEvent = (MySQLBaseRowsBinlogEvent) event;
-        if (!rowsEvent.getDatabaseName().equals(catalog) || !dumperContext.getCommonContext().getTableNameMapper().containsTable(rowsEvent.getTableName())) {
+        if (!isSubscribedTable(rowsEvent.getDatabaseName(), rowsEvent.getTableName())) {
             return Collections.singletonList(createPlaceholderRecord(event));
         }
         PipelineTableMetaData tableMetaData = getPipelineTableMetaData(rowsEvent.getTableName());
@@ -134,6 +135,10 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
         return Collections.emptyList();
     }
     
+    private boolean isSubscribedTable(final String databaseName, final String actualTableName) {
+        return catalog.equals(databaseName) && dumperContext.getCommonContext().getTableNameMapper().containsTable(actualTableName);
+    }
+    
     private PlaceholderRecord createPlaceholderRecord(final MySQLBaseBinlogEvent event) {
         PlaceholderRecord result = new PlaceholderRecord(new MySQLBinlogPosition(event.getFileName(), event.getPosition()));
         result.setCommitTime(event.getTimestamp() * 1000L);
@@ -147,8 +152,10 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
     
     private List<DataRecord> handleWriteRowsEvent(final MySQLWriteRowsBinlogEvent event, final PipelineTableMetaData tableMetaData) {
         List<DataRecord> result = new LinkedList<>();
+        String logicTableName = getLogicTableName(event);
+        IngestPosition position = new MySQLBinlogPosition(event.getFileName(), event.getPosition());
         for (Serializable[] each : event.getAfterRows()) {
-            DataRecord dataRecord = createDataRecord(PipelineSQLOperationType.INSERT, event, each.length);
+            DataRecord dataRecord = createDataRecord(PipelineSQLOperationType.INSERT, event, logicTableName, position, each.length);
             for (int i = 0; i < each.length; i++) {
                 PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i + 1);
                 dataRecord.addColumn(new NormalColumn(columnMetaData.getName(), MySQLBinlogDataHandler.handle(columnMetaData, each[i]), true, columnMetaData.isUniqueKey()));
@@ -160,10 +167,12 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
     
     private List<DataRecord> handleUpdateRowsEvent(final MySQLUpdateRowsBinlogEvent event, final PipelineTableMetaData tableMetaData) {
         List<DataRecord> result = new LinkedList<>();
-        for (int i = 0; i < event.getBeforeRows().size(); i++) {
-            Serializable[] beforeValues = event.getBeforeRows().get(i);
-            Serializable[] afterValues = event.getAfterRows().get(i);
-            DataRecord dataRecord = createDataRecord(PipelineSQLOperationType.UPDATE, event, beforeValues.length);
+        String logicTableName = getLogicTableName(event);
+        IngestPosition position = new MySQLBinlogPosition(event.getFileName(), event.getPosition());
+        Iterator<Serializable[]> afterRows = event.getAfterRows().iterator();
+        for (Serializable[] beforeValues : event.getBeforeRows()) {
+            Serializable[] afterValues = afterRows.next();
+            DataRecord dataRecord = createDataRecord(PipelineSQLOperationType.UPDATE, event, logicTableName, position, beforeValues.length);
             for (int j = 0; j < beforeValues.length; j++) {
                 PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(j + 1);
                 Serializable oldValue = MySQLBinlogDataHandler.handle(columnMetaData, beforeValues[j]);
@@ -178,8 +187,10 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
     
     private List<DataRecord> handleDeleteRowsEvent(final MySQLDeleteRowsBinlogEvent event, final PipelineTableMetaData tableMetaData) {
         List<DataRecord> result = new LinkedList<>();
+        String logicTableName = getLogicTableName(event);
+        IngestPosition position = new MySQLBinlogPosition(event.getFileName(), event.getPosition());
         for (Serializable[] each : event.getBeforeRows()) {
-            DataRecord dataRecord = createDataRecord(PipelineSQLOperationType.DELETE, event, each.length);
+            DataRecord dataRecord = createDataRecord(PipelineSQLOperationType.DELETE, event, logicTableName, position, each.length);
             for (int i = 0, length = each.length; i < length; i++) {
                 PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i + 1);
                 dataRecord.addColumn(new NormalColumn(columnMetaData.getName(), MySQLBinlogDataHandler.handle(columnMetaData, each[i]), null, true, columnMetaData.isUniqueKey()));
@@ -189,10 +200,13 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
         return result;
     }
     
-    private DataRecord createDataRecord(final PipelineSQLOperationType type, final MySQLBaseRowsBinlogEvent rowsEvent, final int columnCount) {
-        String tableName = dumperContext.getCommonContext().getTableNameMapper().getLogicTableName(rowsEvent.getTableName()).toString();
-        IngestPosition binlogPosition = new MySQLBinlogPosition(rowsEvent.getFileName(), rowsEvent.getPosition());
-        DataRecord result = new DataRecord(type, tableName, binlogPosition, columnCount);
+    private String getLogicTableName(final MySQLBaseRowsBinlogEvent rowsEvent) {
+        return dumperContext.getCommonContext().getTableNameMapper().getLogicTableName(rowsEvent.getTableName()).toString();
+    }
+    
+    private DataRecord createDataRecord(final PipelineSQLOperationType type, final MySQLBaseRowsBinlogEvent rowsEvent, final String logicTableName, final IngestPosition position,
+                                        final int columnCount) {
+        DataRecord result = new DataRecord(type, logicTableName, position, columnCount);
         result.setActualTableName(rowsEvent.getTableName());
         result.setCommitTime(rowsEvent.getTimestamp() * 1000L);
         return result;
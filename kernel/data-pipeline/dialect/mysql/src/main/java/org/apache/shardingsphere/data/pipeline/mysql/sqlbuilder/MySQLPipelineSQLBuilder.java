@@ -64,6 +64,12 @@ public final class MySQLPipelineSQLBuilder implements DialectPipelineSQLBuilder
         return Optional.of(String.format("SELECT BIT_XOR(CAST(CRC32(%s) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM %s", columnName, qualifiedTableName));
     }
     
+    @Override
+    public Optional<String> buildRangeCRC32SQL(final String qualifiedTableName, final String columnName, final String uniqueKey) {
+        return Optional
+                .of(String.format("SELECT BIT_XOR(CAST(CRC32(%s) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM %s WHERE %s>=? AND %s<=?", columnName, qualifiedTableName, uniqueKey, uniqueKey));
+    }
+    
     @Override
     public Collection<String> buildCreateTableSQLs(final DataSource dataSource, final String schemaName, final String tableName) throws SQLException {
         try (
@@ -82,6 +88,11 @@ public final class MySQLPipelineSQLBuilder implements DialectPipelineSQLBuilder
         return sql + " LIMIT ?";
     }
     
+    @Override
+    public Optional<String> wrapWithSingleRowOffsetQuery(final String sql) {
+        return Optional.of(sql + " LIMIT 1 OFFSET ?");
+    }
+    
     @Override
     public String getDatabaseType() {
         return "MySQL";
@@ -191,6 +191,28 @@ class MySQLBinlogEventPacketDecoderTest {
         assertThat(actual.getBeforeRows().get(0), is(new Serializable[]{1L, 1, new MySQLBinaryString("SUCCESS".getBytes()), null}));
     }
     
+    @Test
+    void assertDecodeUnsubscribedRowsEvent() throws ReflectiveOperationException {
+        MySQLBinlogEventPacketDecoder decoder = new MySQLBinlogEventPacketDecoder(4, new ConcurrentHashMap<>(), true, (databaseName, tableName) -> !"t_order".equals(tableName));
+        MySQLBinlogContext context = (MySQLBinlogContext) Plugins.getMemberAccessor().get(MySQLBinlogEventPacketDecoder.class.getDeclaredField("binlogContext"), decoder);
+        ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
+        // delete from t_order where order_id = 1;
+        byteBuf.writeBytes(StringUtil.decodeHexDump("002a80a862200100000038000000c569000000007400000000000100020004ff0801000000000000000100000007535543434553531c9580c5"));
+        byteBuf.writeBytes(StringUtil.decodeHexDump("006acb656410010000001f000000fa29000000001643000000000000b13f8340"));
+        context.getTableMap().put(116L, tableMapEventPacket);
+        when(tableMapEventPacket.getSchemaName()).thenReturn("ds_0");
+        when(tableMapEventPacket.getTableName()).thenReturn("t_order");
+        List<Object> decodedEvents = new LinkedList<>();
+        decoder.decode(channelHandlerContext, byteBuf, decodedEvents);
+        assertTrue(decodedEvents.isEmpty());
+        decoder.decode(channelHandlerContext, byteBuf, decodedEvents);
+        assertThat(decodedEvents.size(), is(1));
+        LinkedList<?> actualEventList = (LinkedList<?>) decodedEvents.get(0);
+        assertThat(actualEventList.size(), is(1));
+        assertThat(actualEventList.get(0), instanceOf(MySQLXidBinlogEvent.class));
+        assertFalse(byteBuf.isReadable());
+    }
+    
     @Test
     void assertBinlogEventHeaderIncomplete() {
         ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
@@ -83,6 +83,13 @@ class MySQLPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(id) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM foo_tbl"));
     }
     
+    @Test
+    void assertBuildRangeCRC32SQL() {
+        Optional<String> actual = sqlBuilder.buildRangeCRC32SQL("foo_tbl", "foo_col", "id");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(foo_col) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM foo_tbl WHERE id>=? AND id<=?"));
+    }
+    
     @Test
     void assertBuildCreateTableSQLs() throws SQLException {
         Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
@@ -93,6 +93,11 @@ public final class OpenGaussPipelineSQLBuilder implements DialectPipelineSQLBuil
         return sql + " LIMIT ?";
     }
     
+    @Override
+    public Optional<String> wrapWithSingleRowOffsetQuery(final String sql) {
+        return Optional.of(sql + " LIMIT 1 OFFSET ?");
+    }
+    
     @Override
     public String getDatabaseType() {
         return "openGauss";
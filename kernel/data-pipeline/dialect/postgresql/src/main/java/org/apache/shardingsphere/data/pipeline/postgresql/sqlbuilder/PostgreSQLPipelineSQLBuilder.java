@@ -136,6 +136,11 @@ public final class PostgreSQLPipelineSQLBuilder implements DialectPipelineSQLBui
         return sql + " LIMIT ?";
     }
     
+    @Override
+    public Optional<String> wrapWithSingleRowOffsetQuery(final String sql) {
+        return Optional.of(sql + " LIMIT 1 OFFSET ?");
+    }
+    
     @Override
     public String getDatabaseType() {
         return "PostgreSQL";
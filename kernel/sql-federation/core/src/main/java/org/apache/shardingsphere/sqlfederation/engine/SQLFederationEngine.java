@@ -33,6 +33,7 @@ import org.apache.calcite.sql.validate.SqlValidator;
 import org.apache.calcite.sql2rel.SqlToRelConverter;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.table.NoSuchTableException;
@@ -66,6 +67,8 @@ import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFede
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.cache.ExecutionPlanCacheKey;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.util.SQLFederationPlannerUtils;
 import org.apache.shardingsphere.sqlfederation.optimizer.statement.SQLStatementCompiler;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatistic;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationStatisticsRefresher;
 import org.apache.shardingsphere.sqlfederation.resultset.SQLFederationResultSet;
 import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationDecider;
@@ -270,6 +273,28 @@ public final class SQLFederationEngine implements AutoCloseable {
             Table table = sqlFederationSchema.getTable(each.getName());
             if (table instanceof SQLFederationTable) {
                 ((SQLFederationTable) table).setScanExecutor(scanExecutor);
+                setTableStatistics((SQLFederationTable) table, databaseName, schemaName, each.getName());
+            }
+        }
+        refreshTableStatistics(federationContext, databaseName, schemaName);
+    }
+    
+    private void setTableStatistics(final SQLFederationTable table, final String databaseName, final String schemaName, final String tableName) {
+        if (table.getStatistic() instanceof SQLFederationStatistic) {
+            ((SQLFederationStatistic) table.getStatistic()).setTableStatistics(statistics.findLogicTableStatistics(databaseName, schemaName, tableName).orElse(null));
+        }
+    }
+    
+    private void refreshTableStatistics(final SQLFederationContext federationContext, final String databaseName, final String schemaName) {
+        long refreshIntervalSeconds = metaData.getProps().<Long>getValue(ConfigurationPropertyKey.SQL_FEDERATION_STATISTICS_REFRESH_INTERVAL_SECONDS);
+        if (refreshIntervalSeconds <= 0L) {
+            return;
+        }
+        ShardingSphereDatabase database = metaData.getDatabase(databaseName);
+        for (String each : ((SelectStatementContext) federationContext.getQueryContext().getSqlStatementContext()).getTablesContext().getTableNames()) {
+            ShardingSphereTable table = database.getSchema(schemaName).getTable(each);
+            if (null != table) {
+                SQLFederationStatisticsRefresher.refreshIfExpired(statistics, database, schemaName, table, refreshIntervalSeconds);
             }
         }
     }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.apache.calcite.DataContext;
@@ -64,6 +65,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class SQLFederationTable extends AbstractTable implements ModifiableTable, TranslatableTable {
     
+    @Getter
     private final ShardingSphereTable table;
     
     private final SQLFederationStatistic statistic;
@@ -21,8 +21,10 @@ import lombok.Getter;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.RelWriter;
 import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.logical.LogicalAggregate;
 import org.apache.calcite.rel.logical.LogicalFilter;
 import org.apache.calcite.rel.logical.LogicalProject;
+import org.apache.calcite.rel.logical.LogicalSort;
 import org.apache.calcite.rel.logical.LogicalTableScan;
 import org.apache.shardingsphere.sqlfederation.optimizer.operator.util.LogicalScanPushDownRelBuilder;
 
@@ -71,6 +73,43 @@ public final class LogicalScan extends TableScan {
         resetRowType(logicalProject);
     }
     
+    /**
+     * Push down logical aggregate.
+     *
+     * @param logicalAggregate logical aggregate
+     */
+    public void pushDown(final LogicalAggregate logicalAggregate) {
+        pushDownRelBuilder.push(logicalAggregate.copy(logicalAggregate.getTraitSet(), Collections.singletonList(pushDownRelBuilder.build())));
+        resetRowType(logicalAggregate);
+    }
+    
+    /**
+     * Push down logical sort.
+     *
+     * @param logicalSort logical sort
+     */
+    public void pushDown(final LogicalSort logicalSort) {
+        pushDownRelBuilder.push(logicalSort.copy(logicalSort.getTraitSet(), Collections.singletonList(pushDownRelBuilder.build())));
+        resetRowType(logicalSort);
+    }
+    
+    /**
+     * Judge whether rel node has been pushed down.
+     *
+     * @param relNodeClass rel node class
+     * @return whether rel node has been pushed down or not
+     */
+    public boolean isPushedDown(final Class<? extends RelNode> relNodeClass) {
+        RelNode relNode = pushDownRelBuilder.peek();
+        while (!relNodeClass.isInstance(relNode)) {
+            if (relNode.getInputs().isEmpty()) {
+                return false;
+            }
+            relNode = relNode.getInput(0);
+        }
+        return true;
+    }
+    
     /**
      * Peek rel node.
      *
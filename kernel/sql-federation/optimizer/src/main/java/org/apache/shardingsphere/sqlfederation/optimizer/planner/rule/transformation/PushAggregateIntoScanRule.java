@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation;
+
+import com.cedarsoftware.util.CaseInsensitiveSet;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.Aggregate.Group;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.core.Sort;
+import org.apache.calcite.rel.logical.LogicalAggregate;
+import org.apache.calcite.rel.rules.TransformationRule;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeFamily;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.logical.LogicalScan;
+import org.immutables.value.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Push aggregate into scan rule.
+ *
+ * <p>Partial aggregate is pushed into scan and executed by storage nodes, and the aggregate which combines partial results is kept in federation.
+ * Arguments of {@code MIN} and {@code MAX} must be numeric, datetime or boolean, because storage nodes compare character and binary values with their own collations,
+ * which may differ from the comparison of federation when partial results are combined.</p>
+ */
+@Value.Enclosing
+public final class PushAggregateIntoScanRule extends RelRule<PushAggregateIntoScanRule.Config> implements TransformationRule {
+    
+    private static final Collection<String> SYSTEM_SCHEMAS = new CaseInsensitiveSet<>(Arrays.asList("information_schema", "performance_schema", "mysql", "sys", "shardingsphere", "pg_catalog"));
+    
+    private static final Collection<SqlKind> SUPPORTED_AGGREGATE_KINDS = EnumSet.of(SqlKind.COUNT, SqlKind.SUM, SqlKind.SUM0, SqlKind.MIN, SqlKind.MAX);
+    
+    private static final Collection<SqlKind> COMPARISON_AGGREGATE_KINDS = EnumSet.of(SqlKind.MIN, SqlKind.MAX);
+    
+    private PushAggregateIntoScanRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        LogicalScan logicalScan = call.rel(1);
+        for (String each : logicalScan.getTable().getQualifiedName()) {
+            if (SYSTEM_SCHEMAS.contains(each)) {
+                return false;
+            }
+        }
+        if (logicalScan.isPushedDown(Aggregate.class) || logicalScan.isPushedDown(Sort.class)) {
+            return false;
+        }
+        LogicalAggregate logicalAggregate = call.rel(0);
+        if (Group.SIMPLE != logicalAggregate.getGroupType()) {
+            return false;
+        }
+        for (AggregateCall each : logicalAggregate.getAggCallList()) {
+            if (!isSupportedAggregateCall(each) || !isCollationInsensitive(logicalScan, each)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isSupportedAggregateCall(final AggregateCall aggregateCall) {
+        return SUPPORTED_AGGREGATE_KINDS.contains(aggregateCall.getAggregation().getKind()) && !aggregateCall.isDistinct() && !aggregateCall.isApproximate()
+                && !aggregateCall.hasFilter() && aggregateCall.getCollation().getFieldCollations().isEmpty();
+    }
+    
+    private boolean isCollationInsensitive(final LogicalScan logicalScan, final AggregateCall aggregateCall) {
+        if (!COMPARISON_AGGREGATE_KINDS.contains(aggregateCall.getAggregation().getKind())) {
+            return true;
+        }
+        for (int each : aggregateCall.getArgList()) {
+            RelDataType type = logicalScan.getRowType().getFieldList().get(each).getType();
+            if (!SqlTypeFamily.NUMERIC.contains(type) && !SqlTypeFamily.DATETIME.contains(type) && !SqlTypeFamily.BOOLEAN.contains(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        LogicalAggregate logicalAggregate = call.rel(0);
+        LogicalScan logicalScan = call.rel(1);
+        List<AggregateCall> partialAggregateCalls = new ArrayList<>(logicalAggregate.getAggCallList().size());
+        List<AggregateCall> combineAggregateCalls = new ArrayList<>(logicalAggregate.getAggCallList().size());
+        int fieldIndex = logicalAggregate.getGroupCount();
+        for (AggregateCall each : logicalAggregate.getAggCallList()) {
+            partialAggregateCalls.add(createPartialAggregateCall(logicalAggregate, each));
+            combineAggregateCalls.add(createCombineAggregateCall(each, fieldIndex++));
+        }
+        logicalScan.pushDown(LogicalAggregate.create(logicalScan, logicalAggregate.getHints(), logicalAggregate.getGroupSet(), null, partialAggregateCalls));
+        call.transformTo(LogicalAggregate.create(logicalScan, logicalAggregate.getHints(), ImmutableBitSet.range(logicalAggregate.getGroupCount()), null, combineAggregateCalls));
+    }
+    
+    private AggregateCall createPartialAggregateCall(final LogicalAggregate logicalAggregate, final AggregateCall aggregateCall) {
+        if (SqlKind.SUM0 != aggregateCall.getAggregation().getKind()) {
+            return aggregateCall;
+        }
+        return AggregateCall.create(SqlStdOperatorTable.SUM, false, false, false, Collections.emptyList(), aggregateCall.getArgList(), -1, null, RelCollations.EMPTY,
+                logicalAggregate.getCluster().getTypeFactory().createTypeWithNullability(aggregateCall.getType(), true), aggregateCall.getName());
+    }
+    
+    private AggregateCall createCombineAggregateCall(final AggregateCall aggregateCall, final int fieldIndex) {
+        SqlKind kind = aggregateCall.getAggregation().getKind();
+        return AggregateCall.create(SqlKind.COUNT == kind ? SqlStdOperatorTable.SUM0 : aggregateCall.getAggregation(), false, false, false, Collections.emptyList(),
+                Collections.singletonList(fieldIndex), -1, null, RelCollations.EMPTY, aggregateCall.getType(), aggregateCall.getName());
+    }
+    
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = ImmutablePushAggregateIntoScanRule.Config.builder().description(PushAggregateIntoScanRule.class.getSimpleName())
+                .operandSupplier(b0 -> b0.operand(LogicalAggregate.class).inputs(b1 -> b1.operand(LogicalScan.class).anyInputs())).build();
+        
+        @Override
+        default PushAggregateIntoScanRule toRule() {
+            return new PushAggregateIntoScanRule(this);
+        }
+    }
+}
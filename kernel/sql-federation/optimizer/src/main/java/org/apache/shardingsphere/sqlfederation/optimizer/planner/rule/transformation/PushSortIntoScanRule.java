@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation;
+
+import com.cedarsoftware.util.CaseInsensitiveSet;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelFieldCollation.NullDirection;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.Sort;
+import org.apache.calcite.rel.logical.LogicalSort;
+import org.apache.calcite.rel.metadata.RelColumnOrigin;
+import org.apache.calcite.rel.rules.TransformationRule;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.type.SqlTypeFamily;
+import org.apache.calcite.config.NullCollation;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.sql.SQLDialectFactory;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.logical.LogicalScan;
+import org.immutables.value.Value;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Push sort into scan rule.
+ *
+ * <p>Only top-N sort and limit are pushed into scan, storage nodes return at most offset plus fetch rows and the sort is kept in federation to combine them.
+ * Sort keys whose null direction differs from storage node default are pushed only if they are not nullable.
+ * Sort keys must be numeric, datetime or boolean, because storage nodes compare character and binary values with their own collations,
+ * which may differ from the comparison of federation, and the top-N rows of storage nodes may miss rows of global top-N.</p>
+ */
+@Value.Enclosing
+public final class PushSortIntoScanRule extends RelRule<PushSortIntoScanRule.Config> implements TransformationRule {
+    
+    private static final Collection<String> SYSTEM_SCHEMAS = new CaseInsensitiveSet<>(Arrays.asList("information_schema", "performance_schema", "mysql", "sys", "shardingsphere", "pg_catalog"));
+    
+    private PushSortIntoScanRule(final Config config) {
+        super(config);
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        LogicalScan logicalScan = call.rel(1);
+        for (String each : logicalScan.getTable().getQualifiedName()) {
+            if (SYSTEM_SCHEMAS.contains(each)) {
+                return false;
+            }
+        }
+        if (logicalScan.isPushedDown(Sort.class) || logicalScan.isPushedDown(Aggregate.class)) {
+            return false;
+        }
+        LogicalSort logicalSort = call.rel(0);
+        if (!(logicalSort.fetch instanceof RexLiteral) || null != logicalSort.offset && !(logicalSort.offset instanceof RexLiteral)) {
+            return false;
+        }
+        NullCollation nullCollation = SQLDialectFactory.getSQLDialect(logicalScan.getDatabaseType()).getNullCollation();
+        for (RelFieldCollation each : logicalSort.getCollation().getFieldCollations()) {
+            if (!isCollationInsensitive(logicalScan.getRowType().getFieldList().get(each.getFieldIndex()).getType())) {
+                return false;
+            }
+            if (!isNullDirectionMatched(each, nullCollation) && isNullable(logicalScan, each.getFieldIndex())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isCollationInsensitive(final RelDataType type) {
+        return SqlTypeFamily.NUMERIC.contains(type) || SqlTypeFamily.DATETIME.contains(type) || SqlTypeFamily.BOOLEAN.contains(type);
+    }
+    
+    private boolean isNullDirectionMatched(final RelFieldCollation fieldCollation, final NullCollation nullCollation) {
+        return NullDirection.UNSPECIFIED == fieldCollation.nullDirection || nullCollation.isDefaultOrder(NullDirection.FIRST == fieldCollation.nullDirection, fieldCollation.direction.isDescending());
+    }
+    
+    private boolean isNullable(final LogicalScan logicalScan, final int fieldIndex) {
+        RelColumnOrigin columnOrigin = logicalScan.getCluster().getMetadataQuery().getColumnOrigin(logicalScan.peek(), fieldIndex);
+        if (null == columnOrigin || columnOrigin.isDerived()) {
+            return true;
+        }
+        SQLFederationTable federationTable = columnOrigin.getOriginTable().unwrap(SQLFederationTable.class);
+        if (null == federationTable) {
+            return true;
+        }
+        String columnName = columnOrigin.getOriginTable().getRowType().getFieldNames().get(columnOrigin.getOriginColumnOrdinal());
+        ShardingSphereColumn column = federationTable.getTable().getColumn(columnName);
+        return null == column || column.isNullable();
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        LogicalSort logicalSort = call.rel(0);
+        LogicalScan logicalScan = call.rel(1);
+        logicalScan.pushDown(LogicalSort.create(logicalScan, createPushDownCollation(logicalSort.getCollation()), null, createPushDownFetch(logicalSort)));
+        call.transformTo(logicalSort.copy(logicalSort.getTraitSet(), logicalScan, logicalSort.getCollation(), logicalSort.offset, logicalSort.fetch));
+    }
+    
+    private RelCollation createPushDownCollation(final RelCollation collation) {
+        List<RelFieldCollation> result = new ArrayList<>(collation.getFieldCollations().size());
+        for (RelFieldCollation each : collation.getFieldCollations()) {
+            result.add(each.withNullDirection(NullDirection.UNSPECIFIED));
+        }
+        return RelCollations.of(result);
+    }
+    
+    private RexNode createPushDownFetch(final LogicalSort logicalSort) {
+        if (null == logicalSort.offset) {
+            return logicalSort.fetch;
+        }
+        BigDecimal offset = ((RexLiteral) logicalSort.offset).getValueAs(BigDecimal.class);
+        BigDecimal fetch = ((RexLiteral) logicalSort.fetch).getValueAs(BigDecimal.class);
+        return logicalSort.getCluster().getRexBuilder().makeExactLiteral(null == offset || null == fetch ? fetch : offset.add(fetch), logicalSort.fetch.getType());
+    }
+    
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        
+        Config DEFAULT = ImmutablePushSortIntoScanRule.Config.builder().description(PushSortIntoScanRule.class.getSimpleName())
+                .operandSupplier(b0 -> b0.operand(LogicalSort.class).inputs(b1 -> b1.operand(LogicalScan.class).anyInputs())).build();
+        
+        @Override
+        default PushSortIntoScanRule toRule() {
+            return new PushSortIntoScanRule(this);
+        }
+    }
+}
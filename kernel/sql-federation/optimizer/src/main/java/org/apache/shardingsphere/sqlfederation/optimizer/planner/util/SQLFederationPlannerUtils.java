@@ -33,6 +33,13 @@ import org.apache.calcite.plan.hep.HepProgramBuilder;
 import org.apache.calcite.plan.volcano.VolcanoPlanner;
 import org.apache.calcite.prepare.CalciteCatalogReader;
 import org.apache.calcite.rel.RelCollationTraitDef;
+import org.apache.calcite.rel.metadata.BuiltInMetadata;
+import org.apache.calcite.rel.metadata.ChainedRelMetadataProvider;
+import org.apache.calcite.rel.metadata.DefaultRelMetadataProvider;
+import org.apache.calcite.rel.metadata.JaninoRelMetadataProvider;
+import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rel.rules.AggregateExpandDistinctAggregatesRule;
 import org.apache.calcite.rel.rules.CoreRules;
 import org.apache.calcite.rel.rules.ProjectRemoveRule;
@@ -56,8 +63,12 @@ import org.apache.shardingsphere.sqlfederation.optimizer.function.SQLFederationF
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.view.ShardingSphereViewExpander;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter.EnumerableModifyConverterRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.converter.EnumerableScanConverterRule;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushAggregateIntoScanRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushFilterIntoScanRule;
 import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushProjectIntoScanRule;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation.PushSortIntoScanRule;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationRelMdDistinctRowCount;
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.SQLFederationRelMdSelectivity;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -76,6 +87,11 @@ public final class SQLFederationPlannerUtils {
     
     private static final Map<String, SqlLibrary> DATABASE_TYPE_SQL_LIBRARIES = new HashMap<>();
     
+    private static final RelMetadataProvider METADATA_PROVIDER = ChainedRelMetadataProvider.of(Arrays.asList(
+            ReflectiveRelMetadataProvider.reflectiveSource(new SQLFederationRelMdDistinctRowCount(), BuiltInMetadata.DistinctRowCount.Handler.class),
+            ReflectiveRelMetadataProvider.reflectiveSource(new SQLFederationRelMdSelectivity(), BuiltInMetadata.Selectivity.Handler.class),
+            DefaultRelMetadataProvider.INSTANCE));
+    
     static {
         DATABASE_TYPE_SQL_LIBRARIES.put("MySQL", SqlLibrary.MYSQL);
         DATABASE_TYPE_SQL_LIBRARIES.put("PostgreSQL", SqlLibrary.POSTGRESQL);
@@ -104,6 +120,7 @@ public final class SQLFederationPlannerUtils {
         builder.addGroupBegin().addRuleCollection(getFilterRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getProjectRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getAggregationRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
+        builder.addGroupBegin().addRuleCollection(getSortRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getCalcRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addGroupBegin().addRuleCollection(getSubQueryRules()).addGroupEnd().addMatchOrder(HepMatchOrder.BOTTOM_UP);
         builder.addMatchLimit(DEFAULT_MATCH_LIMIT);
@@ -191,6 +208,13 @@ public final class SQLFederationPlannerUtils {
         Collection<RelOptRule> result = new LinkedList<>();
         result.add(CoreRules.AGGREGATE_MERGE);
         result.add(CoreRules.AGGREGATE_REDUCE_FUNCTIONS);
+        result.add(PushAggregateIntoScanRule.Config.DEFAULT.toRule());
+        return result;
+    }
+    
+    private static Collection<RelOptRule> getSortRules() {
+        Collection<RelOptRule> result = new LinkedList<>();
+        result.add(PushSortIntoScanRule.Config.DEFAULT.toRule());
         return result;
     }
     
@@ -264,6 +288,9 @@ public final class SQLFederationPlannerUtils {
      * @return rel opt cluster
      */
     public static RelOptCluster createRelOptCluster(final RelDataTypeFactory relDataTypeFactory) {
-        return RelOptCluster.create(createVolcanoPlanner(), new RexBuilder(relDataTypeFactory));
+        RelOptCluster result = RelOptCluster.create(createVolcanoPlanner(), new RexBuilder(relDataTypeFactory));
+        result.setMetadataProvider(METADATA_PROVIDER);
+        result.setMetadataQuerySupplier(() -> new RelMetadataQuery(JaninoRelMetadataProvider.of(METADATA_PROVIDER)));
+        return result;
     }
 }
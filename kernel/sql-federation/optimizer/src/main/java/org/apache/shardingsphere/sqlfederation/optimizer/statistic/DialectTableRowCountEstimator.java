@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPI;
+import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Dialect table row count estimator, which reads estimated row count of actual table from database catalog.
+ */
+@SingletonSPI
+public interface DialectTableRowCountEstimator extends DatabaseTypedSPI {
+    
+    /**
+     * Estimate row count.
+     *
+     * @param connection connection of storage unit
+     * @param schemaName schema name of actual table
+     * @param tableName actual table name
+     * @return estimated row count, empty if the catalog has no estimation
+     * @throws SQLException SQL exception
+     */
+    Optional<Long> estimate(Connection connection, String schemaName, String tableName) throws SQLException;
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.RelMdDistinctRowCount;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
+
+import java.util.Optional;
+
+/**
+ * Distinct row count metadata handler for SQL federation, which uses collected column distinct counts of tables.
+ */
+public final class SQLFederationRelMdDistinctRowCount extends RelMdDistinctRowCount {
+    
+    @Override
+    public Double getDistinctRowCount(final TableScan rel, final RelMetadataQuery mq, final ImmutableBitSet groupKey, final RexNode predicate) {
+        Optional<Double> distinctRowCount = 1 == groupKey.cardinality() ? findDistinctRowCount(rel.getTable(), groupKey.nth(0)) : Optional.empty();
+        if (!distinctRowCount.isPresent()) {
+            return super.getDistinctRowCount(rel, mq, groupKey, predicate);
+        }
+        Double rowCount = mq.getRowCount(rel);
+        double result = null == rowCount ? distinctRowCount.get() : Math.min(distinctRowCount.get(), rowCount);
+        return null == predicate ? result : result * mq.getSelectivity(rel, predicate);
+    }
+    
+    /**
+     * Find distinct row count of column from collected statistics.
+     *
+     * @param table table
+     * @param columnIndex column index
+     * @return found distinct row count
+     */
+    public static Optional<Double> findDistinctRowCount(final RelOptTable table, final int columnIndex) {
+        SQLFederationTable federationTable = null == table ? null : table.unwrap(SQLFederationTable.class);
+        if (null == federationTable || !(federationTable.getStatistic() instanceof SQLFederationStatistic)) {
+            return Optional.empty();
+        }
+        return ((SQLFederationStatistic) federationTable.getStatistic()).getDistinctRowCount(columnIndex);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.RelColumnOrigin;
+import org.apache.calcite.rel.metadata.RelMdSelectivity;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationTable;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Selectivity metadata handler for SQL federation.
+ *
+ * <p>
+ * Selectivity of equi join condition is estimated as {@code 1 / max(NDV(left key), NDV(right key))} when distinct counts of both keys are collected,
+ * otherwise the default guess of calcite is used.
+ * Selectivity of {@code IS NULL} and {@code IS NOT NULL} on table scan is estimated with collected null fraction of the column.
+ * </p>
+ */
+public final class SQLFederationRelMdSelectivity extends RelMdSelectivity {
+    
+    @Override
+    public Double getSelectivity(final Join rel, final RelMetadataQuery mq, final RexNode predicate) {
+        if (rel.isSemiJoin() || null == predicate) {
+            return super.getSelectivity(rel, mq, predicate);
+        }
+        JoinInfo joinInfo = JoinInfo.of(rel.getLeft(), rel.getRight(), predicate);
+        if (joinInfo.leftKeys.isEmpty()) {
+            return super.getSelectivity(rel, mq, predicate);
+        }
+        double result = 1D;
+        for (int i = 0; i < joinInfo.leftKeys.size(); i++) {
+            Optional<Double> leftDistinctRowCount = findDistinctRowCount(rel.getLeft(), mq, joinInfo.leftKeys.get(i));
+            Optional<Double> rightDistinctRowCount = findDistinctRowCount(rel.getRight(), mq, joinInfo.rightKeys.get(i));
+            if (!leftDistinctRowCount.isPresent() || !rightDistinctRowCount.isPresent()) {
+                return super.getSelectivity(rel, mq, predicate);
+            }
+            result /= Math.max(1D, Math.max(leftDistinctRowCount.get(), rightDistinctRowCount.get()));
+        }
+        if (!joinInfo.isEqui()) {
+            result *= RelMdUtil.guessSelectivity(RexUtil.composeConjunction(rel.getCluster().getRexBuilder(), joinInfo.nonEquiConditions));
+        }
+        return result;
+    }
+    
+    @Override
+    public Double getSelectivity(final TableScan rel, final RelMetadataQuery mq, final RexNode predicate) {
+        if (null == predicate) {
+            return super.getSelectivity(rel, mq, predicate);
+        }
+        double result = 1D;
+        List<RexNode> unestimatedPredicates = new LinkedList<>();
+        for (RexNode each : RelOptUtil.conjunctions(predicate)) {
+            Optional<Double> nullSelectivity = findNullSelectivity(rel, mq, each);
+            if (nullSelectivity.isPresent()) {
+                result *= nullSelectivity.get();
+            } else {
+                unestimatedPredicates.add(each);
+            }
+        }
+        return unestimatedPredicates.isEmpty() ? result : result * RelMdUtil.guessSelectivity(RexUtil.composeConjunction(rel.getCluster().getRexBuilder(), unestimatedPredicates));
+    }
+    
+    private Optional<Double> findNullSelectivity(final RelNode input, final RelMetadataQuery mq, final RexNode predicate) {
+        if (!predicate.isA(SqlKind.IS_NULL) && !predicate.isA(SqlKind.IS_NOT_NULL)) {
+            return Optional.empty();
+        }
+        RexNode operand = ((RexCall) predicate).getOperands().get(0);
+        if (!(operand instanceof RexInputRef)) {
+            return Optional.empty();
+        }
+        RelColumnOrigin columnOrigin = mq.getColumnOrigin(input, ((RexInputRef) operand).getIndex());
+        if (null == columnOrigin || columnOrigin.isDerived()) {
+            return Optional.empty();
+        }
+        Optional<Double> nullFraction = findNullFraction(columnOrigin.getOriginTable(), columnOrigin.getOriginColumnOrdinal());
+        return predicate.isA(SqlKind.IS_NULL) ? nullFraction : nullFraction.map(optional -> 1D - optional);
+    }
+    
+    private Optional<Double> findNullFraction(final RelOptTable table, final int columnIndex) {
+        SQLFederationTable federationTable = null == table ? null : table.unwrap(SQLFederationTable.class);
+        if (null == federationTable || !(federationTable.getStatistic() instanceof SQLFederationStatistic)) {
+            return Optional.empty();
+        }
+        return ((SQLFederationStatistic) federationTable.getStatistic()).getNullFraction(columnIndex);
+    }
+    
+    private Optional<Double> findDistinctRowCount(final RelNode input, final RelMetadataQuery mq, final int columnIndex) {
+        RelColumnOrigin columnOrigin = mq.getColumnOrigin(input, columnIndex);
+        if (null == columnOrigin || columnOrigin.isDerived()) {
+            return Optional.empty();
+        }
+        Optional<Double> result = SQLFederationRelMdDistinctRowCount.findDistinctRowCount(columnOrigin.getOriginTable(), columnOrigin.getOriginColumnOrdinal());
+        Double rowCount = mq.getRowCount(input);
+        return null == rowCount ? result : result.map(optional -> Math.min(optional, rowCount));
+    }
+}
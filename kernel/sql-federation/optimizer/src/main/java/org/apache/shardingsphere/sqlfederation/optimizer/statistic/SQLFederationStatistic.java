@@ -17,20 +17,72 @@
 
 package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
 
+import lombok.Setter;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelDistributionTraitDef;
 import org.apache.calcite.rel.RelReferentialConstraint;
 import org.apache.calcite.schema.Statistic;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.ColumnStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.LogicTableStatistics;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * SQL federation statistic.
  */
 public final class SQLFederationStatistic implements Statistic {
     
+    private final List<String> columnNames;
+    
+    @Setter
+    private volatile LogicTableStatistics tableStatistics;
+    
+    public SQLFederationStatistic(final ShardingSphereTable table) {
+        columnNames = new ArrayList<>(table.getAllColumns().size());
+        for (ShardingSphereColumn each : table.getAllColumns()) {
+            columnNames.add(each.getName());
+        }
+    }
+    
+    @Override
+    public Double getRowCount() {
+        LogicTableStatistics currentTableStatistics = tableStatistics;
+        return null == currentTableStatistics ? null : (double) currentTableStatistics.getRowCount();
+    }
+    
+    /**
+     * Get distinct row count of column.
+     *
+     * @param columnIndex column index
+     * @return distinct row count, empty if the column has not been collected
+     */
+    public Optional<Double> getDistinctRowCount(final int columnIndex) {
+        LogicTableStatistics currentTableStatistics = tableStatistics;
+        if (null == currentTableStatistics || columnIndex < 0 || columnIndex >= columnNames.size()) {
+            return Optional.empty();
+        }
+        return currentTableStatistics.findColumnStatistics(columnNames.get(columnIndex)).map(ColumnStatistics::getDistinctCount);
+    }
+    
+    /**
+     * Get null fraction of column.
+     *
+     * @param columnIndex column index
+     * @return null fraction, empty if the column has not been collected
+     */
+    public Optional<Double> getNullFraction(final int columnIndex) {
+        LogicTableStatistics currentTableStatistics = tableStatistics;
+        if (null == currentTableStatistics || columnIndex < 0 || columnIndex >= columnNames.size()) {
+            return Optional.empty();
+        }
+        return currentTableStatistics.findColumnStatistics(columnNames.get(columnIndex)).map(ColumnStatistics::getNullFraction);
+    }
+    
     @Override
     public List<RelReferentialConstraint> getReferentialConstraints() {
         return new ArrayList<>();
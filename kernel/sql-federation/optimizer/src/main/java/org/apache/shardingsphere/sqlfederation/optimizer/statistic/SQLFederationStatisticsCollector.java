@@ -0,0 +1,285 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.metadata.database.DialectDatabaseMetaData;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.ColumnStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.LogicTableStatistics;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.datasource.DataSourceMapperRuleAttribute;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * SQL federation statistics collector, which collects row counts and sampled column statistics of actual tables.
+ *
+ * <p>Row counts are read from estimations of database catalog if the storage type supports, otherwise actual tables are counted.</p>
+ *
+ * <p>
+ * Rows are sampled randomly with sample clause of database dialect, and the sampled rows of each actual table are capped by reservoir sampling,
+ * so the samples are not biased to physical order of actual tables.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class SQLFederationStatisticsCollector {
+    
+    private static final int SAMPLE_SIZE = 10000;
+    
+    private static final double ROW_COUNT_CHANGE_RATIO = 0.1D;
+    
+    private final ShardingSphereDatabase database;
+    
+    private final String schemaName;
+    
+    /**
+     * Collect logic table statistics.
+     *
+     * <p>Column statistics are sampled again only when the row count changes obviously, otherwise column statistics of previous statistics are reused.</p>
+     *
+     * @param table table
+     * @param previousStatistics previous statistics, null if the table has not been collected
+     * @return collected logic table statistics
+     * @throws SQLException SQL exception
+     */
+    public LogicTableStatistics collect(final ShardingSphereTable table, final LogicTableStatistics previousStatistics) throws SQLException {
+        Collection<DataNode> dataNodes = getDataNodes(table.getName());
+        Map<String, Long> dataNodeRowCounts = new LinkedHashMap<>(dataNodes.size(), 1F);
+        long rowCount = 0L;
+        for (DataNode each : dataNodes) {
+            long dataNodeRowCount = countRows(each);
+            dataNodeRowCounts.put(each.format(), dataNodeRowCount);
+            rowCount += dataNodeRowCount;
+        }
+        Map<String, ColumnStatistics> columnStatistics = null == previousStatistics || isRowCountChanged(previousStatistics.getRowCount(), rowCount)
+                ? sampleColumns(table, dataNodes, dataNodeRowCounts, rowCount)
+                : previousStatistics.getColumnStatistics();
+        return new LogicTableStatistics(rowCount, columnStatistics, System.currentTimeMillis());
+    }
+    
+    private Collection<DataNode> getDataNodes(final String tableName) {
+        Map<String, StorageUnit> storageUnits = database.getResourceMetaData().getStorageUnits();
+        Collection<DataNode> result = new LinkedList<>();
+        for (DataNode each : getLogicDataNodes(tableName)) {
+            findStorageUnitName(each.getDataSourceName(), storageUnits.keySet()).ifPresent(optional -> result.add(createDataNode(optional, each)));
+        }
+        if (result.isEmpty() && 1 == storageUnits.size()) {
+            result.add(new DataNode(storageUnits.keySet().iterator().next(), tableName));
+        }
+        return result;
+    }
+    
+    private Collection<DataNode> getLogicDataNodes(final String tableName) {
+        for (DataNodeRuleAttribute each : database.getRuleMetaData().getAttributes(DataNodeRuleAttribute.class)) {
+            Collection<DataNode> dataNodes = each.getDataNodesByTableName(tableName);
+            if (!dataNodes.isEmpty()) {
+                return dataNodes;
+            }
+        }
+        return Collections.emptyList();
+    }
+    
+    private Optional<String> findStorageUnitName(final String dataSourceName, final Collection<String> storageUnitNames) {
+        if (storageUnitNames.contains(dataSourceName)) {
+            return Optional.of(dataSourceName);
+        }
+        for (DataSourceMapperRuleAttribute each : database.getRuleMetaData().getAttributes(DataSourceMapperRuleAttribute.class)) {
+            Collection<String> actualDataSourceNames = each.getDataSourceMapper().getOrDefault(dataSourceName, Collections.emptyList());
+            if (!actualDataSourceNames.isEmpty()) {
+                return findStorageUnitName(actualDataSourceNames.iterator().next(), storageUnitNames);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private DataNode createDataNode(final String storageUnitName, final DataNode logicDataNode) {
+        DataNode result = new DataNode(storageUnitName, logicDataNode.getTableName());
+        result.setSchemaName(logicDataNode.getSchemaName());
+        return result;
+    }
+    
+    private boolean isRowCountChanged(final long previousRowCount, final long rowCount) {
+        return Math.abs(rowCount - previousRowCount) > Math.max(previousRowCount, 1L) * ROW_COUNT_CHANGE_RATIO;
+    }
+    
+    private long countRows(final DataNode dataNode) throws SQLException {
+        StorageUnit storageUnit = database.getResourceMetaData().getStorageUnits().get(dataNode.getDataSourceName());
+        try (Connection connection = storageUnit.getDataSource().getConnection()) {
+            Optional<Long> estimatedRowCount = estimateRows(connection, storageUnit, dataNode);
+            return estimatedRowCount.isPresent() ? estimatedRowCount.get() : countActualRows(connection, storageUnit, dataNode);
+        }
+    }
+    
+    private Optional<Long> estimateRows(final Connection connection, final StorageUnit storageUnit, final DataNode dataNode) throws SQLException {
+        Optional<DialectTableRowCountEstimator> estimator = DatabaseTypedSPILoader.findService(DialectTableRowCountEstimator.class, storageUnit.getStorageType());
+        return estimator.isPresent() ? estimator.get().estimate(connection, getActualSchemaName(dataNode), dataNode.getTableName()) : Optional.empty();
+    }
+    
+    private long countActualRows(final Connection connection, final StorageUnit storageUnit, final DataNode dataNode) throws SQLException {
+        String sql = String.format("SELECT COUNT(*) FROM %s", getQualifiedTableName(storageUnit, dataNode));
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(sql)) {
+            return resultSet.next() ? resultSet.getLong(1) : 0L;
+        }
+    }
+    
+    private Map<String, ColumnStatistics> sampleColumns(final ShardingSphereTable table, final Collection<DataNode> dataNodes, final Map<String, Long> dataNodeRowCounts,
+                                                        final long rowCount) throws SQLException {
+        List<String> columnNames = table.getAllColumns().stream().map(ShardingSphereColumn::getName).collect(Collectors.toList());
+        List<ColumnSample> columnSamples = columnNames.stream().map(each -> new ColumnSample()).collect(Collectors.toList());
+        int sampledRowCount = 0;
+        for (DataNode each : dataNodes) {
+            long dataNodeRowCount = dataNodeRowCounts.get(each.format());
+            if (0L != dataNodeRowCount && !columnNames.isEmpty()) {
+                sampledRowCount += sampleRows(each, columnNames, columnSamples, dataNodeRowCount, (int) Math.max(1L, SAMPLE_SIZE * dataNodeRowCount / rowCount));
+            }
+        }
+        Map<String, ColumnStatistics> result = new CaseInsensitiveMap<>(columnNames.size(), 1F);
+        if (0 == sampledRowCount) {
+            return result;
+        }
+        for (int i = 0; i < columnNames.size(); i++) {
+            result.put(columnNames.get(i), columnSamples.get(i).toColumnStatistics(sampledRowCount, rowCount));
+        }
+        return result;
+    }
+    
+    private int sampleRows(final DataNode dataNode, final List<String> columnNames, final List<ColumnSample> columnSamples,
+                           final long dataNodeRowCount, final int maxRows) throws SQLException {
+        StorageUnit storageUnit = database.getResourceMetaData().getStorageUnits().get(dataNode.getDataSourceName());
+        List<Object[]> sampledRows = new ArrayList<>(maxRows);
+        long scannedRowCount = 0L;
+        try (
+                Connection connection = storageUnit.getDataSource().getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(getSampleSQL(storageUnit, dataNode, columnNames, (double) maxRows / dataNodeRowCount))) {
+            while (resultSet.next()) {
+                scannedRowCount++;
+                if (sampledRows.size() < maxRows) {
+                    sampledRows.add(readRow(resultSet, columnNames.size()));
+                    continue;
+                }
+                long replacedIndex = ThreadLocalRandom.current().nextLong(scannedRowCount);
+                if (replacedIndex < maxRows) {
+                    sampledRows.set((int) replacedIndex, readRow(resultSet, columnNames.size()));
+                }
+            }
+        }
+        for (Object[] each : sampledRows) {
+            for (int i = 0; i < columnSamples.size(); i++) {
+                columnSamples.get(i).add(each[i]);
+            }
+        }
+        return sampledRows.size();
+    }
+    
+    private String getSampleSQL(final StorageUnit storageUnit, final DataNode dataNode, final List<String> columnNames, final double sampleRatio) {
+        DialectDatabaseMetaData dialectDatabaseMetaData = new DatabaseTypeRegistry(storageUnit.getStorageType()).getDialectDatabaseMetaData();
+        String columns = columnNames.stream().map(each -> dialectDatabaseMetaData.getQuoteCharacter().wrap(each)).collect(Collectors.joining(", "));
+        String qualifiedTableName = getQualifiedTableName(storageUnit, dataNode);
+        Optional<DialectTableSampleSQLBuilder> sampleSQLBuilder = DatabaseTypedSPILoader.findService(DialectTableSampleSQLBuilder.class, storageUnit.getStorageType());
+        return sampleSQLBuilder.isPresent() && sampleRatio < 1D
+                ? sampleSQLBuilder.get().build(columns, qualifiedTableName, sampleRatio)
+                : String.format("SELECT %s FROM %s", columns, qualifiedTableName);
+    }
+    
+    private Object[] readRow(final ResultSet resultSet, final int columnCount) throws SQLException {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = resultSet.getObject(i + 1);
+        }
+        return result;
+    }
+    
+    private String getQualifiedTableName(final StorageUnit storageUnit, final DataNode dataNode) {
+        DialectDatabaseMetaData dialectDatabaseMetaData = new DatabaseTypeRegistry(storageUnit.getStorageType()).getDialectDatabaseMetaData();
+        String tableName = dialectDatabaseMetaData.getQuoteCharacter().wrap(dataNode.getTableName());
+        if (!dialectDatabaseMetaData.getDefaultSchema().isPresent()) {
+            return tableName;
+        }
+        return dialectDatabaseMetaData.getQuoteCharacter().wrap(getActualSchemaName(dataNode)) + "." + tableName;
+    }
+    
+    private String getActualSchemaName(final DataNode dataNode) {
+        return null == dataNode.getSchemaName() ? schemaName : dataNode.getSchemaName();
+    }
+    
+    /**
+     * Estimate distinct count with Duj1 estimator of Haas and Stokes.
+     *
+     * @param sampledRowCount sampled row count
+     * @param sampledDistinctCount distinct count in samples
+     * @param singletonCount count of values which appear only once in samples
+     * @param rowCount total row count
+     * @return estimated distinct count
+     */
+    static double estimateDistinctCount(final int sampledRowCount, final int sampledDistinctCount, final int singletonCount, final double rowCount) {
+        if (0 == sampledRowCount || sampledRowCount >= rowCount) {
+            return sampledDistinctCount;
+        }
+        double result = (double) sampledRowCount * sampledDistinctCount / (sampledRowCount - singletonCount + (double) singletonCount * sampledRowCount / rowCount);
+        return Math.min(Math.max(result, sampledDistinctCount), rowCount);
+    }
+    
+    private static final class ColumnSample {
+        
+        private final Map<Object, Integer> valueFrequencies = new HashMap<>();
+        
+        private int nullCount;
+        
+        void add(final Object value) {
+            if (null == value) {
+                nullCount++;
+                return;
+            }
+            valueFrequencies.merge(value instanceof byte[] ? ByteBuffer.wrap((byte[]) value) : value, 1, Integer::sum);
+        }
+        
+        ColumnStatistics toColumnStatistics(final int sampledRowCount, final long rowCount) {
+            double nullFraction = (double) nullCount / sampledRowCount;
+            int nonNullSampledRowCount = sampledRowCount - nullCount;
+            double nonNullRowCount = Math.max(rowCount * (1D - nullFraction), nonNullSampledRowCount);
+            int singletonCount = (int) valueFrequencies.values().stream().filter(each -> 1 == each).count();
+            return new ColumnStatistics(estimateDistinctCount(nonNullSampledRowCount, valueFrequencies.size(), singletonCount, nonNullRowCount), nullFraction);
+        }
+    }
+}
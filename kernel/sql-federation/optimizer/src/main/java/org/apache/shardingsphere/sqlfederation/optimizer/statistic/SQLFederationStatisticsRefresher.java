@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.LogicTableStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL federation statistics refresher, which refreshes expired logic table statistics asynchronously.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class SQLFederationStatisticsRefresher {
+    
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("SQL-Federation-Statistics-%d").build());
+    
+    private static final Set<String> REFRESHING_TABLES = ConcurrentHashMap.newKeySet();
+    
+    /**
+     * Refresh logic table statistics asynchronously if they are absent or expired.
+     *
+     * @param statistics ShardingSphere statistics
+     * @param database database
+     * @param schemaName schema name
+     * @param table table
+     * @param refreshIntervalSeconds refresh interval seconds
+     */
+    public static void refreshIfExpired(final ShardingSphereStatistics statistics, final ShardingSphereDatabase database, final String schemaName, final ShardingSphereTable table,
+                                        final long refreshIntervalSeconds) {
+        Optional<LogicTableStatistics> previousStatistics = statistics.findLogicTableStatistics(database.getName(), schemaName, table.getName());
+        if (previousStatistics.isPresent() && System.currentTimeMillis() - previousStatistics.get().getCollectedTimeMillis() < TimeUnit.SECONDS.toMillis(refreshIntervalSeconds)) {
+            return;
+        }
+        String refreshingKey = String.join(".", database.getName(), schemaName, table.getName()).toLowerCase();
+        if (!REFRESHING_TABLES.add(refreshingKey)) {
+            return;
+        }
+        EXECUTOR.execute(() -> {
+            try {
+                LogicTableStatistics collectedStatistics = new SQLFederationStatisticsCollector(database, schemaName).collect(table, previousStatistics.orElse(null));
+                statistics.putLogicTableStatistics(database.getName(), schemaName, table.getName(), collectedStatistics);
+            } catch (final SQLException ex) {
+                log.warn("Collect statistics of table `{}` failed.", table.getName(), ex);
+            } finally {
+                REFRESHING_TABLES.remove(refreshingKey);
+            }
+        });
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic.dialect;
+
+import org.apache.shardingsphere.sqlfederation.optimizer.statistic.DialectTableSampleSQLBuilder;
+
+import java.math.BigDecimal;
+
+/**
+ * Table sample SQL builder for PostgreSQL, which samples rows with row level Bernoulli method to avoid the clustering of block level sampling.
+ */
+public final class PostgreSQLTableSampleSQLBuilder implements DialectTableSampleSQLBuilder {
+    
+    @Override
+    public String build(final String columns, final String qualifiedTableName, final double sampleRatio) {
+        return String.format("SELECT %s FROM %s TABLESAMPLE BERNOULLI (%s)", columns, qualifiedTableName, BigDecimal.valueOf(sampleRatio * 100D).toPlainString());
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.planner.rule.transformation;
+
+import org.apache.calcite.config.CalciteConnectionConfigImpl;
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.prepare.CalciteCatalogReader;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.logical.LogicalAggregate;
+import org.apache.calcite.rel.logical.LogicalTableScan;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.sql.SqlAggFunction;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.schema.SQLFederationSchema;
+import org.apache.shardingsphere.sqlfederation.optimizer.operator.logical.LogicalScan;
+import org.apache.shardingsphere.sqlfederation.optimizer.planner.util.SQLFederationPlannerUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PushAggregateIntoScanRuleTest {
+    
+    private final RelOptRule rule = PushAggregateIntoScanRule.Config.DEFAULT.toRule();
+    
+    private LogicalScan logicalScan;
+    
+    @BeforeEach
+    void setUp() {
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Arrays.asList(
+                new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true, false, false),
+                new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false, false),
+                new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false, false),
+                new ShardingSphereColumn("creation_date", Types.DATE, false, false, false, true, false, false)), Collections.emptyList(), Collections.emptyList());
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+        SQLFederationSchema schema =
+                new SQLFederationSchema("foo_db", new ShardingSphereSchema("foo_db", Collections.singleton(table), Collections.emptyList()), databaseType, new JavaTypeFactoryImpl());
+        RelDataTypeFactory typeFactory = new JavaTypeFactoryImpl();
+        CalciteCatalogReader catalogReader = SQLFederationPlannerUtils.createCatalogReader("foo_db", schema, typeFactory, new CalciteConnectionConfigImpl(new Properties()), databaseType);
+        RelOptCluster cluster = SQLFederationPlannerUtils.createRelOptCluster(typeFactory);
+        logicalScan = new LogicalScan(LogicalTableScan.create(cluster, catalogReader.getTable(Arrays.asList("foo_db", "t_order")), Collections.emptyList()), "MySQL");
+    }
+    
+    @Test
+    void assertMatchesWithNumericMinArgument() {
+        assertTrue(rule.matches(mockRuleCall(createLogicalAggregate(SqlStdOperatorTable.MIN, 0))));
+    }
+    
+    @Test
+    void assertMatchesWithDatetimeMaxArgument() {
+        assertTrue(rule.matches(mockRuleCall(createLogicalAggregate(SqlStdOperatorTable.MAX, 3))));
+    }
+    
+    @Test
+    void assertMatchesWithCharacterCountArgument() {
+        assertTrue(rule.matches(mockRuleCall(createLogicalAggregate(SqlStdOperatorTable.COUNT, 2))));
+    }
+    
+    @Test
+    void assertNotMatchesWithCharacterMinArgument() {
+        assertFalse(rule.matches(mockRuleCall(createLogicalAggregate(SqlStdOperatorTable.MIN, 2))));
+    }
+    
+    @Test
+    void assertNotMatchesWithCharacterMaxArgument() {
+        assertFalse(rule.matches(mockRuleCall(createLogicalAggregate(SqlStdOperatorTable.MAX, 2))));
+    }
+    
+    @Test
+    void assertOnMatch() {
+        RelOptRuleCall call = mockRuleCall(createLogicalAggregate(SqlStdOperatorTable.MAX, 0));
+        rule.onMatch(call);
+        assertTrue(logicalScan.isPushedDown(Aggregate.class));
+        verify(call).transformTo(any());
+    }
+    
+    private LogicalAggregate createLogicalAggregate(final SqlAggFunction aggFunction, final int argIndex) {
+        AggregateCall aggregateCall = AggregateCall.create(aggFunction, false, false, false, Collections.emptyList(), Collections.singletonList(argIndex), -1, null, RelCollations.EMPTY,
+                1, logicalScan, null, "agg_value");
+        return LogicalAggregate.create(logicalScan, Collections.emptyList(), ImmutableBitSet.of(1), null, Collections.singletonList(aggregateCall));
+    }
+    
+    private RelOptRuleCall mockRuleCall(final LogicalAggregate logicalAggregate) {
+        RelOptRuleCall result = mock(RelOptRuleCall.class);
+        when(result.rel(0)).thenReturn(logicalAggregate);
+        when(result.rel(1)).thenReturn(logicalScan);
+        return result;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.statistic;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.ColumnStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.LogicTableStatistics;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SQLFederationStatisticsCollectorTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ShardingSphereDatabase database;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private DataSource dataSource;
+    
+    private Statement statement;
+    
+    private final ShardingSphereTable table = new ShardingSphereTable("foo_tbl", Arrays.asList(
+            new ShardingSphereColumn("id", Types.INTEGER, true, false, false, true, false, false),
+            new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false, true)), Collections.emptyList(), Collections.emptyList());
+    
+    @Test
+    void assertCollect() throws SQLException {
+        mockStorageUnit();
+        mockCount();
+        ResultSet sampleResultSet = mockSampleResultSet();
+        when(statement.executeQuery("SELECT `id`, `status` FROM `foo_tbl`")).thenReturn(sampleResultSet);
+        LogicTableStatistics actual = new SQLFederationStatisticsCollector(database, "foo_db").collect(table, null);
+        assertThat(actual.getRowCount(), is(100L));
+        assertThat(actual.findColumnStatistics("ID").map(ColumnStatistics::getDistinctCount).orElse(0D), closeTo(100D, 0.01D));
+        assertThat(actual.findColumnStatistics("id").map(ColumnStatistics::getNullFraction).orElse(-1D), closeTo(0D, 0.01D));
+        assertThat(actual.findColumnStatistics("status").map(ColumnStatistics::getDistinctCount).orElse(0D), closeTo(2.94D, 0.01D));
+        assertThat(actual.findColumnStatistics("status").map(ColumnStatistics::getNullFraction).orElse(-1D), closeTo(0.25D, 0.01D));
+    }
+    
+    @Test
+    void assertCollectWithSampleSQL() throws SQLException {
+        mockStorageUnit();
+        ResultSet countResultSet = mock(ResultSet.class);
+        when(countResultSet.next()).thenReturn(true);
+        when(countResultSet.getLong(1)).thenReturn(100000L);
+        when(statement.executeQuery("SELECT COUNT(*) FROM `foo_tbl`")).thenReturn(countResultSet);
+        ResultSet sampleResultSet = mockSampleResultSet();
+        when(statement.executeQuery("SELECT `id`, `status` FROM `foo_tbl` WHERE RAND() < 0.1")).thenReturn(sampleResultSet);
+        LogicTableStatistics actual = new SQLFederationStatisticsCollector(database, "foo_db").collect(table, null);
+        assertThat(actual.getRowCount(), is(100000L));
+        assertThat(actual.findColumnStatistics("status").map(ColumnStatistics::getNullFraction).orElse(-1D), closeTo(0.25D, 0.01D));
+    }
+    
+    @Test
+    void assertCollectWithUnchangedRowCount() throws SQLException {
+        mockStorageUnit();
+        mockCount();
+        Map<String, ColumnStatistics> columnStatistics = Collections.singletonMap("id", new ColumnStatistics(95D, 0D));
+        LogicTableStatistics actual = new SQLFederationStatisticsCollector(database, "foo_db").collect(table, new LogicTableStatistics(95L, columnStatistics, 0L));
+        assertThat(actual.getRowCount(), is(100L));
+        assertThat(actual.getColumnStatistics(), sameInstance(columnStatistics));
+        verify(statement, never()).executeQuery("SELECT `id`, `status` FROM `foo_tbl`");
+    }
+    
+    @Test
+    void assertCollectWithEstimatedRowCount() throws SQLException {
+        mockStorageUnit();
+        ResultSet estimateResultSet = mock(ResultSet.class);
+        when(estimateResultSet.next()).thenReturn(true);
+        when(estimateResultSet.getLong(1)).thenReturn(200L);
+        when(dataSource.getConnection().prepareStatement(anyString()).executeQuery()).thenReturn(estimateResultSet);
+        Map<String, ColumnStatistics> columnStatistics = Collections.singletonMap("id", new ColumnStatistics(195D, 0D));
+        LogicTableStatistics actual = new SQLFederationStatisticsCollector(database, "foo_db").collect(table, new LogicTableStatistics(195L, columnStatistics, 0L));
+        assertThat(actual.getRowCount(), is(200L));
+        verify(statement, never()).executeQuery("SELECT COUNT(*) FROM `foo_tbl`");
+    }
+    
+    @Test
+    void assertEstimateDistinctCount() {
+        assertThat(SQLFederationStatisticsCollector.estimateDistinctCount(100, 10, 0, 1000D), closeTo(10D, 0.01D));
+        assertThat(SQLFederationStatisticsCollector.estimateDistinctCount(100, 100, 100, 1000D), closeTo(1000D, 0.01D));
+        assertThat(SQLFederationStatisticsCollector.estimateDistinctCount(100, 60, 20, 100D), closeTo(60D, 0.01D));
+    }
+    
+    private void mockStorageUnit() throws SQLException {
+        StorageUnit storageUnit = mock(StorageUnit.class);
+        when(storageUnit.getStorageType()).thenReturn(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        when(storageUnit.getDataSource()).thenReturn(dataSource);
+        when(database.getResourceMetaData().getStorageUnits()).thenReturn(Collections.singletonMap("foo_ds", storageUnit));
+        when(database.getRuleMetaData()).thenReturn(new RuleMetaData(Collections.emptyList()));
+        statement = dataSource.getConnection().createStatement();
+    }
+    
+    private void mockCount() throws SQLException {
+        ResultSet countResultSet = mockCountResultSet();
+        when(statement.executeQuery("SELECT COUNT(*) FROM `foo_tbl`")).thenReturn(countResultSet);
+    }
+    
+    private ResultSet mockCountResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true);
+        when(result.getLong(1)).thenReturn(100L);
+        return result;
+    }
+    
+    private ResultSet mockSampleResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(true, true, true, true, false);
+        when(result.getObject(1)).thenReturn(1, 2, 3, 4);
+        when(result.getObject(2)).thenReturn("a", "a", null, "b");
+        return result;
+    }
+}
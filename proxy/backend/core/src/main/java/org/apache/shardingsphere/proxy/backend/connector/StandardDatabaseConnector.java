@@ -66,8 +66,10 @@ import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilderEngine;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderCache;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
 import org.apache.shardingsphere.proxy.backend.util.TransactionUtils;
 import org.apache.shardingsphere.sharding.merge.common.IteratorStreamMergedResult;
@@ -115,6 +117,8 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
     
     private final FederationMetaDataRefreshEngine federationMetaDataRefreshEngine;
     
+    private final QueryHeaderCache queryHeaderCache;
+    
     private final Collection<Statement> cachedStatements = Collections.newSetFromMap(new ConcurrentHashMap<>());
     
     private final Collection<ResultSet> cachedResultSets = Collections.newSetFromMap(new ConcurrentHashMap<>());
@@ -139,6 +143,11 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
         pushDownMetaDataRefreshEngine = new PushDownMetaDataRefreshEngine(
                 contextManager.getPersistServiceFacade().getMetaDataManagerPersistService(), database, contextManager.getMetaDataContexts().getMetaData().getProps());
         federationMetaDataRefreshEngine = new FederationMetaDataRefreshEngine(contextManager.getPersistServiceFacade().getMetaDataManagerPersistService(), database);
+        queryHeaderCache = findQueryHeaderCache(databaseConnectionManager.getConnectionSession()).orElse(null);
+    }
+    
+    private Optional<QueryHeaderCache> findQueryHeaderCache(final ConnectionSession connectionSession) {
+        return queryContext == connectionSession.getQueryContext() ? connectionSession.getQueryHeaderCache() : Optional.empty();
     }
     
     private void checkBackendReady(final SQLStatementContext sqlStatementContext) {
@@ -251,7 +260,8 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
         boolean isReturnGeneratedKeys = queryContext.getSqlStatementContext().getSqlStatement() instanceof MySQLInsertStatement;
         DatabaseType protocolType = database.getProtocolType();
         ProxyJDBCExecutorCallback callback = ProxyJDBCExecutorCallbackFactory.newInstance(driverType, protocolType, database.getResourceMetaData(),
-                queryContext.getSqlStatementContext().getSqlStatement(), this, isReturnGeneratedKeys, SQLExecutorExceptionHandler.isExceptionThrown(), true);
+                queryContext.getSqlStatementContext().getSqlStatement(), this, isReturnGeneratedKeys, SQLExecutorExceptionHandler.isExceptionThrown(), true,
+                contextManager.getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.COLUMNAR_MEMORY_QUERY_RESULT_ENABLED));
         DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = createDriverExecutionPrepareEngine(isReturnGeneratedKeys, contextManager.getMetaDataContexts());
         SQLFederationContext context = new SQLFederationContext(
                 false, queryContext, contextManager.getMetaDataContexts().getMetaData(), databaseConnectionManager.getConnectionSession().getProcessId());
@@ -284,6 +294,19 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
     
     private List<QueryHeader> createQueryHeaders(final SQLStatementContext sqlStatementContext, final QueryResult queryResultSample) throws SQLException {
         int columnCount = getColumnCount(sqlStatementContext, queryResultSample);
+        if (null == queryHeaderCache) {
+            return createQueryHeaders(sqlStatementContext, queryResultSample, columnCount);
+        }
+        Optional<List<QueryHeader>> cachedQueryHeaders = queryHeaderCache.find(queryContext.getMetaData(), database, queryResultSample.getMetaData(), columnCount);
+        if (cachedQueryHeaders.isPresent()) {
+            return cachedQueryHeaders.get();
+        }
+        List<QueryHeader> result = createQueryHeaders(sqlStatementContext, queryResultSample, columnCount);
+        queryHeaderCache.put(queryContext.getMetaData(), database, sqlStatementContext, queryResultSample.getMetaData(), result);
+        return result;
+    }
+    
+    private List<QueryHeader> createQueryHeaders(final SQLStatementContext sqlStatementContext, final QueryResult queryResultSample, final int columnCount) throws SQLException {
         List<QueryHeader> result = new ArrayList<>(columnCount);
         QueryHeaderBuilderEngine queryHeaderBuilderEngine = new QueryHeaderBuilderEngine(database.getProtocolType());
         for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
@@ -354,6 +377,7 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
     @Override
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        closeMergedResult().ifPresent(result::add);
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeSQLFederationEngine().ifPresent(result::add);
@@ -365,6 +389,17 @@ public final class StandardDatabaseConnector implements DatabaseConnector {
         throw ex;
     }
     
+    private Optional<SQLException> closeMergedResult() {
+        if (null != mergedResult) {
+            try {
+                mergedResult.close();
+            } catch (final SQLException ex) {
+                return Optional.of(ex);
+            }
+        }
+        return Optional.empty();
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -34,8 +34,8 @@ public final class ProxyStatementExecutorCallback extends ProxyJDBCExecutorCallb
     
     public ProxyStatementExecutorCallback(final DatabaseType protocolType, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement,
                                           final DatabaseConnector databaseConnector, final boolean isReturnGeneratedKeys,
-                                          final boolean isExceptionThrown, final boolean fetchMetaData) {
-        super(protocolType, resourceMetaData, sqlStatement, databaseConnector, isReturnGeneratedKeys, isExceptionThrown, fetchMetaData);
+                                          final boolean isExceptionThrown, final boolean fetchMetaData, final boolean columnarMemoryQueryResultEnabled) {
+        super(protocolType, resourceMetaData, sqlStatement, databaseConnector, isReturnGeneratedKeys, isExceptionThrown, fetchMetaData, columnarMemoryQueryResultEnabled);
     }
     
     @Override
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.response.header.query;
+
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.type.TableAvailable;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.SQLSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.ParameterMarkerSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * Query header cache of server prepared statement.
+ * Query headers are reused between executions while meta data, the tables used by the statement and the columns returned by storage units are unchanged.
+ * Tables are compared by instance, because altering table meta data replaces the table in its schema.
+ * Select statements with parameter markers in projections or derived tables are not cached, because their column types may depend on parameters.
+ */
+public final class QueryHeaderCache {
+    
+    private volatile CachedQueryHeaders cachedQueryHeaders;
+    
+    /**
+     * Find cached query headers.
+     *
+     * @param metaData meta data
+     * @param database database
+     * @param queryResultMetaData query result meta data of current execution
+     * @param columnCount column count
+     * @return cached query headers
+     * @throws SQLException SQL exception
+     */
+    public Optional<List<QueryHeader>> find(final ShardingSphereMetaData metaData, final ShardingSphereDatabase database,
+                                            final QueryResultMetaData queryResultMetaData, final int columnCount) throws SQLException {
+        CachedQueryHeaders cached = cachedQueryHeaders;
+        if (null == cached || cached.metaData != metaData || cached.queryHeaders.size() != columnCount || !isSameTables(cached, database) || !isSameColumns(cached, queryResultMetaData)) {
+            return Optional.empty();
+        }
+        return Optional.of(cached.queryHeaders);
+    }
+    
+    private boolean isSameTables(final CachedQueryHeaders cached, final ShardingSphereDatabase database) {
+        for (Entry<String, ShardingSphereTable> entry : cached.tables.entrySet()) {
+            if (entry.getValue() != findTable(database, cached.schemaName, entry.getKey())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isSameColumns(final CachedQueryHeaders cached, final QueryResultMetaData queryResultMetaData) throws SQLException {
+        if (cached.columns.size() != queryResultMetaData.getColumnCount()) {
+            return false;
+        }
+        for (int columnIndex = 1; columnIndex <= cached.columns.size(); columnIndex++) {
+            if (!cached.columns.get(columnIndex - 1).equals(new CachedColumn(queryResultMetaData, columnIndex))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Put query headers.
+     *
+     * @param metaData meta data
+     * @param database database
+     * @param sqlStatementContext SQL statement context
+     * @param queryResultMetaData query result meta data of current execution
+     * @param queryHeaders query headers
+     * @throws SQLException SQL exception
+     */
+    public void put(final ShardingSphereMetaData metaData, final ShardingSphereDatabase database, final SQLStatementContext sqlStatementContext,
+                    final QueryResultMetaData queryResultMetaData, final List<QueryHeader> queryHeaders) throws SQLException {
+        if (!isCacheable(sqlStatementContext.getSqlStatement())) {
+            return;
+        }
+        String schemaName = getSchemaName(database, sqlStatementContext);
+        Map<String, ShardingSphereTable> tables = new LinkedHashMap<>();
+        if (sqlStatementContext instanceof TableAvailable) {
+            ((TableAvailable) sqlStatementContext).getTablesContext().getTableNames().forEach(each -> tables.put(each, findTable(database, schemaName, each)));
+        }
+        List<CachedColumn> columns = new ArrayList<>(queryResultMetaData.getColumnCount());
+        for (int columnIndex = 1; columnIndex <= queryResultMetaData.getColumnCount(); columnIndex++) {
+            columns.add(new CachedColumn(queryResultMetaData, columnIndex));
+        }
+        cachedQueryHeaders = new CachedQueryHeaders(metaData, schemaName, tables, columns, Collections.unmodifiableList(queryHeaders));
+    }
+    
+    private String getSchemaName(final ShardingSphereDatabase database, final SQLStatementContext sqlStatementContext) {
+        Optional<String> schemaName = sqlStatementContext instanceof TableAvailable ? ((TableAvailable) sqlStatementContext).getTablesContext().getSchemaName() : Optional.empty();
+        return schemaName.orElseGet(() -> new DatabaseTypeRegistry(sqlStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
+    }
+    
+    private ShardingSphereTable findTable(final ShardingSphereDatabase database, final String schemaName, final String tableName) {
+        return database.containsSchema(schemaName) ? database.getSchema(schemaName).getTable(tableName) : null;
+    }
+    
+    private boolean isCacheable(final SQLStatement sqlStatement) {
+        if (!(sqlStatement instanceof SelectStatement)) {
+            return false;
+        }
+        SelectStatement selectStatement = (SelectStatement) sqlStatement;
+        if (null == selectStatement.getProjections() || selectStatement.getCombine().isPresent() || selectStatement.getWithSegment().isPresent()) {
+            return false;
+        }
+        for (ParameterMarkerSegment each : selectStatement.getParameterMarkerSegments()) {
+            if (isInSegment(each, selectStatement.getProjections()) || selectStatement.getFrom().map(optional -> isInSegment(each, optional)).orElse(false)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isInSegment(final ParameterMarkerSegment parameterMarkerSegment, final SQLSegment segment) {
+        return parameterMarkerSegment.getStartIndex() >= segment.getStartIndex() && parameterMarkerSegment.getStopIndex() <= segment.getStopIndex();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CachedQueryHeaders {
+        
+        private final ShardingSphereMetaData metaData;
+        
+        private final String schemaName;
+        
+        private final Map<String, ShardingSphereTable> tables;
+        
+        private final List<CachedColumn> columns;
+        
+        private final List<QueryHeader> queryHeaders;
+    }
+    
+    @EqualsAndHashCode
+    private static final class CachedColumn {
+        
+        private final String columnLabel;
+        
+        private final String columnName;
+        
+        private final String tableName;
+        
+        private final int columnType;
+        
+        private final String columnTypeName;
+        
+        private CachedColumn(final QueryResultMetaData queryResultMetaData, final int columnIndex) throws SQLException {
+            columnLabel = queryResultMetaData.getColumnLabel(columnIndex);
+            columnName = queryResultMetaData.getColumnName(columnIndex);
+            tableName = queryResultMetaData.getTableName(columnIndex);
+            columnType = queryResultMetaData.getColumnType(columnIndex);
+            columnTypeName = queryResultMetaData.getColumnTypeName(columnIndex);
+        }
+    }
+}
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBackendStatement;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderCache;
 import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
 import org.apache.shardingsphere.sql.parser.statement.core.enums.TransactionIsolationLevel;
 
@@ -73,8 +74,13 @@ public final class ConnectionSession {
     
     private volatile String processId;
     
+    @Setter(AccessLevel.NONE)
     private QueryContext queryContext;
     
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private QueryHeaderCache queryHeaderCache;
+    
     public ConnectionSession(final DatabaseType protocolType, final AttributeMap attributeMap) {
         this.protocolType = protocolType;
         transactionStatus = new TransactionStatus();
@@ -113,6 +119,35 @@ public final class ConnectionSession {
         return connectionContext.get();
     }
     
+    /**
+     * Set query context.
+     *
+     * @param queryContext query context
+     */
+    public void setQueryContext(final QueryContext queryContext) {
+        setQueryContext(queryContext, null);
+    }
+    
+    /**
+     * Set query context of server prepared statement.
+     *
+     * @param queryContext query context
+     * @param queryHeaderCache query header cache of server prepared statement
+     */
+    public void setQueryContext(final QueryContext queryContext, final QueryHeaderCache queryHeaderCache) {
+        this.queryContext = queryContext;
+        this.queryHeaderCache = queryHeaderCache;
+    }
+    
+    /**
+     * Get query header cache of current query context.
+     *
+     * @return query header cache
+     */
+    public Optional<QueryHeaderCache> getQueryHeaderCache() {
+        return Optional.ofNullable(queryHeaderCache);
+    }
+    
     /**
      * Get used database name.
      *
@@ -136,5 +171,6 @@ public final class ConnectionSession {
      */
     public void clearQueryContext() {
         queryContext = null;
+        queryHeaderCache = null;
     }
 }
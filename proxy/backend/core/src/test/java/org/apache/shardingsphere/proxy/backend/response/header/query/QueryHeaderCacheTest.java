@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.response.header.query;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class QueryHeaderCacheTest {
+    
+    @Mock
+    private ShardingSphereMetaData metaData;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ShardingSphereDatabase database;
+    
+    @Mock
+    private QueryResultMetaData queryResultMetaData;
+    
+    private final QueryHeaderCache queryHeaderCache = new QueryHeaderCache();
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(database.containsSchema("foo_db")).thenReturn(true);
+        when(database.getSchema("foo_db").getTable("t")).thenReturn(mock(ShardingSphereTable.class));
+        when(queryResultMetaData.getColumnCount()).thenReturn(1);
+        when(queryResultMetaData.getColumnLabel(1)).thenReturn("id");
+        when(queryResultMetaData.getColumnName(1)).thenReturn("id");
+        when(queryResultMetaData.getTableName(1)).thenReturn("t_0");
+        when(queryResultMetaData.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(queryResultMetaData.getColumnTypeName(1)).thenReturn("INT");
+    }
+    
+    @Test
+    void assertFindWithoutCachedQueryHeaders() throws SQLException {
+        assertFalse(queryHeaderCache.find(metaData, database, queryResultMetaData, 1).isPresent());
+    }
+    
+    @Test
+    void assertFindWithCachedQueryHeaders() throws SQLException {
+        List<QueryHeader> queryHeaders = Collections.singletonList(createQueryHeader());
+        queryHeaderCache.put(metaData, database, createSQLStatementContext(createSelectStatement(27)), queryResultMetaData, queryHeaders);
+        assertThat(queryHeaderCache.find(metaData, database, queryResultMetaData, 1), is(Optional.of(queryHeaders)));
+    }
+    
+    @Test
+    void assertFindWithChangedMetaData() throws SQLException {
+        queryHeaderCache.put(metaData, database, createSQLStatementContext(createSelectStatement(27)), queryResultMetaData, Collections.singletonList(createQueryHeader()));
+        assertFalse(queryHeaderCache.find(mock(ShardingSphereMetaData.class), database, queryResultMetaData, 1).isPresent());
+    }
+    
+    @Test
+    void assertFindWithChangedColumnCount() throws SQLException {
+        queryHeaderCache.put(metaData, database, createSQLStatementContext(createSelectStatement(27)), queryResultMetaData, Collections.singletonList(createQueryHeader()));
+        assertFalse(queryHeaderCache.find(metaData, database, queryResultMetaData, 2).isPresent());
+    }
+    
+    @Test
+    void assertFindWithChangedColumnType() throws SQLException {
+        queryHeaderCache.put(metaData, database, createSQLStatementContext(createSelectStatement(27)), queryResultMetaData, Collections.singletonList(createQueryHeader()));
+        when(queryResultMetaData.getColumnType(1)).thenReturn(Types.BIGINT);
+        when(queryResultMetaData.getColumnTypeName(1)).thenReturn("BIGINT");
+        assertFalse(queryHeaderCache.find(metaData, database, queryResultMetaData, 1).isPresent());
+    }
+    
+    @Test
+    void assertFindWithChangedColumnLabel() throws SQLException {
+        queryHeaderCache.put(metaData, database, createSQLStatementContext(createSelectStatement(27)), queryResultMetaData, Collections.singletonList(createQueryHeader()));
+        when(queryResultMetaData.getColumnLabel(1)).thenReturn("user_id");
+        assertFalse(queryHeaderCache.find(metaData, database, queryResultMetaData, 1).isPresent());
+    }
+    
+    @Test
+    void assertFindWithChangedColumnName() throws SQLException {
+        queryHeaderCache.put(metaData, database, createSQLStatementContext(createSelectStatement(27)), queryResultMetaData, Collections.singletonList(createQueryHeader()));
+        when(queryResultMetaData.getColumnName(1)).thenReturn("user_id");
+        assertFalse(queryHeaderCache.find(metaData, database, queryResultMetaData, 1).isPresent());
+    }
+    
+    @Test
+    void assertFindWithAlteredTable() throws SQLException {
+        queryHeaderCache.put(metaData, database, createSQLStatementContext(createSelectStatement(27)), queryResultMetaData, Collections.singletonList(createQueryHeader()));
+        when(database.getSchema("foo_db").getTable("t")).thenReturn(mock(ShardingSphereTable.class));
+        assertFalse(queryHeaderCache.find(metaData, database, queryResultMetaData, 1).isPresent());
+    }
+    
+    @Test
+    void assertPutWithParameterMarkerInProjections() throws SQLException {
+        queryHeaderCache.put(metaData, database, createSQLStatementContext(createSelectStatement(7)), queryResultMetaData, Collections.singletonList(createQueryHeader()));
+        assertFalse(queryHeaderCache.find(metaData, database, queryResultMetaData, 1).isPresent());
+    }
+    
+    @Test
+    void assertPutWithParameterMarkerInFrom() throws SQLException {
+        queryHeaderCache.put(metaData, database, createSQLStatementContext(createSelectStatement(15)), queryResultMetaData, Collections.singletonList(createQueryHeader()));
+        assertFalse(queryHeaderCache.find(metaData, database, queryResultMetaData, 1).isPresent());
+    }
+    
+    @Test
+    void assertPutWithNotSelectStatement() throws SQLException {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(SQLStatement.class));
+        queryHeaderCache.put(metaData, database, sqlStatementContext, queryResultMetaData, Collections.singletonList(createQueryHeader()));
+        assertFalse(queryHeaderCache.find(metaData, database, queryResultMetaData, 1).isPresent());
+    }
+    
+    private MySQLSelectStatement createSelectStatement(final int parameterMarkerIndex) {
+        MySQLSelectStatement result = new MySQLSelectStatement();
+        result.setProjections(new ProjectionsSegment(7, 8));
+        result.setFrom(new SimpleTableSegment(new TableNameSegment(15, 15, new IdentifierValue("t"))));
+        result.addParameterMarkerSegments(Collections.singleton(new ParameterMarkerExpressionSegment(parameterMarkerIndex, parameterMarkerIndex, 0)));
+        return result;
+    }
+    
+    private SelectStatementContext createSQLStatementContext(final SelectStatement selectStatement) {
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getSqlStatement()).thenReturn(selectStatement);
+        when(result.getTablesContext().getSchemaName()).thenReturn(Optional.of("foo_db"));
+        when(result.getTablesContext().getTableNames()).thenReturn(Collections.singleton("t"));
+        return result;
+    }
+    
+    private QueryHeader createQueryHeader() {
+        return new QueryHeader("foo_db", "t", "id", "id", Types.INTEGER, "INT", 11, 0, true, true, true, false);
+    }
+}
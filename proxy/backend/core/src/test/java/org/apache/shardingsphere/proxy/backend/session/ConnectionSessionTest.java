@@ -25,6 +25,7 @@ import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderCache;
 import org.apache.shardingsphere.test.mock.AutoMockExtension;
 import org.apache.shardingsphere.test.mock.StaticMockSettings;
 import org.apache.shardingsphere.transaction.api.TransactionType;
@@ -37,6 +38,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.util.Collections;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -107,4 +109,16 @@ class ConnectionSessionTest {
         connectionSession.clearQueryContext();
         assertNull(connectionSession.getQueryContext());
     }
+    
+    @Test
+    void assertSetQueryContextWithQueryHeaderCache() {
+        QueryHeaderCache queryHeaderCache = new QueryHeaderCache();
+        connectionSession.setQueryContext(mock(QueryContext.class), queryHeaderCache);
+        assertThat(connectionSession.getQueryHeaderCache(), is(Optional.of(queryHeaderCache)));
+        connectionSession.setQueryContext(mock(QueryContext.class));
+        assertFalse(connectionSession.getQueryHeaderCache().isPresent());
+        connectionSession.setQueryContext(mock(QueryContext.class), queryHeaderCache);
+        connectionSession.clearQueryContext();
+        assertFalse(connectionSession.getQueryHeaderCache().isPresent());
+    }
 }
@@ -127,7 +127,7 @@ public final class CommandExecutorTask implements Runnable {
             if (responsePackets.isEmpty()) {
                 return false;
             }
-            responsePackets.forEach(context::write);
+            commandExecuteEngine.writeResponsePackets(context, responsePackets);
             if (commandExecutor instanceof QueryCommandExecutor) {
                 commandExecuteEngine.writeQueryData(context, connectionSession.getDatabaseConnectionManager(), (QueryCommandExecutor) commandExecutor, responsePackets.size());
             }
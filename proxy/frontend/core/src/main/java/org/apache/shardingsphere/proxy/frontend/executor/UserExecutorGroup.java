@@ -35,7 +35,7 @@ public final class UserExecutorGroup {
     private final ExecutorService executorService;
     
     private UserExecutorGroup() {
-        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT);
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT, FrontendVirtualThreadUtils.isVirtualThreadEnabled());
         executorService = executorServiceManager.getExecutorService();
     }
     
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -82,6 +83,16 @@ public interface CommandExecuteEngine {
         return Optional.empty();
     }
     
+    /**
+     * Write response packets.
+     *
+     * @param context channel handler context
+     * @param responsePackets response packets
+     */
+    default void writeResponsePackets(final ChannelHandlerContext context, final Collection<? extends DatabasePacket> responsePackets) {
+        responsePackets.forEach(context::write);
+    }
+    
     /**
      * Write query data.
      *
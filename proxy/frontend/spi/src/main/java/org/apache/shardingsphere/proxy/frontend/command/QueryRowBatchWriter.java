@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+
+/**
+ * Query row batch writer.
+ *
+ * <p>
+ * Query rows are encoded into one pooled buffer, the buffer is written to channel as one message once its size reaches the batch bytes,
+ * instead of going through the channel pipeline row by row.
+ * Packets which can not be encoded in batch are written to channel directly, keeping the order with batched rows.
+ * </p>
+ */
+@RequiredArgsConstructor
+public abstract class QueryRowBatchWriter {
+    
+    @Getter(AccessLevel.PROTECTED)
+    private final ChannelHandlerContext context;
+    
+    private final int batchBytes;
+    
+    private ByteBuf batch;
+    
+    /**
+     * Write packet.
+     *
+     * @param packet packet to be written
+     * @return whether any message has been written to channel
+     */
+    public final boolean write(final DatabasePacket packet) {
+        if (!isBatchable(packet)) {
+            writeBatch();
+            context.write(packet);
+            return true;
+        }
+        if (null == batch) {
+            batch = context.alloc().ioBuffer(batchBytes);
+        }
+        if (!encode(packet, batch)) {
+            writeBatch();
+            context.write(packet);
+            return true;
+        }
+        if (batch.readableBytes() < batchBytes) {
+            return false;
+        }
+        writeBatch();
+        return true;
+    }
+    
+    private boolean encode(final DatabasePacket packet, final ByteBuf out) {
+        int startIndex = out.writerIndex();
+        boolean result = false;
+        try {
+            result = encodeInBatch(packet, out);
+            return result;
+        } finally {
+            if (!result) {
+                out.writerIndex(startIndex);
+            }
+        }
+    }
+    
+    /**
+     * Write encoded batch to channel.
+     */
+    public final void writeBatch() {
+        if (null == batch) {
+            return;
+        }
+        if (batch.isReadable()) {
+            context.write(createBatchMessage(batch));
+        } else {
+            batch.release();
+        }
+        batch = null;
+    }
+    
+    protected abstract boolean isBatchable(DatabasePacket packet);
+    
+    /**
+     * Encode packet with its protocol frame into batch buffer.
+     *
+     * @param packet packet to be encoded
+     * @param out batch buffer
+     * @return encoded or not, packet should be written to channel directly if not encoded
+     */
+    protected abstract boolean encodeInBatch(DatabasePacket packet, ByteBuf out);
+    
+    protected Object createBatchMessage(final ByteBuf batch) {
+        return batch;
+    }
+}
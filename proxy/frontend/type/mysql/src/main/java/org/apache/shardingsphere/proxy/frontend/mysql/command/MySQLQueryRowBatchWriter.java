@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacketBatch;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.proxy.frontend.command.QueryRowBatchWriter;
+
+/**
+ * Query row batch writer for MySQL.
+ */
+public final class MySQLQueryRowBatchWriter extends QueryRowBatchWriter {
+    
+    private static final int MAX_PACKET_LENGTH = 0xFFFFFF;
+    
+    private static final int HEADER_LENGTH = 4;
+    
+    public MySQLQueryRowBatchWriter(final ChannelHandlerContext context, final int batchBytes) {
+        super(context, batchBytes);
+    }
+    
+    @Override
+    protected boolean isBatchable(final DatabasePacket packet) {
+        return packet instanceof MySQLPacket;
+    }
+    
+    @Override
+    protected boolean encodeInBatch(final DatabasePacket packet, final ByteBuf out) {
+        int headerIndex = out.writerIndex();
+        out.writeInt(0);
+        packet.write(new MySQLPacketPayload(out, getContext().channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get()));
+        int payloadLength = out.writerIndex() - headerIndex - HEADER_LENGTH;
+        if (payloadLength >= MAX_PACKET_LENGTH) {
+            return false;
+        }
+        out.setMediumLE(headerIndex, payloadLength);
+        return true;
+    }
+    
+    @Override
+    protected Object createBatchMessage(final ByteBuf batch) {
+        return new MySQLPacketBatch(batch);
+    }
+}
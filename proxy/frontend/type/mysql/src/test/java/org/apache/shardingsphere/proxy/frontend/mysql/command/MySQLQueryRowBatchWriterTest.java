@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacketBatch;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MySQLQueryRowBatchWriterTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ChannelHandlerContext context;
+    
+    @BeforeEach
+    void setUp() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        when(context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get()).thenReturn(StandardCharsets.UTF_8);
+    }
+    
+    @Test
+    void assertWriteWithinBatchBytes() {
+        MySQLQueryRowBatchWriter batchWriter = new MySQLQueryRowBatchWriter(context, 1024);
+        assertFalse(batchWriter.write(new MySQLTextResultSetRowPacket(Collections.singletonList("a"))));
+        assertFalse(batchWriter.write(new MySQLTextResultSetRowPacket(Collections.singletonList("bc"))));
+        verify(context, never()).write(any());
+        batchWriter.writeBatch();
+        ArgumentCaptor<MySQLPacketBatch> captor = ArgumentCaptor.forClass(MySQLPacketBatch.class);
+        verify(context).write(captor.capture());
+        ByteBuf actual = captor.getValue().getByteBuf();
+        assertThat(actual.readableBytes(), is(13));
+        assertThat(actual.getUnsignedMediumLE(0), is(2));
+        assertThat(actual.getByte(5), is((byte) 'a'));
+        assertThat(actual.getUnsignedMediumLE(6), is(3));
+        assertThat(actual.toString(11, 2, StandardCharsets.UTF_8), is("bc"));
+        actual.release();
+    }
+    
+    @Test
+    void assertWriteReachesBatchBytes() {
+        MySQLQueryRowBatchWriter batchWriter = new MySQLQueryRowBatchWriter(context, 6);
+        assertTrue(batchWriter.write(new MySQLTextResultSetRowPacket(Collections.singletonList("a"))));
+        verify(context).write(isA(MySQLPacketBatch.class));
+    }
+    
+    @Test
+    void assertWriteNotBatchablePacket() {
+        MySQLQueryRowBatchWriter batchWriter = new MySQLQueryRowBatchWriter(context, 1024);
+        assertFalse(batchWriter.write(new MySQLTextResultSetRowPacket(Collections.singletonList("a"))));
+        DatabasePacket packet = mock(DatabasePacket.class);
+        assertTrue(batchWriter.write(packet));
+        verify(context).write(isA(MySQLPacketBatch.class));
+        verify(context).write(packet);
+    }
+}
@@ -38,6 +38,7 @@ import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLCom
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLPortalContextRegistry;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -73,6 +74,11 @@ public final class OpenGaussCommandExecuteEngine implements CommandExecuteEngine
         return postgresqlCommandExecuteEngine.getOtherPacket(connectionSession);
     }
     
+    @Override
+    public void writeResponsePackets(final ChannelHandlerContext context, final Collection<? extends DatabasePacket> responsePackets) {
+        postgresqlCommandExecuteEngine.writeResponsePackets(context, responsePackets);
+    }
+    
     @Override
     public void writeQueryData(final ChannelHandlerContext context,
                                final ProxyDatabaseConnectionManager databaseConnectionManager, final QueryCommandExecutor queryCommandExecutor, final int headerPackagesCount) throws SQLException {
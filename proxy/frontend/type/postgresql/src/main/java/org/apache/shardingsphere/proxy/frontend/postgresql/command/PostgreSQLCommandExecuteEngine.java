@@ -42,6 +42,7 @@ import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.Postgre
 import org.apache.shardingsphere.proxy.frontend.postgresql.err.PostgreSQLErrorPacketFactory;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -75,6 +76,20 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
         return Optional.of(connectionSession.getTransactionStatus().isInTransaction() ? PostgreSQLReadyForQueryPacket.TRANSACTION_FAILED : PostgreSQLReadyForQueryPacket.NOT_IN_TRANSACTION);
     }
     
+    @Override
+    public void writeResponsePackets(final ChannelHandlerContext context, final Collection<? extends DatabasePacket> responsePackets) {
+        PostgreSQLQueryRowBatchWriter batchWriter = new PostgreSQLQueryRowBatchWriter(context, getWriteBatchBytes());
+        try {
+            for (DatabasePacket each : responsePackets) {
+                if (batchWriter.write(each)) {
+                    context.flush();
+                }
+            }
+        } finally {
+            batchWriter.writeBatch();
+        }
+    }
+    
     @Override
     public void writeQueryData(final ChannelHandlerContext context,
                                final ProxyDatabaseConnectionManager databaseConnectionManager, final QueryCommandExecutor queryCommandExecutor, final int headerPackagesCount) throws SQLException {
@@ -103,22 +118,25 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
     private long writeDataPackets(final ChannelHandlerContext context, final ProxyDatabaseConnectionManager databaseConnectionManager,
                                   final QueryCommandExecutor queryCommandExecutor) throws SQLException {
         long dataRows = 0L;
-        int flushCount = 0;
-        int proxyFrontendFlushThreshold = ProxyContext.getInstance()
-                .getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
-        while (queryCommandExecutor.next()) {
-            flushCount++;
-            databaseConnectionManager.getConnectionResourceLock().doAwait(context);
-            DatabasePacket resultValue = queryCommandExecutor.getQueryRowPacket();
-            context.write(resultValue);
-            if (proxyFrontendFlushThreshold == flushCount) {
-                context.flush();
-                flushCount = 0;
-            }
-            if (resultValue instanceof PostgreSQLDataRowPacket) {
-                dataRows++;
+        PostgreSQLQueryRowBatchWriter batchWriter = new PostgreSQLQueryRowBatchWriter(context, getWriteBatchBytes());
+        try {
+            while (queryCommandExecutor.next()) {
+                DatabasePacket resultValue = queryCommandExecutor.getQueryRowPacket();
+                if (batchWriter.write(resultValue)) {
+                    context.flush();
+                    databaseConnectionManager.getConnectionResourceLock().doAwait(context);
+                }
+                if (resultValue instanceof PostgreSQLDataRowPacket) {
+                    dataRows++;
+                }
             }
+        } finally {
+            batchWriter.writeBatch();
         }
         return dataRows;
     }
+    
+    private int getWriteBatchBytes() {
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BATCH_BYTES);
+    }
 }
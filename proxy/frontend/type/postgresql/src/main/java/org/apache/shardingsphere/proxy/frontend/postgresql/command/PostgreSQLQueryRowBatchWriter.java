@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.identifier.PostgreSQLIdentifierPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.apache.shardingsphere.proxy.frontend.command.QueryRowBatchWriter;
+
+/**
+ * Query row batch writer for PostgreSQL.
+ */
+public final class PostgreSQLQueryRowBatchWriter extends QueryRowBatchWriter {
+    
+    public PostgreSQLQueryRowBatchWriter(final ChannelHandlerContext context, final int batchBytes) {
+        super(context, batchBytes);
+    }
+    
+    @Override
+    protected boolean isBatchable(final DatabasePacket packet) {
+        return packet instanceof PostgreSQLPacket;
+    }
+    
+    @Override
+    protected boolean encodeInBatch(final DatabasePacket packet, final ByteBuf out) {
+        PostgreSQLPacketPayload payload = new PostgreSQLPacketPayload(out, getContext().channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
+        if (!(packet instanceof PostgreSQLIdentifierPacket)) {
+            packet.write(payload);
+            return true;
+        }
+        int lengthIndex = out.writeByte(((PostgreSQLIdentifierPacket) packet).getIdentifier().getValue()).writerIndex();
+        out.writeInt(0);
+        packet.write(payload);
+        out.setInt(lengthIndex, out.writerIndex() - lengthIndex);
+        return true;
+    }
+}
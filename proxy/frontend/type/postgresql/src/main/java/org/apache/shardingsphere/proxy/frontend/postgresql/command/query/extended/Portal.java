@@ -94,7 +94,7 @@ public final class Portal {
         DatabaseType protocolType = ProxyContext.getInstance().getContextManager().getDatabase(databaseName).getProtocolType();
         QueryContext queryContext = new QueryContext(sqlStatementContext, preparedStatement.getSql(), params, preparedStatement.getHintValueContext(),
                 databaseConnectionManager.getConnectionSession().getConnectionContext(), ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData(), true);
-        databaseConnectionManager.getConnectionSession().setQueryContext(queryContext);
+        databaseConnectionManager.getConnectionSession().setQueryContext(queryContext, preparedStatement.getQueryHeaderCache());
         proxyBackendHandler = ProxyBackendHandlerFactory.newInstance(protocolType, queryContext, databaseConnectionManager.getConnectionSession(), true);
     }
     
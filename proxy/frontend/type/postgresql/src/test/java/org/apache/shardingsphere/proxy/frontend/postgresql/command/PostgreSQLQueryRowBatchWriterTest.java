@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostgreSQLQueryRowBatchWriterTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ChannelHandlerContext context;
+    
+    @BeforeEach
+    void setUp() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        when(context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get()).thenReturn(StandardCharsets.UTF_8);
+    }
+    
+    @Test
+    void assertWriteWithinBatchBytes() {
+        PostgreSQLQueryRowBatchWriter batchWriter = new PostgreSQLQueryRowBatchWriter(context, 1024);
+        assertFalse(batchWriter.write(new PostgreSQLDataRowPacket(Collections.singletonList("a"))));
+        assertFalse(batchWriter.write(new PostgreSQLDataRowPacket(Collections.singletonList("bc"))));
+        verify(context, never()).write(any());
+        batchWriter.writeBatch();
+        ArgumentCaptor<ByteBuf> captor = ArgumentCaptor.forClass(ByteBuf.class);
+        verify(context).write(captor.capture());
+        ByteBuf actual = captor.getValue();
+        assertThat(actual.readableBytes(), is(25));
+        assertThat(actual.getByte(0), is((byte) 'D'));
+        assertThat(actual.getInt(1), is(11));
+        assertThat(actual.getByte(12), is((byte) 'D'));
+        assertThat(actual.getInt(13), is(12));
+        assertThat(actual.toString(23, 2, StandardCharsets.UTF_8), is("bc"));
+        actual.release();
+    }
+    
+    @Test
+    void assertWriteReachesBatchBytes() {
+        PostgreSQLQueryRowBatchWriter batchWriter = new PostgreSQLQueryRowBatchWriter(context, 12);
+        assertTrue(batchWriter.write(new PostgreSQLDataRowPacket(Collections.singletonList("a"))));
+        verify(context).write(isA(ByteBuf.class));
+    }
+    
+    @Test
+    void assertWriteNotBatchablePacket() {
+        PostgreSQLQueryRowBatchWriter batchWriter = new PostgreSQLQueryRowBatchWriter(context, 1024);
+        assertFalse(batchWriter.write(new PostgreSQLDataRowPacket(Collections.singletonList("a"))));
+        DatabasePacket packet = mock(DatabasePacket.class);
+        assertTrue(batchWriter.write(packet));
+        verify(context).write(isA(ByteBuf.class));
+        verify(context).write(packet);
+    }
+}
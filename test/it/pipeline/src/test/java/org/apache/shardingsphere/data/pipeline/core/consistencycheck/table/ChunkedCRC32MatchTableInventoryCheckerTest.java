@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.table;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.ConsistencyCheckJobItemProgressContext;
+import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSource;
+import org.apache.shardingsphere.data.pipeline.core.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedTable;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChunkedCRC32MatchTableInventoryCheckerTest {
+    
+    private PipelineDataSource sourceDataSource;
+    
+    private PipelineDataSource targetDataSource;
+    
+    private ConsistencyCheckJobItemProgressContext progressContext;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        sourceDataSource = createDataSource();
+        targetDataSource = createDataSource();
+        progressContext = new ConsistencyCheckJobItemProgressContext("foo_job", 0, "H2");
+    }
+    
+    private PipelineDataSource createDataSource() throws SQLException {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(String.format("jdbc:h2:mem:crc32_%s;DATABASE_TO_UPPER=false;MODE=MySQL", RandomStringUtils.randomAlphanumeric(9)));
+        dataSource.setUsername("root");
+        dataSource.setPassword("root");
+        dataSource.setMaximumPoolSize(10);
+        PipelineDataSource result = new PipelineDataSource(dataSource, TypedSPILoader.getService(DatabaseType.class, "H2"));
+        try (
+                Connection connection = result.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id INT NOT NULL, status VARCHAR(12))");
+        }
+        try (
+                Connection connection = result.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)")) {
+            for (int each : Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 100)) {
+                preparedStatement.setInt(1, each);
+                preparedStatement.setInt(2, each % 3);
+                preparedStatement.setString(3, "OK");
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        }
+        return result;
+    }
+    
+    @AfterEach
+    void tearDown() throws SQLException {
+        sourceDataSource.close();
+        targetDataSource.close();
+    }
+    
+    @Test
+    void assertCheckMatched() {
+        assertTrue(buildTableInventoryChecker().checkSingleTableInventoryData().isMatched());
+        assertThat(progressContext.getSourceTableCheckPositions().get("t_order"), is(100L));
+        assertThat(progressContext.getTargetTableCheckPositions().get("t_order"), is(100L));
+        assertThat(progressContext.getCheckedRecordsCount().get(), is(11L));
+    }
+    
+    @Test
+    void assertCheckNotMatched() throws SQLException {
+        updateTargetStatus(5);
+        assertFalse(buildTableInventoryChecker().checkSingleTableInventoryData().isMatched());
+        assertThat(progressContext.getSourceTableCheckPositions().get("t_order"), is(3L));
+        assertThat(progressContext.getCheckedRecordsCount().get(), is(3L));
+    }
+    
+    @Test
+    void assertCheckNotMatchedWithMissedTargetRecord() throws SQLException {
+        try (
+                Connection connection = targetDataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM t_order WHERE order_id=100");
+        }
+        assertFalse(buildTableInventoryChecker().checkSingleTableInventoryData().isMatched());
+        assertThat(progressContext.getSourceTableCheckPositions().get("t_order"), is(9L));
+    }
+    
+    @Test
+    void assertCheckFromCheckPosition() throws SQLException {
+        updateTargetStatus(2);
+        progressContext.getSourceTableCheckPositions().put("t_order", 3);
+        assertTrue(buildTableInventoryChecker().checkSingleTableInventoryData().isMatched());
+        assertThat(progressContext.getSourceTableCheckPositions().get("t_order"), is(100L));
+        assertThat(progressContext.getCheckedRecordsCount().get(), is(8L));
+    }
+    
+    @Test
+    void assertCheckWithSparseUniqueKeyValues() throws SQLException {
+        createSparseTable(sourceDataSource);
+        createSparseTable(targetDataSource);
+        QualifiedTable table = new QualifiedTable(null, "t_sparse");
+        PipelineColumnMetaData uniqueKey = new PipelineColumnMetaData(1, "id", Types.BIGINT, "bigint", false, true, true);
+        TableInventoryCheckParameter param = new TableInventoryCheckParameter("foo_job", sourceDataSource, targetDataSource, table, table,
+                Collections.singletonList("id"), Collections.singletonList(uniqueKey), null, progressContext);
+        assertTrue(buildTableInventoryChecker(param).checkSingleTableInventoryData().isMatched());
+        assertThat(progressContext.getSourceTableCheckPositions().get("t_sparse"), is(Long.MAX_VALUE));
+        assertThat(progressContext.getCheckedRecordsCount().get(), is(7L));
+    }
+    
+    private void createSparseTable(final PipelineDataSource dataSource) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE t_sparse (id BIGINT PRIMARY KEY)");
+        }
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO t_sparse (id) VALUES (?)")) {
+            for (long each : Arrays.asList(Long.MIN_VALUE, -1L, 1L, 1L << 40, 1L << 50, Long.MAX_VALUE - 1L, Long.MAX_VALUE)) {
+                preparedStatement.setLong(1, each);
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        }
+    }
+    
+    private void updateTargetStatus(final int orderId) throws SQLException {
+        try (
+                Connection connection = targetDataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement("UPDATE t_order SET status='FAILED' WHERE order_id=?")) {
+            preparedStatement.setInt(1, orderId);
+            preparedStatement.executeUpdate();
+        }
+    }
+    
+    private TableInventoryChecker buildTableInventoryChecker() {
+        QualifiedTable table = new QualifiedTable(null, "t_order");
+        PipelineColumnMetaData uniqueKey = new PipelineColumnMetaData(1, "order_id", Types.INTEGER, "integer", false, true, true);
+        return buildTableInventoryChecker(new TableInventoryCheckParameter("foo_job", sourceDataSource, targetDataSource, table, table,
+                Arrays.asList("order_id", "user_id", "status"), Collections.singletonList(uniqueKey), null, progressContext));
+    }
+    
+    private TableInventoryChecker buildTableInventoryChecker(final TableInventoryCheckParameter param) {
+        CRC32MatchTableDataConsistencyChecker checker = new CRC32MatchTableDataConsistencyChecker();
+        checker.init(PropertiesBuilder.build(new Property("chunk-size", "3"), new Property("max-concurrency", "2")));
+        TableInventoryChecker result = checker.buildTableInventoryChecker(param);
+        assertThat(result, instanceOf(ChunkedCRC32MatchTableInventoryChecker.class));
+        return result;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressListener;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionedChannelConsumerImporterTest {
+    
+    @Mock
+    private PipelineChannel channel;
+    
+    @Mock
+    private PipelineSink sink;
+    
+    @Mock
+    private PipelineJobProgressListener jobProgressListener;
+    
+    @Test
+    void assertRunWithPartitionedRecords() {
+        List<Record> records = new LinkedList<>();
+        for (int i = 0; i < 10; i++) {
+            records.add(createUpdateRecord(i, i, i % 2));
+            records.add(createUpdateRecord(i, i, i % 2 + 1));
+        }
+        records.add(new FinishedRecord(new IngestFinishedPosition()));
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(records);
+        Map<Object, Set<Integer>> writtenPartitionsOfKeys = new ConcurrentHashMap<>();
+        when(sink.write(eq(""), any())).thenAnswer(invocation -> {
+            Collection<Record> partitionRecords = invocation.getArgument(1);
+            for (Record each : partitionRecords) {
+                writtenPartitionsOfKeys.computeIfAbsent(((DataRecord) each).getKey(), key -> ConcurrentHashMap.newKeySet()).add(System.identityHashCode(partitionRecords));
+            }
+            return new PipelineJobUpdateProgress(partitionRecords.size());
+        });
+        new PartitionedChannelConsumerImporter(channel, 100, 1000L, sink, jobProgressListener, 3).run();
+        assertThat(writtenPartitionsOfKeys.size(), is(10));
+        assertThat(writtenPartitionsOfKeys.values().stream().allMatch(each -> 1 == each.size()), is(true));
+        verify(channel).ack(records);
+        ArgumentCaptor<PipelineJobUpdateProgress> updateProgress = ArgumentCaptor.forClass(PipelineJobUpdateProgress.class);
+        verify(jobProgressListener).onProgressUpdated(updateProgress.capture());
+        assertThat(updateProgress.getValue().getProcessedRecordsCount(), is(20));
+    }
+    
+    @Test
+    void assertRunWithBinaryUniqueKeyRecords() {
+        List<Record> records = new LinkedList<>();
+        for (int i = 0; i < 10; i++) {
+            records.add(createBinaryKeyUpdateRecord(new byte[]{(byte) i, 1}, i % 2));
+            records.add(createBinaryKeyUpdateRecord(new byte[]{(byte) i, 1}, i % 2 + 1));
+        }
+        records.add(new FinishedRecord(new IngestFinishedPosition()));
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(records);
+        Map<String, Set<Integer>> writtenPartitionsOfKeys = new ConcurrentHashMap<>();
+        when(sink.write(eq(""), any())).thenAnswer(invocation -> {
+            Collection<Record> partitionRecords = invocation.getArgument(1);
+            for (Record each : partitionRecords) {
+                String key = Arrays.toString((byte[]) ((DataRecord) each).getUniqueKeyValue().iterator().next());
+                writtenPartitionsOfKeys.computeIfAbsent(key, unused -> ConcurrentHashMap.newKeySet()).add(System.identityHashCode(partitionRecords));
+            }
+            return new PipelineJobUpdateProgress(partitionRecords.size());
+        });
+        new PartitionedChannelConsumerImporter(channel, 100, 1000L, sink, jobProgressListener, 3).run();
+        assertThat(writtenPartitionsOfKeys.size(), is(10));
+        assertThat(writtenPartitionsOfKeys.values().stream().allMatch(each -> 1 == each.size()), is(true));
+        verify(channel).ack(records);
+    }
+    
+    @Test
+    void assertRunWithUniqueKeyUpdatedRecord() {
+        List<Record> records = new LinkedList<>();
+        records.add(createUpdateRecord(1, 1, 1));
+        records.add(createUpdateRecord(2, 3, 1));
+        records.add(new FinishedRecord(new IngestFinishedPosition()));
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(records);
+        when(sink.write("", records)).thenReturn(new PipelineJobUpdateProgress(0));
+        new PartitionedChannelConsumerImporter(channel, 100, 1000L, sink, jobProgressListener, 3).run();
+        verify(sink, times(1)).write(eq(""), any());
+        verify(channel).ack(records);
+    }
+    
+    private DataRecord createUpdateRecord(final int oldId, final int id, final int status) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.UPDATE, "t_order", new IngestPlaceholderPosition(), 2);
+        result.addColumn(new NormalColumn("id", oldId, id, oldId != id, true));
+        result.addColumn(new NormalColumn("status", null, status, true, false));
+        return result;
+    }
+    
+    private DataRecord createBinaryKeyUpdateRecord(final byte[] id, final int status) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.UPDATE, "t_order", new IngestPlaceholderPosition(), 2);
+        result.addColumn(new NormalColumn("id", id, id, false, true));
+        result.addColumn(new NormalColumn("status", null, status, true, false));
+        return result;
+    }
+}
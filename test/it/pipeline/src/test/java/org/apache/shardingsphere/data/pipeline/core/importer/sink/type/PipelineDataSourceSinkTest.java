@@ -57,6 +57,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -129,12 +130,14 @@ class PipelineDataSourceSinkTest {
         DataRecord updateRecord = getDataRecord(PipelineSQLOperationType.UPDATE);
         when(connection.prepareStatement(any())).thenReturn(preparedStatement);
         when(channel.fetch(anyInt(), anyLong())).thenReturn(mockRecords(updateRecord));
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1});
         importer.run();
         verify(preparedStatement).setObject(1, 20);
         verify(preparedStatement).setObject(2, PipelineSQLOperationType.UPDATE);
         verify(preparedStatement).setObject(3, 1);
         verify(preparedStatement).setObject(4, 10);
-        verify(preparedStatement).executeUpdate();
+        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeBatch();
     }
     
     @Test
@@ -142,6 +145,7 @@ class PipelineDataSourceSinkTest {
         DataRecord updateRecord = getUpdatePrimaryKeyDataRecord();
         when(connection.prepareStatement(any())).thenReturn(preparedStatement);
         when(channel.fetch(anyInt(), anyLong())).thenReturn(mockRecords(updateRecord));
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1});
         importer.run();
         InOrder inOrder = inOrder(preparedStatement);
         inOrder.verify(preparedStatement).setObject(1, 2);
@@ -149,7 +153,27 @@ class PipelineDataSourceSinkTest {
         inOrder.verify(preparedStatement).setObject(3, PipelineSQLOperationType.UPDATE);
         inOrder.verify(preparedStatement).setObject(4, 1);
         inOrder.verify(preparedStatement).setObject(5, 0);
-        inOrder.verify(preparedStatement).executeUpdate();
+        inOrder.verify(preparedStatement).addBatch();
+        inOrder.verify(preparedStatement).executeBatch();
+    }
+    
+    @Test
+    void assertUpdateSameShapeDataRecordsInBatch() throws SQLException {
+        DataRecord anotherUpdateRecord = new DataRecord(PipelineSQLOperationType.UPDATE, TABLE_NAME, new IngestPlaceholderPosition(), 3);
+        anotherUpdateRecord.addColumn(new NormalColumn("id", 2, 2, false, true));
+        anotherUpdateRecord.addColumn(new NormalColumn("user", 10, 30, true, false));
+        anotherUpdateRecord.addColumn(new NormalColumn("status", null, PipelineSQLOperationType.UPDATE, true, false));
+        List<Record> records = new LinkedList<>();
+        records.add(getDataRecord(PipelineSQLOperationType.UPDATE));
+        records.add(anotherUpdateRecord);
+        records.add(new FinishedRecord(new IngestFinishedPosition()));
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(records);
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1, 1});
+        importer.run();
+        verify(connection).prepareStatement(any());
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement).executeBatch();
     }
     
     private DataRecord getUpdatePrimaryKeyDataRecord() {
@@ -102,6 +102,19 @@ class InventoryTaskSplitterTest {
         assertThat(((IntegerPrimaryKeyIngestPosition) task.getTaskProgress().getPosition()).getEndValue(), is(100L));
     }
     
+    @Test
+    void assertSplitWithSparseIntPrimary() throws SQLException {
+        initSparseIntPrimaryEnvironment(dumperContext.getCommonContext());
+        List<InventoryTask> actual = inventoryTaskSplitter.split(jobItemContext);
+        assertThat(actual.size(), is(10));
+        IntegerPrimaryKeyIngestPosition firstPosition = (IntegerPrimaryKeyIngestPosition) actual.get(0).getTaskProgress().getPosition();
+        assertThat(firstPosition.getBeginValue(), is(1L));
+        assertThat(firstPosition.getEndValue(), is(10L));
+        IntegerPrimaryKeyIngestPosition lastPosition = (IntegerPrimaryKeyIngestPosition) actual.get(9).getTaskProgress().getPosition();
+        assertThat(lastPosition.getBeginValue(), is(10000L));
+        assertThat(lastPosition.getEndValue(), is(100000L));
+    }
+    
     @Test
     void assertSplitWithCharPrimary() throws SQLException {
         initCharPrimaryEnvironment(dumperContext.getCommonContext());
@@ -165,6 +178,22 @@ class InventoryTaskSplitterTest {
         }
     }
     
+    private void initSparseIntPrimaryEnvironment(final DumperCommonContext dumperContext) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperContext.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 1; i <= 90; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'x')", i));
+            }
+            for (int i = 1; i <= 10; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'x')", i * 10000));
+            }
+        }
+    }
+    
     private void initCharPrimaryEnvironment(final DumperCommonContext dumperContext) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperContext.getDataSourceConfig());
         try (
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.test.it.data.pipeline.core.util.PipelineContext
 import javax.sql.DataSource;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
 
 /**
  * Pipeline SQL builder for H2.
@@ -36,6 +37,11 @@ public final class H2PipelineSQLBuilder implements DialectPipelineSQLBuilder {
         return String.format("SELECT * FROM %s LIMIT 1", qualifiedTableName);
     }
     
+    @Override
+    public Optional<String> buildRangeCRC32SQL(final String qualifiedTableName, final String columnName, final String uniqueKey) {
+        return Optional.of(String.format("SELECT BIT_XOR_AGG(ORA_HASH(%s)) AS checksum, COUNT(1) AS cnt FROM %s WHERE %s>=? AND %s<=?", columnName, qualifiedTableName, uniqueKey, uniqueKey));
+    }
+    
     @Override
     public Collection<String> buildCreateTableSQLs(final DataSource dataSource, final String schemaName, final String tableName) {
         ShardingSpherePreconditions.checkState("t_order".equalsIgnoreCase(tableName), () -> new CreateTableSQLGenerateException(tableName));
@@ -47,6 +53,11 @@ public final class H2PipelineSQLBuilder implements DialectPipelineSQLBuilder {
         return sql + " LIMIT ?";
     }
     
+    @Override
+    public Optional<String> wrapWithSingleRowOffsetQuery(final String sql) {
+        return Optional.of(sql + " LIMIT 1 OFFSET ?");
+    }
+    
     @Override
     public String getDatabaseType() {
         return "H2";